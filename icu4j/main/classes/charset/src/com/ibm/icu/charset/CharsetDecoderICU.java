@@ -1,6 +1,6 @@
 /**
 *******************************************************************************
-* Copyright (C) 2006-2014, International Business Machines Corporation and    *
+* Copyright (C) 2006-2015, International Business Machines Corporation and    *
 * others. All Rights Reserved.                                                *
 *******************************************************************************
 *
@@ -393,7 +393,7 @@ public abstract class CharsetDecoderICU extends CharsetDecoder{
         //int t=target.position();
         int s=source.position();
         /* variables for m:n conversion */
-        ByteBuffer replayArray = ByteBuffer.allocate(EXT_MAX_BYTES);
+        ByteBuffer replayArray = null;  /* allocated only for a replay */
         int replayArrayIndex = 0;
             
         ByteBuffer realSource=null;
@@ -418,6 +418,7 @@ public abstract class CharsetDecoderICU extends CharsetDecoder{
             realFlush=flush;
             realSourceIndex=sourceIndex;
             //UConverterUtility.uprv_memcpy(replayArray, replayBegin, preToUArray, preToUBegin, -preToULength);
+            replayArray = ByteBuffer.allocate(EXT_MAX_BYTES);
             replayArray.put(preToUArray,0, -preToULength);
             source=replayArray;
             source.position(0);
@@ -505,6 +506,7 @@ public abstract class CharsetDecoderICU extends CharsetDecoder{
                         realSourceIndex=sourceIndex;
     
                         //UConverterUtility.uprv_memcpy(replayArray, replayBegin, preToUArray, preToUBegin, -preToULength);
+                        replayArray = ByteBuffer.allocate(EXT_MAX_BYTES);
                         replayArray.put(preToUArray,0, -preToULength);
                         // reset position
                         replayArray.position(0);
@@ -1,6 +1,6 @@
 /**
  *******************************************************************************
- * Copyright (C) 2006-2013, International Business Machines Corporation and    *
+ * Copyright (C) 2006-2015, International Business Machines Corporation and    *
  * others. All Rights Reserved.                                                *
  *******************************************************************************
  *
@@ -387,7 +387,7 @@ public abstract class CharsetEncoderICU extends CharsetEncoder {
         boolean converterSawEndOfInput, calledCallback;
 
         /* variables for m:n conversion */
-        CharBuffer replayArray = CharBuffer.allocate(EXT_MAX_UCHARS);
+        CharBuffer replayArray = null;  /* allocated only for a replay */
         int replayArrayIndex = 0;
         CharBuffer realSource;
         boolean realFlush;
@@ -411,6 +411,7 @@ public abstract class CharsetEncoderICU extends CharsetEncoder {
             realFlush = flush;
 
             //UConverterUtility.uprv_memcpy(replayArray, replayArrayIndex, preFromUArray, 0, -preFromULength*UMachine.U_SIZEOF_UCHAR);
+            replayArray = CharBuffer.allocate(EXT_MAX_UCHARS);
             replayArray.put(preFromUArray, 0, -preFromULength);
             source = replayArray;
             source.position(replayArrayIndex);
@@ -491,6 +492,7 @@ public abstract class CharsetEncoderICU extends CharsetEncoder {
                         realFlush = flush;
 
                         //UConverterUtility.uprv_memcpy(replayArray, replayArrayIndex, preFromUArray, 0, -preFromULength*UMachine.U_SIZEOF_UCHAR);
+                        replayArray = CharBuffer.allocate(EXT_MAX_UCHARS);
                         replayArray.put(preFromUArray, 0, -preFromULength);
 
                         source = replayArray;
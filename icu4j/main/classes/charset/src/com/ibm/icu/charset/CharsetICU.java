@@ -9,10 +9,16 @@ package com.ibm.icu.charset;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.IllegalCharsetNameException;
 import java.nio.charset.UnsupportedCharsetException;
 import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 import com.ibm.icu.text.UnicodeSet;
 
@@ -53,6 +59,10 @@ public abstract class CharsetICU extends Charset{
      short unicodeMask;            /* +79: 1  bit 0: has supplementary  bit 1: has single surrogates */
      byte subChar1;               /* +80: 1  single-byte substitution character for IBM MBCS (0 if none) */
      //byte reserved[/*19*/];           /* +81: 19 to round out the structure */
+
+    /* Converters reused by the one-shot conversion methods; null while one is in use. */
+    private final AtomicReference<CharsetDecoderICU> cachedDecoder = new AtomicReference<CharsetDecoderICU>();
+    private final AtomicReference<CharsetEncoderICU> cachedEncoder = new AtomicReference<CharsetEncoderICU>();
      
      
     // typedef enum UConverterUnicodeSet {
@@ -338,6 +348,160 @@ public abstract class CharsetICU extends Charset{
     
     abstract void getUnicodeSetImpl(UnicodeSet setFillIn, int which);
     
+    /**
+     * Decodes all of the bytes in one call and returns the text as a String.
+     * <p>
+     * This is a faster alternative to {@link Charset#decode(ByteBuffer)} and to
+     * a CharsetDecoder for complete in-memory input:
+     * It converts directly between arrays with a reused converter,
+     * skips the CharsetDecoder state checks and the separate flush step,
+     * and sizes the output from the maximum number of chars per byte
+     * so that it normally need not grow it.
+     * It is thread-safe.
+     *
+     * @param src the bytes
+     * @param start the index of the first byte to decode
+     * @param length the number of bytes to decode
+     * @param action what to do with malformed input and unmappable characters:
+     *        {@link CodingErrorAction#REPLACE} substitutes U+FFFD or the converter's
+     *        substitution character, {@link CodingErrorAction#IGNORE} skips them, and
+     *        {@link CodingErrorAction#REPORT} throws a CharacterCodingException
+     * @return the decoded text
+     * @throws CharacterCodingException if action is REPORT and there is an error
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public String decodeToString(byte[] src, int start, int length, CodingErrorAction action)
+            throws CharacterCodingException {
+        CharBuffer target = decodeAll(src, start, length, action);
+        return new String(target.array(), 0, target.position());
+    }
+
+    /**
+     * Decodes all of the bytes in one call and returns the text as a char array
+     * of exactly the decoded length.
+     * @param src the bytes
+     * @param start the index of the first byte to decode
+     * @param length the number of bytes to decode
+     * @param action what to do with malformed input and unmappable characters
+     * @return the decoded text
+     * @throws CharacterCodingException if action is REPORT and there is an error
+     * @see #decodeToString(byte[], int, int, CodingErrorAction)
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public char[] decodeToChars(byte[] src, int start, int length, CodingErrorAction action)
+            throws CharacterCodingException {
+        CharBuffer target = decodeAll(src, start, length, action);
+        char[] chars = target.array();
+        if (target.position() == chars.length) {
+            return chars;
+        }
+        char[] result = new char[target.position()];
+        System.arraycopy(chars, 0, result, 0, result.length);
+        return result;
+    }
+
+    /**
+     * Encodes all of the chars in one call and returns a byte array
+     * of exactly the encoded length.
+     * <p>
+     * This is a faster alternative to {@link Charset#encode(CharBuffer)} and to
+     * a CharsetEncoder for complete in-memory input, in the same way as
+     * {@link #decodeToString(byte[], int, int, CodingErrorAction)}.
+     * The output includes any final bytes that a stateful encoding
+     * needs at the end of the text.
+     * It is thread-safe.
+     *
+     * @param src the text
+     * @param start the index of the first char to encode
+     * @param length the number of chars to encode
+     * @param action what to do with malformed input and unmappable characters:
+     *        {@link CodingErrorAction#REPLACE} substitutes the converter's
+     *        substitution bytes, {@link CodingErrorAction#IGNORE} skips them, and
+     *        {@link CodingErrorAction#REPORT} throws a CharacterCodingException
+     * @return the encoded bytes
+     * @throws CharacterCodingException if action is REPORT and there is an error
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public byte[] encodeToBytes(char[] src, int start, int length, CodingErrorAction action)
+            throws CharacterCodingException {
+        return encodeAll(CharBuffer.wrap(src, start, length), action);
+    }
+
+    /**
+     * Encodes all of the text in one call and returns a byte array
+     * of exactly the encoded length.
+     * @param src the text
+     * @param action what to do with malformed input and unmappable characters
+     * @return the encoded bytes
+     * @throws CharacterCodingException if action is REPORT and there is an error
+     * @see #encodeToBytes(char[], int, int, CodingErrorAction)
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public byte[] encodeToBytes(CharSequence src, CodingErrorAction action)
+            throws CharacterCodingException {
+        // A String is copied once so that the converters work on its array.
+        CharBuffer source = src instanceof String ?
+                CharBuffer.wrap(((String)src).toCharArray()) : CharBuffer.wrap(src);
+        return encodeAll(source, action);
+    }
+
+    private CharBuffer decodeAll(byte[] src, int start, int length, CodingErrorAction action)
+            throws CharacterCodingException {
+        ByteBuffer source = ByteBuffer.wrap(src, start, length);
+        CharsetDecoderICU decoder = cachedDecoder.getAndSet(null);
+        if (decoder == null) {
+            decoder = (CharsetDecoderICU)newDecoder();
+        } else {
+            decoder.implReset();
+        }
+        decoder.onMalformedInput(action).onUnmappableCharacter(action);
+        CharBuffer target = CharBuffer.allocate((int)(length * (double)decoder.maxCharsPerByte()) + 2);
+        CoderResult cr;
+        while ((cr = decoder.decode(source, target, null, true)).isOverflow()) {
+            CharBuffer larger = CharBuffer.allocate(2 * target.capacity());
+            target.flip();
+            target = larger.put(target);
+        }
+        cachedDecoder.set(decoder);
+        if (cr.isError()) {
+            cr.throwException();
+        }
+        return target;
+    }
+
+    private byte[] encodeAll(CharBuffer source, CodingErrorAction action) throws CharacterCodingException {
+        CharsetEncoderICU encoder = cachedEncoder.getAndSet(null);
+        if (encoder == null) {
+            encoder = (CharsetEncoderICU)newEncoder();
+        } else {
+            encoder.implReset();
+        }
+        encoder.onMalformedInput(action).onUnmappableCharacter(action);
+        ByteBuffer target = ByteBuffer.allocate(
+                (int)(source.remaining() * (double)encoder.maxBytesPerChar()) + 8);
+        CoderResult cr;
+        while ((cr = encoder.encode(source, target, null, true)).isOverflow()) {
+            ByteBuffer larger = ByteBuffer.allocate(2 * target.capacity());
+            target.flip();
+            target = larger.put(target);
+        }
+        cachedEncoder.set(encoder);
+        if (cr.isError()) {
+            cr.throwException();
+        }
+        byte[] bytes = target.array();
+        if (target.position() == bytes.length) {
+            return bytes;
+        }
+        byte[] result = new byte[target.position()];
+        System.arraycopy(bytes, 0, result, 0, result.length);
+        return result;
+    }
+
     /**
     * <p>Returns the set of Unicode code points that can be converted by an ICU Converter. 
     * <p>
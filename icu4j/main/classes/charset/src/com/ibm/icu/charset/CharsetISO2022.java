@@ -1,6 +1,6 @@
 /*
  *******************************************************************************
- * Copyright (C) 2008-2014, International Business Machines Corporation and
+ * Copyright (C) 2008-2015, International Business Machines Corporation and
  * others. All Rights Reserved.
  *******************************************************************************
  */
@@ -113,6 +113,25 @@ class CharsetISO2022 extends CharsetICU {
         myConverterData.currentDecoder = (CharsetDecoderMBCS)myConverterData.currentConverter.newDecoder();
     }
     
+    /**
+     * Returns a copy of the named converter's shared data.
+     * This converter modifies values like the outputType,
+     * while the original shared data is also used by other converters.
+     */
+    private static UConverterSharedData getSharedDataCopy(String name) {
+        return new UConverterSharedData(((CharsetMBCS)CharsetICU.forNameICU(name)).sharedData);
+    }
+
+    /**
+     * Returns a new instance of the named converter with a copy of its shared data.
+     * @see #getSharedDataCopy(String)
+     */
+    private static CharsetMBCS getConverterCopy(String name) {
+        CharsetMBCS cs = (CharsetMBCS)CharsetICU.forNameICU(name);
+        cs.sharedData = new UConverterSharedData(cs.sharedData);
+        return cs;
+    }
+
     private void ISO2022InitJP(int version) {
         variant = ISO_2022_JP;
         
@@ -121,22 +140,22 @@ class CharsetISO2022 extends CharsetICU {
         maxCharsPerByte = 1;
         // open the required converters and cache them 
         if((jpCharsetMasks[version]&CSM(ISO8859_7)) != 0) {
-            myConverterData.myConverterArray[ISO8859_7] = ((CharsetMBCS)CharsetICU.forNameICU("ISO8859_7")).sharedData;
+            myConverterData.myConverterArray[ISO8859_7] = getSharedDataCopy("ISO8859_7");
         }
-        // myConverterData.myConverterArray[JISX201] = ((CharsetMBCS)CharsetICU.forNameICU("jisx-201")).sharedData;
-        myConverterData.myConverterArray[JISX208] = ((CharsetMBCS)CharsetICU.forNameICU("Shift-JIS")).sharedData;
+        // myConverterData.myConverterArray[JISX201] = getSharedDataCopy("jisx-201");
+        myConverterData.myConverterArray[JISX208] = getSharedDataCopy("Shift-JIS");
         if ((jpCharsetMasks[version]&CSM(JISX212)) != 0) {
-            myConverterData.myConverterArray[JISX212] = ((CharsetMBCS)CharsetICU.forNameICU("jisx-212")).sharedData;
+            myConverterData.myConverterArray[JISX212] = getSharedDataCopy("jisx-212");
         }
         if ((jpCharsetMasks[version]&CSM(GB2312)) != 0) {
-            myConverterData.myConverterArray[GB2312] = ((CharsetMBCS)CharsetICU.forNameICU("ibm-5478")).sharedData;
+            myConverterData.myConverterArray[GB2312] = getSharedDataCopy("ibm-5478");
         }
         if ((jpCharsetMasks[version]&CSM(KSC5601)) != 0) {
-            myConverterData.myConverterArray[KSC5601] = ((CharsetMBCS)CharsetICU.forNameICU("ksc_5601")).sharedData;
+            myConverterData.myConverterArray[KSC5601] = getSharedDataCopy("ksc_5601");
         }
         
         // create a generic CharsetMBCS object
-        myConverterData.currentConverter = (CharsetMBCS)CharsetICU.forNameICU("icu-internal-25546");
+        myConverterData.currentConverter = getConverterCopy("icu-internal-25546");
     }
     
     private void ISO2022InitCN(int version) {
@@ -146,14 +165,14 @@ class CharsetISO2022 extends CharsetICU {
         minBytesPerChar = 1;
         maxCharsPerByte = 1;
         // open the required coverters and cache them.
-        myConverterData.myConverterArray[GB2312_1] = ((CharsetMBCS)CharsetICU.forNameICU("ibm-5478")).sharedData;
+        myConverterData.myConverterArray[GB2312_1] = getSharedDataCopy("ibm-5478");
         if (version == 1) {
-            myConverterData.myConverterArray[ISO_IR_165] = ((CharsetMBCS)CharsetICU.forNameICU("iso-ir-165")).sharedData;
+            myConverterData.myConverterArray[ISO_IR_165] = getSharedDataCopy("iso-ir-165");
         } 
-        myConverterData.myConverterArray[CNS_11643] = ((CharsetMBCS)CharsetICU.forNameICU("cns-11643-1992")).sharedData;
+        myConverterData.myConverterArray[CNS_11643] = getSharedDataCopy("cns-11643-1992");
         
         // create a generic CharsetMBCS object
-        myConverterData.currentConverter = (CharsetMBCS)CharsetICU.forNameICU("icu-internal-25546");
+        myConverterData.currentConverter = getConverterCopy("icu-internal-25546");
     }
     
     private void ISO2022InitKR(int version) {
@@ -164,10 +183,10 @@ class CharsetISO2022 extends CharsetICU {
         maxCharsPerByte = 1;
         
         if (version == 1) {
-            myConverterData.currentConverter = (CharsetMBCS)CharsetICU.forNameICU("icu-internal-25546");
+            myConverterData.currentConverter = getConverterCopy("icu-internal-25546");
             myConverterData.currentConverter.subChar1 = fromUSubstitutionChar[0][0];
         } else {
-            myConverterData.currentConverter = (CharsetMBCS)CharsetICU.forNameICU("ibm-949");
+            myConverterData.currentConverter = getConverterCopy("ibm-949");
         }
         
         myConverterData.currentEncoder = (CharsetEncoderMBCS)myConverterData.currentConverter.newEncoder();
@@ -275,6 +294,7 @@ class CharsetISO2022 extends CharsetICU {
             return 0;
         }
         /* convert the Unicode code point in c into codepage bytes */
+        sharedData.mbcs.loadFromUnicode();
         table = sharedData.mbcs.fromUnicodeTable;
         /* get the byte for the output */
         value = CharsetMBCS.MBCS_SINGLE_RESULT_FROM_U(table, sharedData.mbcs.fromUnicodeChars, c);
@@ -26,12 +26,21 @@ import com.ibm.icu.impl.ICUBinary;
 import com.ibm.icu.impl.ICUData;
 import com.ibm.icu.impl.ICUResourceBundle;
 import com.ibm.icu.impl.InvalidFormatException;
+import com.ibm.icu.impl.LRUMap;
 import com.ibm.icu.lang.UCharacter;
 import com.ibm.icu.text.UTF16;
 import com.ibm.icu.text.UnicodeSet;
 
 class CharsetMBCS extends CharsetICU {
 
+    /**
+     * Maximum number of conversion tables kept in the shared cache.
+     */
+    private static final int MAX_CACHED_TABLES = 64;
+
+    private static final LRUMap<String, UConverterSharedData> sharedDataCache =
+        new LRUMap<String, UConverterSharedData>(MAX_CACHED_TABLES);
+
     private byte[] fromUSubstitution = null;
     UConverterSharedData sharedData = null;
     private static final int MAX_VERSION_LENGTH = 4;
@@ -105,24 +114,111 @@ class CharsetMBCS extends CharsetICU {
         /* roundtrips */
         int asciiRoundtrips;
 
+        /*
+         * The fromUnicode data is only needed for encoding and for getUnicodeSet().
+         * It is loaded on first use, see loadFromUnicode().
+         * Until then, we keep either the part of the .cnv data with the fromUnicode tables,
+         * or the table whose fromUnicode data this one shares.
+         */
+        private MBCSHeader fromUnicodeHeader;
+        private ByteBuffer fromUnicodeData;
+        private UConverterMBCSTable fromUnicodeSource;
+        private volatile boolean fromUnicodeLoaded;
+
         UConverterMBCSTable() {
             utf8Friendly = false;
             mbcsIndex = null;
         }
 
+        private void copyFromUnicode(UConverterMBCSTable t) {
+            fromUnicodeTable = t.fromUnicodeTable;
+            fromUnicodeTableInts = t.fromUnicodeTableInts;
+            fromUnicodeBytes = t.fromUnicodeBytes;
+            fromUnicodeChars = t.fromUnicodeChars;
+            fromUnicodeInts = t.fromUnicodeInts;
+        }
+
+        /**
+         * Called while reading the .cnv data.
+         * @param header the MBCS header
+         * @param data the .cnv data starting with the fromUnicode tables
+         */
+        void setFromUnicodeData(MBCSHeader header, ByteBuffer data) {
+            fromUnicodeHeader = header;
+            fromUnicodeData = data;
+        }
+
+        /**
+         * Loads the fromUnicode data if that has not been done yet.
+         * Must be called before using the fromUnicode fields.
+         * For a table without its own fromUnicode data (NO_FROM_U option),
+         * reconstitutes it from the toUnicode data.
+         */
+        void loadFromUnicode() {
+            if (fromUnicodeLoaded) {
+                return;
+            }
+            synchronized (this) {
+                if (fromUnicodeLoaded) {
+                    return;
+                }
+                if (fromUnicodeSource != null) {
+                    fromUnicodeSource.loadFromUnicode();
+                    copyFromUnicode(fromUnicodeSource);
+                    fromUnicodeSource = null;
+                } else if (fromUnicodeData != null) {
+                    MBCSHeader header = fromUnicodeHeader;
+                    UConverterDataReader.readFromUnicode(fromUnicodeData, header, this);
+                    if ((header.options & MBCS_OPT_NO_FROM_U) != 0) {
+                        int stage1Length = hasSupplementary() ? 0x440 : 0x40;
+                        int stage2Length = (header.offsetFromUBytes - header.offsetFromUTable)/4 - stage1Length/2;
+                        reconstituteData(this, stage1Length, stage2Length, header.fullStage2Length);
+                        // TODO: Use mbcsIndex to speed up UTF-16 conversion, like in ICU4C.
+                        mbcsIndex = null;
+                    }
+                    fromUnicodeHeader = null;
+                    fromUnicodeData = null;
+                }
+                fromUnicodeLoaded = true;
+            }
+        }
+
         boolean hasSupplementary() {
             return (unicodeMask & UConverterConstants.HAS_SUPPLEMENTARY) != 0;
         }
 
-        /*
-         * UConverterMBCSTable(UConverterMBCSTable t) { countStates = t.countStates; dbcsOnlyState = t.dbcsOnlyState;
-         * stateTableOwned = t.stateTableOwned; countToUFallbacks = t.countToUFallbacks; stateTable = t.stateTable;
-         * swapLFNLStateTable = t.swapLFNLStateTable; unicodeCodeUnits = t.unicodeCodeUnits; toUFallbacks =
-         * t.toUFallbacks; fromUnicodeTable = t.fromUnicodeTable; fromUnicodeBytes = t.fromUnicodeBytes;
-         * swapLFNLFromUnicodeChars = t.swapLFNLFromUnicodeChars; fromUBytesLength = t.fromUBytesLength; outputType =
-         * t.outputType; unicodeMask = t.unicodeMask; swapLFNLName = t.swapLFNLName; baseSharedData = t.baseSharedData;
-         * extIndexes = t.extIndexes; }
+        /**
+         * Shallow copy, like the memcpy() in ICU4C, for an extension-only converter
+         * which modifies some values of its base converter's table.
+         * The arrays are shared.
          */
+        UConverterMBCSTable(UConverterMBCSTable t) {
+            countStates = t.countStates;
+            dbcsOnlyState = t.dbcsOnlyState;
+            stateTableOwned = t.stateTableOwned;
+            countToUFallbacks = t.countToUFallbacks;
+            stateTable = t.stateTable;
+            swapLFNLStateTable = t.swapLFNLStateTable;
+            unicodeCodeUnits = t.unicodeCodeUnits;
+            toUFallbacks = t.toUFallbacks;
+            if (t.fromUnicodeLoaded) {
+                copyFromUnicode(t);
+                fromUnicodeLoaded = true;
+            } else {
+                fromUnicodeSource = t;
+            }
+            swapLFNLFromUnicodeChars = t.swapLFNLFromUnicodeChars;
+            fromUBytesLength = t.fromUBytesLength;
+            outputType = t.outputType;
+            unicodeMask = t.unicodeMask;
+            swapLFNLName = t.swapLFNLName;
+            baseSharedData = t.baseSharedData;
+            extIndexes = t.extIndexes;
+            mbcsIndex = t.mbcsIndex;
+            utf8Friendly = t.utf8Friendly;
+            maxFastUChar = t.maxFastUChar;
+            asciiRoundtrips = t.asciiRoundtrips;
+        }
     }
 
     /* Constants used in MBCS data header */
@@ -184,8 +280,8 @@ class CharsetMBCS extends CharsetICU {
         maxBytesPerChar = sharedData.staticData.maxBytesPerChar;
         minBytesPerChar = sharedData.staticData.minBytesPerChar;
         maxCharsPerByte = 1;
-        fromUSubstitution = sharedData.staticData.subChar;
-        subChar = sharedData.staticData.subChar;
+        // The encoder's replaceWith() modifies subChar, and the static data is shared.
+        subChar = sharedData.staticData.subChar.clone();
         subCharLen = sharedData.staticData.subCharLen;
         subChar1 = sharedData.staticData.subChar1;
         fromUSubstitution = new byte[sharedData.staticData.subCharLen];
@@ -199,9 +295,28 @@ class CharsetMBCS extends CharsetICU {
         this(icuCanonicalName, javaCanonicalName, aliases, ICUResourceBundle.ICU_BUNDLE, null);
     }
 
+    /**
+     * Returns the shared data for the named conversion table.
+     * Tables loaded without a specific ClassLoader are cached and shared among
+     * all CharsetMBCS instances, including those used inside other converters like ISO-2022.
+     * The shared data is not modified after loading, except for the swaplfnl tables
+     * which are built on demand in initializeConverter().
+     */
     private UConverterSharedData loadConverter(int nestedLoads, String myName, String classPath, ClassLoader loader)
             throws InvalidFormatException {
-        boolean noFromU = false;
+        if (loader != null) {
+            return readConverter(nestedLoads, myName, classPath, loader);
+        }
+        String key = classPath + '/' + myName;
+        UConverterSharedData data = sharedDataCache.get(key);
+        if (data == null) {
+            data = sharedDataCache.putIfAbsent(key, readConverter(nestedLoads, myName, classPath, null));
+        }
+        return data;
+    }
+
+    private UConverterSharedData readConverter(int nestedLoads, String myName, String classPath, ClassLoader loader)
+            throws InvalidFormatException {
         // Read converter data from file
         UConverterStaticData staticData = new UConverterStaticData();
         UConverterDataReader reader = null;
@@ -255,9 +370,8 @@ class CharsetMBCS extends CharsetICU {
         // int[] extIndexesArray = null;
         String baseNameString = null;
 
-        if (header.version[0] == 5 && header.version[1] >= 3 && (header.options & MBCS_OPT_UNKNOWN_INCOMPATIBLE_MASK) == 0) {
-            noFromU = ((header.options & MBCS_OPT_NO_FROM_U) != 0);
-        } else if (header.version[0] != 4) {
+        if (!(header.version[0] == 5 && header.version[1] >= 3 && (header.options & MBCS_OPT_UNKNOWN_INCOMPATIBLE_MASK) == 0) &&
+                header.version[0] != 4) {
             throw new InvalidFormatException();
         }
 
@@ -328,9 +442,8 @@ class CharsetMBCS extends CharsetICU {
             }
 
             /* copy the base table data */
-            // agljport:comment deep copy in C changes mbcs through local reference mbcsTable; in java we probably don't
-            // need the deep copy so can just make sure mbcs and its local reference both refer to the same new object
-            mbcsTable = data.mbcs = baseSharedData.mbcs;
+            // The base table is shared with other converters, so modify only a copy.
+            mbcsTable = data.mbcs = new UConverterMBCSTable(baseSharedData.mbcs);
 
             /* overwrite values with relevant ones for the extension converter */
             mbcsTable.baseSharedData = baseSharedData;
@@ -491,11 +604,7 @@ class CharsetMBCS extends CharsetICU {
             }
             // TODO: Use asciiRoundtrips to speed up conversion, like in ICU4C.
 
-            if (noFromU) {
-                int stage1Length = (mbcsTable.unicodeMask&UConverterConstants.HAS_SUPPLEMENTARY) != 0 ? 0x440 : 0x40;
-                int stage2Length = (header.offsetFromUBytes - header.offsetFromUTable)/4 - stage1Length/2;
-                reconstituteData(mbcsTable, stage1Length, stage2Length, header.fullStage2Length);
-            }
+            // For noFromU, the fromUnicode data is reconstituted in loadFromUnicode().
             if (mbcsTable.outputType == MBCS_OUTPUT_DBCS_ONLY || mbcsTable.outputType == MBCS_OUTPUT_2_SISO) {
                 /*
                  * MBCS_OUTPUT_DBCS_ONLY: No SBCS mappings, therefore ASCII does not roundtrip.
@@ -874,22 +983,19 @@ class CharsetMBCS extends CharsetICU {
         }
 
         if ((myOptions & UConverterConstants.OPTION_SWAP_LFNL) != 0) {
-            /* do this because double-checked locking is broken */
-            boolean isCached;
-
-            // agljport:todo umtx_lock(NULL);
-            isCached = mbcsTable.swapLFNLStateTable != null;
-            // agljport:todo umtx_unlock(NULL);
-
-            if (!isCached) {
-                try {
-                    if (!EBCDICSwapLFNL()) {
-                        /* this option does not apply, remove it */
-                        this.options = myOptions & ~UConverterConstants.OPTION_SWAP_LFNL;
+            // The table is shared among converters: Build the swaplfnl data only once,
+            // and make sure that other threads see all of it.
+            synchronized (mbcsTable) {
+                if (mbcsTable.swapLFNLStateTable == null) {
+                    try {
+                        if (!EBCDICSwapLFNL()) {
+                            /* this option does not apply, remove it */
+                            this.options = myOptions & ~UConverterConstants.OPTION_SWAP_LFNL;
+                        }
+                    } catch (Exception e) {
+                        /* something went wrong. */
+                        return;
                     }
-                } catch (Exception e) {
-                    /* something went wrong. */
-                    return;
                 }
             }
         }
@@ -968,6 +1074,7 @@ class CharsetMBCS extends CharsetICU {
         int stage2Entry;
 
         mbcsTable = sharedData.mbcs;
+        mbcsTable.loadFromUnicode();
         
         table = mbcsTable.fromUnicodeTable;
         int[] tableInts = sharedData.mbcs.fromUnicodeTableInts;
@@ -1130,6 +1237,9 @@ class CharsetMBCS extends CharsetICU {
         SO
     }
     
+    /* length of the blocks that bulk conversion of direct buffers copies at a time */
+    private static final int BULK_BLOCK_SIZE = 256;
+
     private static final byte[] KEIS_SO_CHAR = { 0x0A, 0x42 };
     private static final byte[] KEIS_SI_CHAR = { 0x0A, 0x41 };
     private static final byte JEF_SO_CHAR = 0x28;
@@ -1628,6 +1738,9 @@ class CharsetMBCS extends CharsetICU {
     }
 
     class CharsetDecoderMBCS extends CharsetDecoderICU {
+        /* blocks of units for bulk conversion of buffers without accessible arrays */
+        private byte[] bulkBytes;
+        private char[] bulkChars;
 
         CharsetDecoderMBCS(CharsetICU cs) {
             super(cs);
@@ -2086,6 +2199,20 @@ class CharsetMBCS extends CharsetICU {
                 }
 
                 if (byteIndex == 0) {
+                    if (offsets == null && source.hasArray() && target.hasArray()) {
+                        /* convert a run of the most common cases in bulk */
+                        sourceArrayIndex += decodeMultiBytesInArrays(stateTable, state, unicodeCodeUnits,
+                                source, sourceArrayIndex, target);
+                        if (sourceArrayIndex >= source.limit()) {
+                            break;
+                        }
+                        if (!target.hasRemaining()) {
+                            /* target is full */
+                            cr[0] = CoderResult.OVERFLOW;
+                            break;
+                        }
+                    }
+
                     /* optimized loop for 1/2-byte input and BMP output */
                     // agljport:todo see ucnvmbcs.c for deleted block
                     do {
@@ -2400,6 +2527,14 @@ class CharsetMBCS extends CharsetICU {
 
             /* conversion loop */
             while (targetCapacity > 0 && sourceArrayIndex < source.limit()) {
+                /* convert a run of the most common case in bulk */
+                length = decodeSingleBytesRun(stateTable[0], source, sourceArrayIndex, target, targetCapacity);
+                sourceArrayIndex += length;
+                targetCapacity -= length;
+                if (targetCapacity == 0) {
+                    break;
+                }
+
                 entry = stateTable[0][source.get(sourceArrayIndex++) & UConverterConstants.UNSIGNED_BYTE_MASK];
                 /* MBCS_ENTRY_IS_FINAL(entry) */
 
@@ -2490,6 +2625,126 @@ class CharsetMBCS extends CharsetICU {
             return cr[0];
         }
 
+        /**
+         * Converts up to count bytes starting at sourceIndex while they map directly
+         * to BMP code points in the single-byte state table.
+         * Works on the backing arrays when both buffers have them.
+         * Otherwise, for example for direct buffers, it copies blocks of units
+         * through bulkBytes and bulkChars with bulk get() and put().
+         * The two loops are in separate methods so that each is compiled
+         * for the kinds of buffers that it actually sees.
+         * @return the number of bytes converted; the target position has been advanced
+         *         but the source position is restored
+         */
+        private int decodeSingleBytesRun(int[] state0, ByteBuffer source, int sourceIndex,
+                CharBuffer target, int count) {
+            /* the caller's count can exceed the remaining input after error callbacks */
+            count = Math.min(count, source.limit() - sourceIndex);
+            if (source.hasArray() && target.hasArray()) {
+                return decodeSingleBytesInArrays(state0, source, sourceIndex, target, count);
+            } else {
+                return decodeSingleBytesInBlocks(state0, source, sourceIndex, target, count);
+            }
+        }
+
+        private int decodeSingleBytesInArrays(int[] state0, ByteBuffer source, int sourceIndex,
+                CharBuffer target, int count) {
+            int i = 0;
+            byte[] sourceArray = source.array();
+            int sourceArrayIndex = source.arrayOffset() + sourceIndex;
+            char[] targetArray = target.array();
+            int targetIndex = target.arrayOffset() + target.position();
+            while (i < count) {
+                int entry = state0[sourceArray[sourceArrayIndex + i] & UConverterConstants.UNSIGNED_BYTE_MASK];
+                if (!MBCS_ENTRY_FINAL_IS_VALID_DIRECT_16(entry)) {
+                    break;
+                }
+                targetArray[targetIndex + i++] = MBCS_ENTRY_FINAL_VALUE_16(entry);
+            }
+            target.position(target.position() + i);
+            return i;
+        }
+
+        private int decodeSingleBytesInBlocks(int[] state0, ByteBuffer source, int sourceIndex,
+                CharBuffer target, int count) {
+            int i = 0;
+            if (bulkBytes == null) {
+                bulkBytes = new byte[BULK_BLOCK_SIZE];
+                bulkChars = new char[BULK_BLOCK_SIZE];
+            }
+            int position = source.position();
+            source.position(sourceIndex);
+            while (i < count) {
+                int blockLength = Math.min(count - i, BULK_BLOCK_SIZE);
+                source.get(bulkBytes, 0, blockLength);
+                int j = 0;
+                while (j < blockLength) {
+                    int entry = state0[bulkBytes[j] & UConverterConstants.UNSIGNED_BYTE_MASK];
+                    if (!MBCS_ENTRY_FINAL_IS_VALID_DIRECT_16(entry)) {
+                        break;
+                    }
+                    bulkChars[j++] = MBCS_ENTRY_FINAL_VALUE_16(entry);
+                }
+                target.put(bulkChars, 0, j);
+                i += j;
+                if (j < blockLength) {
+                    break;
+                }
+            }
+            source.position(position);
+            return i;
+        }
+
+        /**
+         * Converts bytes starting at sourceIndex while they form 1- or 2-byte sequences
+         * which map directly to BMP code points and return to the given state.
+         * This is the array version of the optimized loop in cnvMBCSToUnicodeWithOffsets(),
+         * for when both buffers have backing arrays. It stops before a lead byte
+         * whose trail byte is not available.
+         * @return the number of bytes converted; the target position has been advanced
+         *         but the source position is unchanged
+         */
+        private int decodeMultiBytesInArrays(int[][] stateTable, byte state, char[] unicodeCodeUnits,
+                ByteBuffer source, int sourceIndex, CharBuffer target) {
+            byte[] sourceArray = source.array();
+            int sourceArrayOffset = source.arrayOffset();
+            int sourceArrayIndex = sourceArrayOffset + sourceIndex;
+            int sourceArrayLimit = sourceArrayOffset + source.limit();
+            char[] targetArray = target.array();
+            int targetArrayOffset = target.arrayOffset();
+            int targetIndex = targetArrayOffset + target.position();
+            int targetLimit = targetArrayOffset + target.limit();
+            int[] stateRow = stateTable[state];
+            while (sourceArrayIndex < sourceArrayLimit && targetIndex < targetLimit) {
+                int entry = stateRow[sourceArray[sourceArrayIndex] & UConverterConstants.UNSIGNED_BYTE_MASK];
+                if (MBCS_ENTRY_IS_TRANSITION(entry)) {
+                    if ((sourceArrayIndex + 1) >= sourceArrayLimit) {
+                        break;
+                    }
+                    int offset = MBCS_ENTRY_TRANSITION_OFFSET(entry);
+                    entry = stateTable[MBCS_ENTRY_TRANSITION_STATE(entry)]
+                            [sourceArray[sourceArrayIndex + 1] & UConverterConstants.UNSIGNED_BYTE_MASK];
+                    if (!MBCS_ENTRY_IS_FINAL(entry) || MBCS_ENTRY_FINAL_ACTION(entry) != MBCS_STATE_VALID_16
+                            || MBCS_ENTRY_FINAL_STATE(entry) != state) {
+                        break;
+                    }
+                    char c = unicodeCodeUnits[offset + MBCS_ENTRY_FINAL_VALUE_16(entry)];
+                    if (c >= 0xfffe) {
+                        break;
+                    }
+                    targetArray[targetIndex++] = c;
+                    sourceArrayIndex += 2;
+                } else if (MBCS_ENTRY_FINAL_IS_VALID_DIRECT_16(entry) && MBCS_ENTRY_FINAL_STATE(entry) == state) {
+                    targetArray[targetIndex++] = MBCS_ENTRY_FINAL_VALUE_16(entry);
+                    ++sourceArrayIndex;
+                } else {
+                    break;
+                }
+            }
+            target.position(targetIndex - targetArrayOffset);
+            return sourceArrayIndex - sourceArrayOffset - sourceIndex;
+        }
+
         /* This version of cnvMBCSToUnicodeWithOffsets() is optimized for single-byte, single-state codepages. */
         private CoderResult cnvMBCSSingleToUnicodeWithOffsets(ByteBuffer source, CharBuffer target, IntBuffer offsets,
                 boolean flush) {
@@ -2835,9 +3090,13 @@ class CharsetMBCS extends CharsetICU {
 
     class CharsetEncoderMBCS extends CharsetEncoderICU {
         private boolean allowReplacementChanges = false;
+        /* blocks of units for bulk conversion of buffers without accessible arrays */
+        private char[] bulkChars;
+        private byte[] bulkBytes;
 
         CharsetEncoderMBCS(CharsetICU cs) {
             super(cs, fromUSubstitution);
+            sharedData.mbcs.loadFromUnicode();
             allowReplacementChanges = true; // allow changes in implReplaceWith
             implReset();
         }
@@ -3393,6 +3652,9 @@ class CharsetMBCS extends CharsetICU {
             int length;
             int p;
 
+            // Other converters like ISO-2022 and LMBCS call this with varying sharedData.
+            sharedData.mbcs.loadFromUnicode();
+
             /* BMP-only codepages are stored without stage 1 entries for supplementary code points */
             if (c <= 0xffff || sharedData.mbcs.hasSupplementary()) {
                 table = sharedData.mbcs.fromUnicodeTable;
@@ -4044,6 +4306,15 @@ class CharsetMBCS extends CharsetICU {
 
             if (doloop) {
                 while (targetCapacity > 0) {
+                    /* convert a run of assigned characters in bulk */
+                    length = encodeSingleBMPRun(table, results, minValue, source, sourceArrayIndex, target, targetCapacity);
+                    sourceArrayIndex += length;
+                    targetCapacity -= length;
+                    if (targetCapacity == 0) {
+                        c = 0;
+                        break;
+                    }
+
                     /*
                      * Get a correct Unicode code point: a single UChar for a BMP code point or a matched surrogate pair
                      * for a "supplementary code point".
@@ -4150,6 +4421,76 @@ class CharsetMBCS extends CharsetICU {
             return cr[0];
         }
 
+        /**
+         * Converts up to count chars starting at sourceIndex while they have
+         * single-byte results of at least minValue.
+         * Works on the backing arrays when both buffers have them.
+         * Otherwise, for example for direct buffers, it copies blocks of units
+         * through bulkChars and bulkBytes with bulk get() and put().
+         * The two loops are in separate methods so that each is compiled
+         * for the kinds of buffers that it actually sees.
+         * @return the number of chars converted; the target position has been advanced
+         *         but the source position is restored
+         */
+        private int encodeSingleBMPRun(char[] table, char[] results, char minValue,
+                CharBuffer source, int sourceIndex, ByteBuffer target, int count) {
+            /* the caller's count can exceed the remaining input after error callbacks */
+            count = Math.min(count, source.limit() - sourceIndex);
+            if (source.hasArray() && target.hasArray()) {
+                return encodeSingleBMPInArrays(table, results, minValue, source, sourceIndex, target, count);
+            } else {
+                return encodeSingleBMPInBlocks(table, results, minValue, source, sourceIndex, target, count);
+            }
+        }
+
+        private int encodeSingleBMPInArrays(char[] table, char[] results, char minValue,
+                CharBuffer source, int sourceIndex, ByteBuffer target, int count) {
+            int i = 0;
+            char[] sourceArray = source.array();
+            int sourceArrayIndex = source.arrayOffset() + sourceIndex;
+            byte[] targetArray = target.array();
+            int targetIndex = target.arrayOffset() + target.position();
+            while (i < count) {
+                char value = MBCS_SINGLE_RESULT_FROM_U(table, results, sourceArray[sourceArrayIndex + i]);
+                if (value < minValue) {
+                    break;
+                }
+                targetArray[targetIndex + i++] = (byte) value;
+            }
+            target.position(target.position() + i);
+            return i;
+        }
+
+        private int encodeSingleBMPInBlocks(char[] table, char[] results, char minValue,
+                CharBuffer source, int sourceIndex, ByteBuffer target, int count) {
+            int i = 0;
+            if (bulkChars == null) {
+                bulkChars = new char[BULK_BLOCK_SIZE];
+                bulkBytes = new byte[BULK_BLOCK_SIZE];
+            }
+            int position = source.position();
+            source.position(sourceIndex);
+            while (i < count) {
+                int blockLength = Math.min(count - i, BULK_BLOCK_SIZE);
+                source.get(bulkChars, 0, blockLength);
+                int j = 0;
+                while (j < blockLength) {
+                    char value = MBCS_SINGLE_RESULT_FROM_U(table, results, bulkChars[j]);
+                    if (value < minValue) {
+                        break;
+                    }
+                    bulkBytes[j++] = (byte) value;
+                }
+                target.put(bulkBytes, 0, j);
+                i += j;
+                if (j < blockLength) {
+                    break;
+                }
+            }
+            source.position(position);
+            return i;
+        }
+
         /* This version of ucnv_MBCSFromUnicodeWithOffsets() is optimized for single-byte codepages. */
         private CoderResult cnvMBCSSingleFromUnicodeWithOffsets(CharBuffer source, ByteBuffer target,
                 IntBuffer offsets, boolean flush) {
@@ -4364,6 +4705,15 @@ class CharsetMBCS extends CharsetICU {
                      * output from the last source character. Therefore, those situations also test for overflows and
                      * will then break the loop, too.
                      */
+                    if (doread && offsets == null && source.hasArray() && target.hasArray()) {
+                        /* convert a run of assigned BMP characters in bulk */
+                        length = encodeDoubleBMPInArrays(table, tableInts, chars, source, sourceArrayIndex, target);
+                        sourceArrayIndex += length;
+                        sourceIndex = nextSourceIndex += length;
+                        if (sourceArrayIndex >= source.limit()) {
+                            break;
+                        }
+                    }
                     if (target.hasRemaining()) {
                         if (doread) {
                             /*
@@ -4490,6 +4840,48 @@ class CharsetMBCS extends CharsetICU {
             return cr[0];
         }
 
+        /**
+         * Converts chars starting at sourceIndex while they are BMP code points
+         * other than surrogates with roundtrip mappings, and their bytes fit into the target.
+         * This is the array version of the loop in cnvMBCSDoubleFromUnicodeWithOffsets(),
+         * for when both buffers have backing arrays.
+         * @return the number of chars converted; the target position has been advanced
+         *         but the source position is unchanged
+         */
+        private int encodeDoubleBMPInArrays(char[] table, int[] tableInts, char[] chars,
+                CharBuffer source, int sourceIndex, ByteBuffer target) {
+            char[] sourceArray = source.array();
+            int sourceArrayOffset = source.arrayOffset();
+            int sourceArrayIndex = sourceArrayOffset + sourceIndex;
+            int sourceArrayLimit = sourceArrayOffset + source.limit();
+            byte[] targetArray = target.array();
+            int targetArrayOffset = target.arrayOffset();
+            int targetIndex = targetArrayOffset + target.position();
+            int targetLimit = targetArrayOffset + target.limit();
+            while (sourceArrayIndex < sourceArrayLimit && targetIndex < targetLimit) {
+                char c = sourceArray[sourceArrayIndex];
+                if (UTF16.isSurrogate(c)) {
+                    break;
+                }
+                int stage2Entry = MBCS_STAGE_2_FROM_U(table, tableInts, c);
+                if (!MBCS_FROM_U_IS_ROUNDTRIP(stage2Entry, c)) {
+                    break;
+                }
+                int value = MBCS_VALUE_2_FROM_STAGE_2(chars, stage2Entry, c);
+                if (value <= 0xff) {
+                    targetArray[targetIndex++] = (byte) value;
+                } else if ((targetIndex + 1) < targetLimit) {
+                    targetArray[targetIndex++] = (byte) (value >>> 8);
+                    targetArray[targetIndex++] = (byte) value;
+                } else {
+                    break;
+                }
+                ++sourceArrayIndex;
+            }
+            target.position(targetIndex - targetArrayOffset);
+            return sourceArrayIndex - sourceArrayOffset - sourceIndex;
+        }
+
         private final class SideEffectsSingleBMP {
             int c, sourceArrayIndex;
 
@@ -4772,6 +5164,7 @@ class CharsetMBCS extends CharsetICU {
         int c ;
         
         mbcsTable = data.mbcs;
+        mbcsTable.loadFromUnicode();
         table = mbcsTable.fromUnicodeTable; 
         if(mbcsTable.hasSupplementary()){
             maxStage1 = 0x440;
@@ -1,12 +1,13 @@
 /**
  *******************************************************************************
- * Copyright (C) 2006-2011, International Business Machines Corporation and    *
+ * Copyright (C) 2006-2015, International Business Machines Corporation and    *
  * others. All Rights Reserved.                                                *
  *******************************************************************************
  */
 package com.ibm.icu.charset;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.CharBuffer;
 import java.nio.IntBuffer;
 import java.nio.charset.CharsetDecoder;
@@ -160,6 +161,9 @@ class CharsetUTF16 extends CharsetICU {
             char char16;
 
             while (true) {
+                if (toULength == 0) {
+                    decodeUnits(source, target);
+                }
                 while (toULength < 2) {
                     if (!source.hasRemaining())
                         return CoderResult.UNDERFLOW;
@@ -191,6 +195,55 @@ class CharsetUTF16 extends CharsetICU {
             }
         }
 
+        /**
+         * Converts a run of code units in bulk, up to the first surrogate, or for version 1
+         * up to the first U+FEFF or U+FFFE which need the BOM handling in decodeLoop().
+         * Uses the backing arrays when there are any. Otherwise it reads whole code units
+         * with absolute getChar() which is efficient also for direct buffers.
+         */
+        private void decodeUnits(ByteBuffer source, CharBuffer target) {
+            int count = source.remaining() >> 1;
+            if (count > target.remaining()) {
+                count = target.remaining();
+            }
+            if (count == 0) {
+                return;
+            }
+            boolean stopAtBOM = isEndianSpecified && version == 1;
+            int sourceIndex = source.position();
+            int i = 0;
+            char c;
+            if (source.hasArray() && target.hasArray()) {
+                byte[] sourceArray = source.array();
+                int sourceArrayIndex = source.arrayOffset() + sourceIndex;
+                char[] targetArray = target.array();
+                int targetIndex = target.arrayOffset() + target.position();
+                int hi = actualEndianXOR, lo = hi ^ 1;
+                while (i < count) {
+                    c = (char) (((sourceArray[sourceArrayIndex + hi] & UConverterConstants.UNSIGNED_BYTE_MASK) << 8) |
+                            (sourceArray[sourceArrayIndex + lo] & UConverterConstants.UNSIGNED_BYTE_MASK));
+                    if (UTF16.isSurrogate(c) || (stopAtBOM && (c == 0xfeff || c == 0xfffe))) {
+                        break;
+                    }
+                    targetArray[targetIndex + i++] = c;
+                    sourceArrayIndex += 2;
+                }
+                target.position(target.position() + i);
+            } else {
+                ByteBuffer units = source.duplicate().order(
+                        actualEndianXOR == ENDIAN_XOR_BE ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+                while (i < count) {
+                    c = units.getChar(sourceIndex + 2 * i);
+                    if (UTF16.isSurrogate(c) || (stopAtBOM && (c == 0xfeff || c == 0xfffe))) {
+                        break;
+                    }
+                    target.put(c);
+                    ++i;
+                }
+            }
+            source.position(sourceIndex + 2 * i);
+        }
+
         private final CoderResult decodeTrail(ByteBuffer source, CharBuffer target, IntBuffer offsets, char lead) {
             if (!UTF16.isLeadSurrogate(lead)) {
                 // 2 bytes, lead malformed
@@ -274,6 +327,9 @@ class CharsetUTF16 extends CharsetICU {
             }
 
             while (true) {
+                if (offsets == null) {
+                    encodeUnits(source, target);
+                }
                 if (!source.hasRemaining())
                     return CoderResult.UNDERFLOW;
                 if (!target.hasRemaining())
@@ -285,6 +341,47 @@ class CharsetUTF16 extends CharsetICU {
             }
         }
 
+        /**
+         * Converts a run of code units in bulk, up to the first surrogate.
+         * Uses the backing arrays when there are any. Otherwise it writes whole code units
+         * with absolute putChar() which is efficient also for direct buffers.
+         */
+        private void encodeUnits(CharBuffer source, ByteBuffer target) {
+            int count = target.remaining() >> 1;
+            if (count > source.remaining()) {
+                count = source.remaining();
+            }
+            if (count == 0) {
+                return;
+            }
+            int sourceIndex = source.position();
+            int targetIndex = target.position();
+            int i = 0;
+            char c;
+            if (source.hasArray() && target.hasArray()) {
+                char[] sourceArray = source.array();
+                int sourceArrayIndex = source.arrayOffset() + sourceIndex;
+                byte[] targetArray = target.array();
+                int targetArrayIndex = target.arrayOffset() + targetIndex;
+                int hi = endianXOR, lo = hi ^ 1;
+                while (i < count && !UTF16.isSurrogate(c = sourceArray[sourceArrayIndex + i])) {
+                    targetArray[targetArrayIndex + hi] = (byte) (c >>> 8);
+                    targetArray[targetArrayIndex + lo] = (byte) c;
+                    targetArrayIndex += 2;
+                    ++i;
+                }
+            } else {
+                ByteBuffer units = target.duplicate().order(
+                        endianXOR == ENDIAN_XOR_BE ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+                while (i < count && !UTF16.isSurrogate(c = source.get(sourceIndex + i))) {
+                    units.putChar(targetIndex + 2 * i, c);
+                    ++i;
+                }
+            }
+            source.position(sourceIndex + i);
+            target.position(targetIndex + 2 * i);
+        }
+
         private final CoderResult encodeChar(CharBuffer source, ByteBuffer target, IntBuffer offsets, char ch) {
             int sourceIndex = source.position() - 1;
             CoderResult cr;
@@ -1,12 +1,13 @@
 /**
  *******************************************************************************
- * Copyright (C) 2006-2008, International Business Machines Corporation and    *
+ * Copyright (C) 2006-2015, International Business Machines Corporation and    *
  * others. All Rights Reserved.                                                *
  *******************************************************************************
  */
 package com.ibm.icu.charset;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.CharBuffer;
 import java.nio.IntBuffer;
 import java.nio.charset.CharsetDecoder;
@@ -122,6 +123,9 @@ class CharsetUTF32 extends CharsetICU {
             int char32;
 
             while (true) {
+                if (toULength == 0) {
+                    decodeBMP(source, target);
+                }
                 while (toULength < 4) {
                     if (!source.hasRemaining())
                         return CoderResult.UNDERFLOW;
@@ -159,6 +163,62 @@ class CharsetUTF32 extends CharsetICU {
                 }
             }
         }
+
+        /**
+         * Converts a run of BMP code points other than surrogates in bulk.
+         * Uses the backing arrays when there are any. Otherwise it reads whole code units
+         * with absolute getInt() which is efficient also for direct buffers.
+         */
+        private void decodeBMP(ByteBuffer source, CharBuffer target) {
+            int count = source.remaining() >> 2;
+            if (count > target.remaining()) {
+                count = target.remaining();
+            }
+            if (count == 0) {
+                return;
+            }
+            int sourceIndex = source.position();
+            int i = 0;
+            int c;
+            if (source.hasArray() && target.hasArray()) {
+                byte[] sourceArray = source.array();
+                int sourceArrayIndex = source.arrayOffset() + sourceIndex;
+                char[] targetArray = target.array();
+                int targetIndex = target.arrayOffset() + target.position();
+                int xor = actualEndianXOR;
+                while (i < count) {
+                    if ((sourceArray[sourceArrayIndex + (0 ^ xor)] | sourceArray[sourceArrayIndex + (1 ^ xor)]) != 0) {
+                        break;
+                    }
+                    c = ((sourceArray[sourceArrayIndex + (2 ^ xor)] & UConverterConstants.UNSIGNED_BYTE_MASK) << 8) |
+                            (sourceArray[sourceArrayIndex + (3 ^ xor)] & UConverterConstants.UNSIGNED_BYTE_MASK);
+                    if (isSurrogate(c)) {
+                        break;
+                    }
+                    targetArray[targetIndex + i++] = (char) c;
+                    sourceArrayIndex += 4;
+                }
+                target.position(target.position() + i);
+            } else {
+                ByteBuffer units = source.duplicate().order(getByteOrder(actualEndianXOR));
+                while (i < count) {
+                    c = units.getInt(sourceIndex + 4 * i);
+                    if (c > UConverterConstants.MAXIMUM_UCS2 || c < 0 || isSurrogate(c)) {
+                        break;
+                    }
+                    target.put((char) c);
+                    ++i;
+                }
+            }
+            source.position(sourceIndex + 4 * i);
+        }
+    }
+
+    /**
+     * Returns the byte order corresponding to an endianXOR value.
+     */
+    private static ByteOrder getByteOrder(int endianXOR) {
+        return endianXOR == ENDIAN_XOR_BE ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN;
     }
 
     class CharsetEncoderUTF32 extends CharsetEncoderICU {
@@ -199,6 +259,9 @@ class CharsetUTF32 extends CharsetICU {
             }
 
             while (true) {
+                if (offsets == null) {
+                    encodeBMP(source, target);
+                }
                 if (!source.hasRemaining())
                     return CoderResult.UNDERFLOW;
                 if (!target.hasRemaining())
@@ -210,6 +273,48 @@ class CharsetUTF32 extends CharsetICU {
             }
         }
 
+        /**
+         * Converts a run of code units in bulk, up to the first surrogate.
+         * Uses the backing arrays when there are any. Otherwise it writes whole code points
+         * with absolute putInt() which is efficient also for direct buffers.
+         */
+        private void encodeBMP(CharBuffer source, ByteBuffer target) {
+            int count = target.remaining() >> 2;
+            if (count > source.remaining()) {
+                count = source.remaining();
+            }
+            if (count == 0) {
+                return;
+            }
+            int sourceIndex = source.position();
+            int targetIndex = target.position();
+            int i = 0;
+            char c;
+            if (source.hasArray() && target.hasArray()) {
+                char[] sourceArray = source.array();
+                int sourceArrayIndex = source.arrayOffset() + sourceIndex;
+                byte[] targetArray = target.array();
+                int targetArrayIndex = target.arrayOffset() + targetIndex;
+                int xor = endianXOR;
+                while (i < count && !UTF16.isSurrogate(c = sourceArray[sourceArrayIndex + i])) {
+                    targetArray[targetArrayIndex + (0 ^ xor)] = 0;
+                    targetArray[targetArrayIndex + (1 ^ xor)] = 0;
+                    targetArray[targetArrayIndex + (2 ^ xor)] = (byte) (c >>> 8);
+                    targetArray[targetArrayIndex + (3 ^ xor)] = (byte) c;
+                    targetArrayIndex += 4;
+                    ++i;
+                }
+            } else {
+                ByteBuffer units = target.duplicate().order(getByteOrder(endianXOR));
+                while (i < count && !UTF16.isSurrogate(c = source.get(sourceIndex + i))) {
+                    units.putInt(targetIndex + 4 * i, c);
+                    ++i;
+                }
+            }
+            source.position(sourceIndex + i);
+            target.position(targetIndex + 4 * i);
+        }
+
         private final CoderResult encodeChar(CharBuffer source, ByteBuffer target, IntBuffer offsets, char ch) {
             int sourceIndex = source.position() - 1;
             CoderResult cr;
@@ -516,7 +516,37 @@ final class UConverterDataReader {
         // Skip as many bytes as we have read from the CharBuffer.
         ICUBinary.skipBytes(byteBuffer, length);
 
+        mbcsTable.fromUBytesLength = header.fromUBytesLength;
+        // The fromUnicode data is not needed for decoding.
+        // Keep only a view of it, for reading it on demand via readFromUnicode().
+        mbcsTable.setFromUnicodeData(header, ICUBinary.sliceWithOrder(byteBuffer));
         length = header.offsetFromUBytes - header.offsetFromUTable;
+        if ((header.options & CharsetMBCS.MBCS_OPT_NO_FROM_U) == 0) {
+            switch (mbcsTable.outputType) {
+            case CharsetMBCS.MBCS_OUTPUT_1:
+            case CharsetMBCS.MBCS_OUTPUT_2:
+            case CharsetMBCS.MBCS_OUTPUT_2_SISO:
+            case CharsetMBCS.MBCS_OUTPUT_3_EUC:
+                length += header.fromUBytesLength & ~1;
+                break;
+            case CharsetMBCS.MBCS_OUTPUT_4:
+                length += header.fromUBytesLength & ~3;
+                break;
+            default:
+                length += header.fromUBytesLength;
+                break;
+            }
+        }
+        ICUBinary.skipBytes(byteBuffer, length);
+    }
+
+    /**
+     * Reads the fromUnicode part of the MBCS table data.
+     * @param bytes the data following the toUnicode part, as passed into
+     *        UConverterMBCSTable.setFromUnicodeData() by readMBCSTable()
+     */
+    static void readFromUnicode(ByteBuffer bytes, MBCSHeader header, UConverterMBCSTable mbcsTable) {
+        int length = header.offsetFromUBytes - header.offsetFromUTable;
         assert (length & 1) == 0;
         int fromUTableCharsLength;
         if (mbcsTable.outputType == CharsetMBCS.MBCS_OUTPUT_1) {
@@ -530,19 +560,18 @@ final class UConverterDataReader {
             fromUTableCharsLength = 0x40;
         }
         mbcsTable.fromUnicodeTable = new char[fromUTableCharsLength];
-        charBuffer.get(mbcsTable.fromUnicodeTable);
+        bytes.asCharBuffer().get(mbcsTable.fromUnicodeTable);
         if (mbcsTable.outputType != CharsetMBCS.MBCS_OUTPUT_1) {
             // Read both stage1 and stage2 together into an int[] array.
             // Keeping the short stage1 in the array avoids offsetting at runtime.
             // The stage1 part of this array will not be used.
             assert (length & 3) == 0;
             mbcsTable.fromUnicodeTableInts = new int[length / 4];
-            byteBuffer.asIntBuffer().get(mbcsTable.fromUnicodeTableInts);
+            bytes.asIntBuffer().get(mbcsTable.fromUnicodeTableInts);
         }
         // Skip as many bytes as are in stage1 + stage2.
-        ICUBinary.skipBytes(byteBuffer, length);
+        ICUBinary.skipBytes(bytes, length);
 
-        mbcsTable.fromUBytesLength = header.fromUBytesLength;
         boolean noFromU = ((header.options & CharsetMBCS.MBCS_OPT_NO_FROM_U) != 0);
         if (!noFromU) {
             switch (mbcsTable.outputType) {
@@ -551,18 +580,16 @@ final class UConverterDataReader {
             case CharsetMBCS.MBCS_OUTPUT_2_SISO:
             case CharsetMBCS.MBCS_OUTPUT_3_EUC:
                 mbcsTable.fromUnicodeChars = new char[header.fromUBytesLength / 2];
-                byteBuffer.asCharBuffer().get(mbcsTable.fromUnicodeChars);
-                ICUBinary.skipBytes(byteBuffer, header.fromUBytesLength & ~1);
+                bytes.asCharBuffer().get(mbcsTable.fromUnicodeChars);
                 break;
             case CharsetMBCS.MBCS_OUTPUT_3:
             case CharsetMBCS.MBCS_OUTPUT_4_EUC:
                 mbcsTable.fromUnicodeBytes = new byte[header.fromUBytesLength];
-                byteBuffer.get(mbcsTable.fromUnicodeBytes);
+                bytes.get(mbcsTable.fromUnicodeBytes);
                 break;
             case CharsetMBCS.MBCS_OUTPUT_4:
                 mbcsTable.fromUnicodeInts = new int[header.fromUBytesLength / 4];
-                byteBuffer.asIntBuffer().get(mbcsTable.fromUnicodeInts);
-                ICUBinary.skipBytes(byteBuffer, header.fromUBytesLength & ~3);
+                bytes.asIntBuffer().get(mbcsTable.fromUnicodeInts);
                 break;
             default:
                 // Cannot occur, caller checked already.
@@ -571,7 +598,7 @@ final class UConverterDataReader {
         } else {
             // Optional utf8Friendly mbcsIndex -- _MBCSHeader.version 4.3 (ICU 3.8) and higher.
             // Needed for reconstituting omitted data.
-            mbcsTable.mbcsIndex = byteBuffer.asCharBuffer();
+            mbcsTable.mbcsIndex = bytes.asCharBuffer();
         }
     }
 
@@ -1,6 +1,6 @@
 /*
  *******************************************************************************
- * Copyright (C) 2006-2008, International Business Machines Corporation and    *
+ * Copyright (C) 2006-2015, International Business Machines Corporation and    *
  * others. All Rights Reserved.                                                *
  *******************************************************************************
  */
@@ -79,6 +79,19 @@ final class UConverterSharedData {
         toUnicodeStatus = toUnicodeStatus_;
     }
 
+    /**
+     * Copy constructor for a converter which modifies some values of the MBCS table.
+     * The new object has its own UConverterMBCSTable which shares the table arrays.
+     */
+    UConverterSharedData(UConverterSharedData other) {
+        referenceCounter = other.referenceCounter;
+        staticData = other.staticData;
+        sharedDataCached = other.sharedDataCached;
+        toUnicodeStatus = other.toUnicodeStatus;
+        mbcs = new CharsetMBCS.UConverterMBCSTable(other.mbcs);
+        dataReader = other.dataReader;
+    }
+
     /**
      * UConverterImpl contains all the data and functions for a converter type.
      * Its function pointers work much like a C++ vtable. Many converter types
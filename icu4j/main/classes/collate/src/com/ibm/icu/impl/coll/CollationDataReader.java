@@ -26,7 +26,7 @@ import com.ibm.icu.util.ICUException;
 /**
  * Collation binary data reader.
  */
-final class CollationDataReader /* all static */ {
+public final class CollationDataReader /* all static */ {
     // The following constants are also copied into source/common/ucol_swp.cpp.
     // Keep them in sync!
     /**
@@ -94,7 +94,7 @@ final class CollationDataReader /* all static */ {
     static final int IX_RESERVED18_OFFSET = 18;
     static final int IX_TOTAL_SIZE = 19;
 
-    static void read(CollationTailoring base, ByteBuffer inBytes,
+    public static void read(CollationTailoring base, ByteBuffer inBytes,
                      CollationTailoring tailoring) throws IOException {
         tailoring.version = ICUBinary.readHeader(inBytes, DATA_FORMAT, IS_ACCEPTABLE);
         if(base != null && base.getUCAVersion() != tailoring.getUCAVersion()) {
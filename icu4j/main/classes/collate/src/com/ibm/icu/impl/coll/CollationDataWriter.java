@@ -0,0 +1,309 @@
+/*
+*******************************************************************************
+* Copyright (C) 2015, International Business Machines
+* Corporation and others.  All Rights Reserved.
+*******************************************************************************
+* CollationDataWriter.java, ported from collationdatawriter.h/.cpp
+*
+* C++ version created on: 2013aug06
+* created by: Markus W. Scherer
+*/
+
+package com.ibm.icu.impl.coll;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import com.ibm.icu.impl.ICUBinary;
+import com.ibm.icu.text.UnicodeSet;
+
+/**
+ * Collation binary data writer.
+ * Writes a tailoring in the format that CollationDataReader reads,
+ * the same as the binary tailoring data in coll/ *.res files.
+ */
+public final class CollationDataWriter /* all static */ {
+    /**
+     * Serializes the tailoring data with the given settings.
+     * Does not write the rule string.
+     * The base data must be the root collator's data.
+     *
+     * @return the binary tailoring data including a data header, in big-endian form
+     */
+    public static byte[] writeTailoring(CollationTailoring t, CollationSettings settings) {
+        try {
+            return write(t.version, t.data, settings);
+        } catch (IOException e) {
+            // Writing to a ByteArrayOutputStream does not fail.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] write(int dataVersion, CollationData data, CollationSettings settings)
+            throws IOException {
+        CollationData baseData = data.base;
+
+        int fastLatinVersion;
+        if(data.fastLatinTable != null) {
+            fastLatinVersion = CollationFastLatin.VERSION << 16;
+        } else {
+            fastLatinVersion = 0;
+        }
+        int indexesLength;
+        boolean hasMappings;
+        UnicodeSet unsafeBackwardSet = new UnicodeSet();
+        if(baseData == null) {
+            hasMappings = false;
+            if(settings.reorderCodes.length == 0) {
+                // only options
+                indexesLength = CollationDataReader.IX_OPTIONS + 1;  // no limit offset here
+            } else {
+                // only options, reorder codes, and the reorder table
+                indexesLength = CollationDataReader.IX_REORDER_TABLE_OFFSET + 2;
+            }
+        } else {
+            hasMappings = true;
+            // Tailored mappings, and what else?
+            // Check in ascending order of optional tailoring data items.
+            indexesLength = CollationDataReader.IX_CE32S_OFFSET + 2;
+            if(data.contexts != null && data.contexts.length() != 0) {
+                indexesLength = CollationDataReader.IX_CONTEXTS_OFFSET + 2;
+            }
+            unsafeBackwardSet.addAll(data.unsafeBackwardSet).removeAll(baseData.unsafeBackwardSet);
+            if(!unsafeBackwardSet.isEmpty()) {
+                indexesLength = CollationDataReader.IX_UNSAFE_BWD_OFFSET + 2;
+            }
+            if(data.fastLatinTable != baseData.fastLatinTable) {
+                indexesLength = CollationDataReader.IX_FAST_LATIN_TABLE_OFFSET + 2;
+            }
+        }
+
+        int[] reorderCodes = settings.reorderCodes;
+        if(settings.hasReordering() &&
+                CollationSettings.reorderTableHasSplitBytes(settings.reorderTable)) {
+            // Rebuild the full list of reorder ranges.
+            // The list in the settings is truncated for efficiency.
+            UVector32 codesAndRanges = new UVector32();
+            data.makeReorderRanges(reorderCodes, codesAndRanges);
+            // Write the codes, then the ranges.
+            for(int i = 0; i < reorderCodes.length; ++i) {
+                codesAndRanges.insertElementAt(reorderCodes[i], i);
+            }
+            reorderCodes = new int[codesAndRanges.size()];
+            System.arraycopy(codesAndRanges.getBuffer(), 0, reorderCodes, 0, reorderCodes.length);
+        }
+
+        int headerSize = 32;  // ICUBinary.writeHeader()
+        if(hasMappings && data.ces != null && data.ces.length != 0) {
+            // Sum of the sizes of the data items which are
+            // not automatically multiples of 8 bytes and which are placed before the CEs.
+            int sum = headerSize + (indexesLength + reorderCodes.length) * 4;
+            if((sum & 7) != 0) {
+                // We need to add padding somewhere so that the 64-bit CEs are 8-aligned.
+                // The C++ writer adds to the header size.
+                // The Java header has a fixed size, so we increment the indexesLength.
+                ++indexesLength;
+            }
+        }
+
+        int[] indexes = new int[CollationDataReader.IX_TOTAL_SIZE + 1];
+        indexes[CollationDataReader.IX_INDEXES_LENGTH] = indexesLength;
+        indexes[CollationDataReader.IX_OPTIONS] =
+                (int)data.numericPrimary | fastLatinVersion | settings.options;
+        indexes[CollationDataReader.IX_RESERVED2] = indexes[CollationDataReader.IX_RESERVED3] = 0;
+
+        int totalSize = indexesLength * 4;
+
+        if(hasMappings && data.jamoCE32s != baseData.jamoCE32s) {
+            indexes[CollationDataReader.IX_JAMO_CE32S_START] =
+                    findJamoCE32s(data.ce32s, data.jamoCE32s);
+        } else {
+            indexes[CollationDataReader.IX_JAMO_CE32S_START] = -1;
+        }
+
+        indexes[CollationDataReader.IX_REORDER_CODES_OFFSET] = totalSize;
+        totalSize += reorderCodes.length * 4;
+
+        indexes[CollationDataReader.IX_REORDER_TABLE_OFFSET] = totalSize;
+        if(settings.reorderTable != null) {
+            totalSize += 256;
+        }
+
+        indexes[CollationDataReader.IX_TRIE_OFFSET] = totalSize;
+        if(hasMappings) {
+            // The trie size should be a multiple of 8 bytes due to the way
+            // compactIndex2(UNewTrie2 *trie) currently works.
+            totalSize += data.trie.getSerializedLength();
+        }
+
+        indexes[CollationDataReader.IX_RESERVED8_OFFSET] = totalSize;
+        indexes[CollationDataReader.IX_CES_OFFSET] = totalSize;
+        if(hasMappings && data.ces != null) {
+            totalSize += data.ces.length * 8;
+        }
+
+        indexes[CollationDataReader.IX_RESERVED10_OFFSET] = totalSize;
+        indexes[CollationDataReader.IX_CE32S_OFFSET] = totalSize;
+        if(hasMappings && data.ce32s != null) {
+            totalSize += data.ce32s.length * 4;
+        }
+
+        // No root elements in a tailoring.
+        indexes[CollationDataReader.IX_ROOT_ELEMENTS_OFFSET] = totalSize;
+
+        indexes[CollationDataReader.IX_CONTEXTS_OFFSET] = totalSize;
+        if(hasMappings && data.contexts != null) {
+            totalSize += data.contexts.length() * 2;
+        }
+
+        char[] unsafeBwd = null;
+        indexes[CollationDataReader.IX_UNSAFE_BWD_OFFSET] = totalSize;
+        if(hasMappings && !unsafeBackwardSet.isEmpty()) {
+            unsafeBwd = serialize(unsafeBackwardSet);
+            totalSize += unsafeBwd.length * 2;
+        }
+
+        boolean writeFastLatin = hasMappings && data.fastLatinTable != null &&
+                data.fastLatinTable != baseData.fastLatinTable;
+        indexes[CollationDataReader.IX_FAST_LATIN_TABLE_OFFSET] = totalSize;
+        if(writeFastLatin) {
+            totalSize += (data.fastLatinTableHeader.length + data.fastLatinTable.length) * 2;
+        }
+
+        // No script data and no compressible bytes in a tailoring.
+        indexes[CollationDataReader.IX_SCRIPTS_OFFSET] = totalSize;
+        indexes[CollationDataReader.IX_COMPRESSIBLE_BYTES_OFFSET] = totalSize;
+        indexes[CollationDataReader.IX_RESERVED18_OFFSET] = totalSize;
+        indexes[CollationDataReader.IX_TOTAL_SIZE] = totalSize;
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(headerSize + totalSize);
+        DataOutputStream dos = new DataOutputStream(bytes);
+        ICUBinary.writeHeader(DATA_FORMAT, FORMAT_VERSION, dataVersion, dos);
+        for(int i = 0; i < indexesLength; ++i) {
+            dos.writeInt(indexes[i]);
+        }
+        for(int i = 0; i < reorderCodes.length; ++i) {
+            dos.writeInt(reorderCodes[i]);
+        }
+        if(settings.reorderTable != null) {
+            dos.write(settings.reorderTable);
+        }
+        if(hasMappings) {
+            data.trie.serialize(dos);
+            if(data.ces != null) {
+                for(int i = 0; i < data.ces.length; ++i) {
+                    dos.writeLong(data.ces[i]);
+                }
+            }
+            if(data.ce32s != null) {
+                for(int i = 0; i < data.ce32s.length; ++i) {
+                    dos.writeInt(data.ce32s[i]);
+                }
+            }
+            if(data.contexts != null) {
+                dos.writeChars(data.contexts);
+            }
+            if(unsafeBwd != null) {
+                for(int i = 0; i < unsafeBwd.length; ++i) {
+                    dos.writeChar(unsafeBwd[i]);
+                }
+            }
+            if(writeFastLatin) {
+                for(int i = 0; i < data.fastLatinTableHeader.length; ++i) {
+                    dos.writeChar(data.fastLatinTableHeader[i]);
+                }
+                for(int i = 0; i < data.fastLatinTable.length; ++i) {
+                    dos.writeChar(data.fastLatinTable[i]);
+                }
+            }
+        }
+        dos.flush();
+        assert(bytes.size() == headerSize + totalSize);
+        return bytes.toByteArray();
+    }
+
+    /**
+     * The Java CollationData has a copy of the Jamo CE32s, rather than a pointer into ce32s[].
+     * Finds them in the ce32s[] where the CollationDataBuilder or the CollationDataReader
+     * got them from.
+     */
+    private static int findJamoCE32s(int[] ce32s, int[] jamoCE32s) {
+        int length = CollationData.JAMO_CE32S_LENGTH;
+        if(ce32s != null) {
+            outer:
+            for(int start = ce32s.length - length; start >= 0; --start) {
+                for(int i = 0; i < length; ++i) {
+                    if(ce32s[start + i] != jamoCE32s[i]) {
+                        continue outer;
+                    }
+                }
+                return start;
+            }
+        }
+        throw new IllegalStateException("Jamo CE32s not found in the ce32s");
+    }
+
+    /**
+     * Serializes the set in the format read by USerializedSet.
+     * Ported from C++ UnicodeSet::serialize().
+     */
+    private static char[] serialize(UnicodeSet set) {
+        // Build the inversion list from the ranges.
+        int rangeCount = set.getRangeCount();
+        int[] list = new int[rangeCount * 2];
+        int length = 0;
+        for(int i = 0; i < rangeCount; ++i) {
+            list[length++] = set.getRangeStart(i);
+            list[length++] = set.getRangeEnd(i) + 1;
+        }
+        if(length > 0 && list[length - 1] > 0x10ffff) {
+            // The C++ list does not contain the final UNICODESET_HIGH.
+            --length;
+        }
+        if(length == 0) {
+            // empty set
+            return new char[] { 0 };
+        }
+
+        int bmpLength;
+        int arrayLength;
+        if(list[length - 1] <= 0xffff) {
+            // all BMP
+            bmpLength = length;
+            arrayLength = length;
+        } else {
+            for(bmpLength = 0; bmpLength < length && list[bmpLength] <= 0xffff; ++bmpLength) {}
+            arrayLength = bmpLength + 2 * (length - bmpLength);
+        }
+        if(arrayLength > 0x7fff) {
+            // there are only 15 bits for the length in the first serialized word
+            throw new IndexOutOfBoundsException("UnicodeSet too large to serialize");
+        }
+
+        char[] dest = new char[arrayLength + ((arrayLength > bmpLength) ? 2 : 1)];
+        int destIndex = 0;
+        if(arrayLength > bmpLength) {
+            dest[destIndex++] = (char)(arrayLength | 0x8000);
+            dest[destIndex++] = (char)bmpLength;
+        } else {
+            dest[destIndex++] = (char)arrayLength;
+        }
+        int i = 0;
+        // write the BMP part of the array
+        for(; i < bmpLength; ++i) {
+            dest[destIndex++] = (char)list[i];
+        }
+        // write the supplementary part of the array
+        for(; i < length; ++i) {
+            dest[destIndex++] = (char)(list[i] >> 16);
+            dest[destIndex++] = (char)list[i];
+        }
+        return dest;
+    }
+
+    private static final int DATA_FORMAT = 0x55436f6c;  // "UCol"
+    private static final int FORMAT_VERSION = 0x05000000;
+
+    private CollationDataWriter() {}  // no constructor
+}
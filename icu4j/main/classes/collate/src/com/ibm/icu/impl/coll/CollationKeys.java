@@ -328,6 +328,18 @@ public final class CollationKeys /* all methods are static */ {
     public static void writeSortKeyUpToQuaternary(CollationIterator iter, boolean[] compressibleBytes,
             CollationSettings settings, SortKeyByteSink sink, int minLevel, LevelCallback callback,
             boolean preflight) {
+        writeSortKeyUpToQuaternary(iter, compressibleBytes, settings, sink,
+                minLevel, Collation.QUATERNARY_LEVEL, callback, preflight);
+    }
+
+    /**
+     * Same as the other writeSortKeyUpToQuaternary(), but also omits the levels above maxLevel.
+     * Unlike a callback that declines to write those levels, this avoids computing their weights.
+     * (Java addition, used for sort key prefixes.)
+     */
+    public static void writeSortKeyUpToQuaternary(CollationIterator iter, boolean[] compressibleBytes,
+            CollationSettings settings, SortKeyByteSink sink, int minLevel, int maxLevel,
+            LevelCallback callback, boolean preflight) {
 
         int options = settings.options;
         // Set of levels to process and write.
@@ -335,8 +347,9 @@ public final class CollationKeys /* all methods are static */ {
         if ((options & CollationSettings.CASE_LEVEL) != 0) {
             levels |= Collation.CASE_LEVEL_FLAG;
         }
-        // Minus the levels below minLevel.
+        // Minus the levels below minLevel and above maxLevel.
         levels &= ~((1 << minLevel) - 1);
+        levels &= (2 << maxLevel) - 1;
         if (levels == 0) {
             return;
         }
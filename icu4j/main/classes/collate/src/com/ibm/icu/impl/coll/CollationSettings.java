@@ -270,7 +270,7 @@ public final class CollationSettings extends SharedObject {
 
     public boolean hasReordering() { return reorderTable != null; }
 
-    private static boolean reorderTableHasSplitBytes(byte[] table) {
+    static boolean reorderTableHasSplitBytes(byte[] table) {
         assert(table[0] == 0);
         for(int i = 1; i < 256; ++i) {
             if(table[i] == 0) {
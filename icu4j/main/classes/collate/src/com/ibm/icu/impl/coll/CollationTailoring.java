@@ -29,7 +29,7 @@ import com.ibm.icu.util.VersionInfo;
  * The fields are public for convenience.
  */
 public final class CollationTailoring {
-    CollationTailoring(SharedObject.Reference<CollationSettings> baseSettings) {
+    public CollationTailoring(SharedObject.Reference<CollationSettings> baseSettings) {
         if(baseSettings != null) {
             assert(baseSettings.readOnly().reorderCodes.length == 0);
             assert(baseSettings.readOnly().reorderTable == null);
@@ -0,0 +1,173 @@
+/*
+ *******************************************************************************
+ * Copyright (C) 2015, International Business Machines Corporation and
+ * others. All Rights Reserved.
+ *******************************************************************************
+ */
+package com.ibm.icu.impl.coll;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+import com.ibm.icu.impl.ConcurrencyUtil;
+
+/**
+ * Stable merge sort of an array of int indexes, optionally in parallel.
+ * The caller supplies the order of the indexes, typically via sort keys
+ * or via strings that the indexes point to.
+ *
+ * Runs of the array are sorted as independent tasks, and then
+ * pairs of adjacent runs are merged in rounds, each merge being another task.
+ * The calling thread only waits for the tasks, so this works with any
+ * ExecutorService including bounded ones.
+ */
+public final class ParallelIndexSort /* all static */ {
+    /**
+     * Compares two indexes by what they stand for.
+     */
+    public static abstract class IndexComparator {
+        public abstract int compare(int left, int right);
+    }
+
+    /**
+     * Arrays shorter than this are sorted on the calling thread.
+     */
+    public static final int MIN_PARALLEL_LENGTH = 4096;
+
+    /**
+     * Runs shorter than this are sorted with insertion sort.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /**
+     * Returns the number of tasks into which to split work on length items,
+     * between 1 and parallelism.
+     */
+    public static int getTaskCount(int length, ExecutorService executor, int parallelism) {
+        if (executor == null || length < MIN_PARALLEL_LENGTH || parallelism <= 1) {
+            return 1;
+        }
+        return Math.max(1, Math.min(parallelism, length / (MIN_PARALLEL_LENGTH / 4)));
+    }
+
+    /**
+     * Sorts the indexes in place.
+     * @param indexes the array of indexes to be sorted
+     * @param cmp the comparator for the indexes; must be safe for concurrent use
+     *            if executor is not null
+     * @param executor the executor for parallel sorting, or null
+     * @param parallelism the desired number of concurrent tasks
+     */
+    public static void sort(final int[] indexes, final IndexComparator cmp,
+            ExecutorService executor, int parallelism) {
+        int length = indexes.length;
+        final int[] temp = new int[length];
+        int taskCount = getTaskCount(length, executor, parallelism);
+        if (taskCount == 1) {
+            mergeSort(indexes, temp, 0, length, cmp);
+            return;
+        }
+        // Sort runs of roughly equal length.
+        int[] limits = new int[taskCount + 1];
+        for (int i = 1; i <= taskCount; ++i) {
+            limits[i] = (int)(((long)length * i) / taskCount);
+        }
+        List<Callable<Object>> tasks = new ArrayList<Callable<Object>>(taskCount);
+        for (int i = 0; i < taskCount; ++i) {
+            final int start = limits[i];
+            final int limit = limits[i + 1];
+            tasks.add(new Callable<Object>() {
+                public Object call() {
+                    mergeSort(indexes, temp, start, limit, cmp);
+                    return null;
+                }
+            });
+        }
+        ConcurrencyUtil.invokeAll(executor, tasks, "sort tasks");
+        // Merge pairs of adjacent runs until there is only one.
+        int[] src = indexes;
+        int[] dest = temp;
+        int runCount = taskCount;
+        while (runCount > 1) {
+            tasks.clear();
+            int newRunCount = (runCount + 1) / 2;
+            int[] newLimits = new int[newRunCount + 1];
+            for (int i = 0; i < newRunCount; ++i) {
+                final int start = limits[2 * i];
+                final int middle = limits[Math.min(2 * i + 1, runCount)];
+                final int limit = limits[Math.min(2 * i + 2, runCount)];
+                newLimits[i + 1] = limit;
+                final int[] from = src;
+                final int[] to = dest;
+                tasks.add(new Callable<Object>() {
+                    public Object call() {
+                        merge(from, to, start, middle, limit, cmp);
+                        return null;
+                    }
+                });
+            }
+            ConcurrencyUtil.invokeAll(executor, tasks, "sort tasks");
+            limits = newLimits;
+            runCount = newRunCount;
+            int[] swap = src;
+            src = dest;
+            dest = swap;
+        }
+        if (src != indexes) {
+            System.arraycopy(src, 0, indexes, 0, length);
+        }
+    }
+
+    /**
+     * Stable merge sort of a[start..limit[, using temp[start..limit[ as scratch space.
+     */
+    private static void mergeSort(int[] a, int[] temp, int start, int limit, IndexComparator cmp) {
+        if ((limit - start) <= INSERTION_SORT_THRESHOLD) {
+            for (int i = start + 1; i < limit; ++i) {
+                int x = a[i];
+                int j = i;
+                while (j > start && cmp.compare(a[j - 1], x) > 0) {
+                    a[j] = a[j - 1];
+                    --j;
+                }
+                a[j] = x;
+            }
+            return;
+        }
+        int middle = (start + limit) >>> 1;
+        mergeSort(a, temp, start, middle, cmp);
+        mergeSort(a, temp, middle, limit, cmp);
+        if (cmp.compare(a[middle - 1], a[middle]) <= 0) {
+            return;  // already in order
+        }
+        System.arraycopy(a, start, temp, start, limit - start);
+        merge(temp, a, start, middle, limit, cmp);
+    }
+
+    /**
+     * Merges the sorted runs src[start..middle[ and src[middle..limit[
+     * into dest[start..limit[. Equal elements from the first run come first.
+     */
+    private static void merge(int[] src, int[] dest, int start, int middle, int limit,
+            IndexComparator cmp) {
+        int i = start;
+        int j = middle;
+        int k = start;
+        while (i < middle && j < limit) {
+            if (cmp.compare(src[i], src[j]) <= 0) {
+                dest[k++] = src[i++];
+            } else {
+                dest[k++] = src[j++];
+            }
+        }
+        if (i < middle) {
+            System.arraycopy(src, i, dest, k, middle - i);
+        } else if (j < limit) {
+            System.arraycopy(src, j, dest, k, limit - j);
+        }
+    }
+
+    private ParallelIndexSort() {}  // no instantiation
+}
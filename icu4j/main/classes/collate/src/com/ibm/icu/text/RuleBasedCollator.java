@@ -6,15 +6,21 @@
  */
 package com.ibm.icu.text;
 
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
 import java.text.CharacterIterator;
 import java.text.ParseException;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import com.ibm.icu.impl.ClassLoaderUtil;
+import com.ibm.icu.impl.ConcurrencyUtil;
 import com.ibm.icu.impl.Normalizer2Impl;
 import com.ibm.icu.impl.Normalizer2Impl.ReorderingBuffer;
 import com.ibm.icu.impl.Utility;
@@ -22,6 +28,8 @@ import com.ibm.icu.impl.coll.BOCSU;
 import com.ibm.icu.impl.coll.Collation;
 import com.ibm.icu.impl.coll.CollationCompare;
 import com.ibm.icu.impl.coll.CollationData;
+import com.ibm.icu.impl.coll.CollationDataReader;
+import com.ibm.icu.impl.coll.CollationDataWriter;
 import com.ibm.icu.impl.coll.CollationFastLatin;
 import com.ibm.icu.impl.coll.CollationIterator;
 import com.ibm.icu.impl.coll.CollationKeys;
@@ -32,10 +40,12 @@ import com.ibm.icu.impl.coll.CollationSettings;
 import com.ibm.icu.impl.coll.CollationTailoring;
 import com.ibm.icu.impl.coll.ContractionsAndExpansions;
 import com.ibm.icu.impl.coll.FCDUTF16CollationIterator;
+import com.ibm.icu.impl.coll.ParallelIndexSort;
 import com.ibm.icu.impl.coll.SharedObject;
 import com.ibm.icu.impl.coll.TailoredSet;
 import com.ibm.icu.impl.coll.UTF16CollationIterator;
 import com.ibm.icu.lang.UScript;
+import com.ibm.icu.util.ByteArrayWrapper;
 import com.ibm.icu.util.ULocale;
 import com.ibm.icu.util.VersionInfo;
 
@@ -223,6 +233,30 @@ public final class RuleBasedCollator extends Collator {
         internalBuildTailoring(rules);
     }
 
+    /**
+     * Creates a collator from binary tailoring data as returned by {@link #cloneBinary()}.
+     * This is much faster than building the collator from its rules,
+     * and the data may be read from a memory-mapped file.
+     * The binary data must have been written by the same version of ICU.
+     * The resulting collator does not have a rule string: {@link #getRules()} returns
+     * an empty string.
+     *
+     * @param bin the binary tailoring data, from its position to its limit.
+     *            The buffer's position and other state are not modified.
+     * @throws IOException if the data is not binary collator data or
+     *                     if its version is not supported
+     * @see #cloneBinary()
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public RuleBasedCollator(ByteBuffer bin) throws IOException {
+        CollationTailoring base = CollationRoot.getRoot();
+        CollationTailoring t = new CollationTailoring(base.settings);
+        CollationDataReader.read(base, bin.slice(), t);
+        t.actualLocale = null;
+        adoptTailoring(t);
+    }
+
     /**
      * Implements from-rule constructors.
      * @param rules rule string
@@ -264,6 +298,21 @@ public final class RuleBasedCollator extends Collator {
         return cloneAsThawed();
     }
 
+    /**
+     * Serializes the collator's fully built data and current attribute settings
+     * into a compact binary image, so that it can be re-created quickly
+     * with {@link #RuleBasedCollator(ByteBuffer)}, for example in another process.
+     * The image does not contain the rule string. It is only valid for the same version of ICU.
+     *
+     * @return the binary tailoring data
+     * @see #RuleBasedCollator(ByteBuffer)
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public byte[] cloneBinary() {
+        return CollationDataWriter.writeTailoring(tailoring, settings.readOnly());
+    }
+
     private final void initMaxExpansions() {
         synchronized(tailoring) {
             if (tailoring.maxExpansions == null) {
@@ -320,7 +369,7 @@ public final class RuleBasedCollator extends Collator {
      */
     @Override
     public boolean isFrozen() {
-        return frozenLock != null;
+        return frozenBuffers != null;
     }
 
     /**
@@ -331,10 +380,8 @@ public final class RuleBasedCollator extends Collator {
     @Override
     public Collator freeze() {
         if (!isFrozen()) {
-            frozenLock = new ReentrantLock();
-            if (collationBuffer == null) {
-                collationBuffer = new CollationBuffer(data);
-            }
+            frozenBuffers = new CollationBufferPool(data, collationBuffer);
+            collationBuffer = null;
         }
         return this;
     }
@@ -352,7 +399,7 @@ public final class RuleBasedCollator extends Collator {
             // except in cases where we can't
             result.settings = settings.clone();
             result.collationBuffer = null;
-            result.frozenLock = null;
+            result.frozenBuffers = null;
             return result;
         } catch (CloneNotSupportedException e) {
             // Clone is implemented
@@ -1116,8 +1163,329 @@ public final class RuleBasedCollator extends Collator {
         }
     }
 
+    /**
+     * Writes the null-terminated sort keys for all of the source strings
+     * into one contiguous byte array.
+     * The result is the same as calling {@link #getRawCollationKey(String, RawCollationKey)}
+     * for each string and concatenating the keys, but the collator's internal buffers
+     * are acquired only once, and no objects are created per string.
+     *
+     * <p>The key for sources[i] occupies dest.bytes[offsets[i]] up to but excluding
+     * dest.bytes[offsets[i+1]], including its terminating zero byte.
+     * offsets[sources.length] is set to the total length, which is also stored in dest.size.
+     *
+     * @param sources the strings to be transformed into sort keys; must not contain null
+     * @param offsets output array for the key boundaries; must have at least sources.length+1 elements
+     * @param dest output byte array wrapper; its byte array is reused and grown as necessary.
+     *             If dest is null, a new ByteArrayWrapper is created.
+     * @return dest, or a new ByteArrayWrapper if dest is null
+     * @throws IllegalArgumentException if offsets is too short
+     * @see #getRawCollationKey(String, RawCollationKey)
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public ByteArrayWrapper getRawCollationKeys(CharSequence[] sources, int[] offsets,
+            ByteArrayWrapper dest) {
+        return getRawCollationKeys(Arrays.asList(sources), offsets, dest);
+    }
+
+    /**
+     * Writes the null-terminated sort keys for all of the source strings
+     * into one contiguous byte array.
+     * See {@link #getRawCollationKeys(CharSequence[], int[], ByteArrayWrapper)}.
+     *
+     * @param sources the strings to be transformed into sort keys; must not contain null
+     * @param offsets output array for the key boundaries; must have at least sources.size()+1 elements
+     * @param dest output byte array wrapper; its byte array is reused and grown as necessary.
+     *             If dest is null, a new ByteArrayWrapper is created.
+     * @return dest, or a new ByteArrayWrapper if dest is null
+     * @throws IllegalArgumentException if offsets is too short
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public ByteArrayWrapper getRawCollationKeys(List<? extends CharSequence> sources, int[] offsets,
+            ByteArrayWrapper dest) {
+        if (offsets.length <= sources.size()) {
+            throw new IllegalArgumentException(
+                    "offsets must have room for " + (sources.size() + 1) + " elements");
+        }
+        if (dest == null) {
+            dest = new ByteArrayWrapper();
+        }
+        if (dest.bytes == null) {
+            int capacity = 0;
+            for (CharSequence s : sources) {
+                capacity += simpleKeyLengthEstimate(s);
+            }
+            dest.bytes = new byte[capacity];
+        }
+        CollationBuffer buffer = null;
+        try {
+            buffer = getCollationBuffer();
+            CollationSettings roSettings = settings.readOnly();
+            CollationKeyByteSink sink = new CollationKeyByteSink(dest);
+            int i = 0;
+            for (CharSequence s : sources) {
+                offsets[i++] = sink.NumberOfBytesAppended();
+                writeSortKey(s, roSettings, sink, buffer);
+            }
+            offsets[i] = dest.size = sink.NumberOfBytesAppended();
+        } finally {
+            releaseCollationBuffer(buffer);
+        }
+        return dest;
+    }
+
+    /**
+     * Writes a prefix of the sort key for the source string into the dest array,
+     * computing only as much of the key as needed.
+     * At most dest.length bytes are written, and only the levels up to the given strength.
+     * For example, with strength PRIMARY and an 8-byte array, this yields the first
+     * primary weight bytes, which is useful for bucketing and range partitioning.
+     *
+     * <p>If the key for the requested levels fits, then it is complete and
+     * null-terminated as in a RawCollationKey. Otherwise it is truncated.
+     * Comparing two such prefixes as unsigned byte strings is consistent with this
+     * collator's order: If one prefix is less than the other, then so is its string,
+     * unless the prefixes are equal up to the shorter length.
+     *
+     * <p>The levels are also limited by this collator's strength.
+     * The case level is written only for strength TERTIARY or higher.
+     * The identical level is written only if both this collator's strength and the
+     * requested strength are IDENTICAL; in this case the full key is computed.
+     *
+     * @param source the text to be transformed into a sort key prefix
+     * @param strength the highest level to be written: PRIMARY, SECONDARY, TERTIARY,
+     *                 QUATERNARY or IDENTICAL
+     * @param dest output array; its length is the maximum number of bytes to be written
+     * @return the number of bytes written to dest
+     * @throws IllegalArgumentException if the strength value is not valid
+     * @see #getRawCollationKey(String, RawCollationKey)
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public int getSortKeyPrefix(CharSequence source, int strength, byte[] dest) {
+        int maxLevel;
+        switch(strength) {
+        case PRIMARY:
+            maxLevel = Collation.PRIMARY_LEVEL;
+            break;
+        case SECONDARY:
+            maxLevel = Collation.SECONDARY_LEVEL;
+            break;
+        case TERTIARY:
+            maxLevel = Collation.TERTIARY_LEVEL;
+            break;
+        case QUATERNARY:
+            maxLevel = Collation.QUATERNARY_LEVEL;
+            break;
+        case IDENTICAL:
+            maxLevel = Collation.IDENTICAL_LEVEL;
+            break;
+        default:
+            throw new IllegalArgumentException("illegal strength value " + strength);
+        }
+        CollationSettings roSettings = settings.readOnly();
+        CollationBuffer buffer = null;
+        try {
+            buffer = getCollationBuffer();
+            if(maxLevel == Collation.IDENTICAL_LEVEL && roSettings.getStrength() == IDENTICAL) {
+                // The identical level is written with BOCSU into a growable key.
+                RawCollationKey key = getRawCollationKey(source, buffer.rawCollationKey, buffer);
+                buffer.rawCollationKey = key;
+                int length = Math.min(key.size, dest.length);
+                System.arraycopy(key.bytes, 0, dest, 0, length);
+                return length;
+            }
+            PrefixByteSink sink = new PrefixByteSink(dest);
+            // Without preflighting, the primary level stops as soon as dest is full.
+            writeSortKeyUpToQuaternary(source, roSettings, sink,
+                    Math.min(maxLevel, Collation.QUATERNARY_LEVEL), false, buffer);
+            sink.Append(Collation.TERMINATOR_BYTE);
+            return Math.min(sink.NumberOfBytesAppended(), dest.length);
+        } finally {
+            releaseCollationBuffer(buffer);
+        }
+    }
+
+    /**
+     * Fixed-capacity sink that drops the bytes which do not fit.
+     */
+    private static final class PrefixByteSink extends SortKeyByteSink {
+        PrefixByteSink(byte[] dest) {
+            super(dest);
+        }
+
+        @Override
+        protected void AppendBeyondCapacity(byte[] bytes, int start, int n, int length) {
+            int available = buffer_.length - length;
+            if (available > 0) {
+                System.arraycopy(bytes, start, buffer_, length, available);
+            }
+        }
+
+        @Override
+        protected boolean Resize(int appendCapacity, int length) {
+            return false;
+        }
+    }
+
+    /**
+     * Sorts the strings in place according to this collator.
+     * The sort is stable: Strings that compare equal keep their relative order.
+     *
+     * <p>Rather than comparing strings pairwise, this computes the sort key of
+     * each string once and then sorts by comparing the key bytes,
+     * which is much faster for large arrays.
+     * When this collator's fast Latin data covers all of the strings,
+     * they are compared directly without building sort keys.
+     *
+     * <p>If an executor is supplied, then the sort keys are built and sorted
+     * in parallel on it. An unfrozen collator is not modified in this case;
+     * a frozen clone is used by the tasks.
+     *
+     * @param items the strings to be sorted; must not contain null
+     * @param executor the executor for parallel work, or null to run on the calling thread
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public <T extends CharSequence> void sort(final T[] items, ExecutorService executor) {
+        int length = items.length;
+        if (length < 2) {
+            return;
+        }
+        final RuleBasedCollator coll;
+        if (executor == null || isFrozen()) {
+            coll = this;
+        } else {
+            coll = cloneAsThawed();
+            coll.freeze();
+        }
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        ParallelIndexSort.IndexComparator cmp;
+        if (coll.isFastLatinSortable(items)) {
+            final CollationSettings roSettings = coll.settings.readOnly();
+            final char[] table = coll.data.fastLatinTable;
+            cmp = new ParallelIndexSort.IndexComparator() {
+                @Override
+                public int compare(int left, int right) {
+                    int result = CollationFastLatin.compareUTF16(table,
+                            roSettings.fastLatinPrimaries, roSettings.fastLatinOptions,
+                            items[left], items[right], 0);
+                    if (result == CollationFastLatin.BAIL_OUT_RESULT) {
+                        result = coll.doCompare(items[left], items[right]);
+                    }
+                    return result;
+                }
+            };
+        } else {
+            final int[] offsets = new int[length + 1];
+            final byte[] keys = coll.getSortKeyArena(items, offsets, executor, parallelism);
+            cmp = new ParallelIndexSort.IndexComparator() {
+                @Override
+                public int compare(int left, int right) {
+                    return compareSortKeys(keys, offsets[left], offsets[right]);
+                }
+            };
+        }
+        int[] indexes = new int[length];
+        for (int i = 0; i < length; ++i) {
+            indexes[i] = i;
+        }
+        ParallelIndexSort.sort(indexes, cmp, executor, parallelism);
+        T[] unsorted = items.clone();
+        for (int i = 0; i < length; ++i) {
+            items[i] = unsorted[indexes[i]];
+        }
+    }
+
+    /**
+     * Returns true if all of the strings are within the fast Latin range,
+     * so that sorting can compare them directly rather than build sort keys.
+     */
+    private boolean isFastLatinSortable(CharSequence[] items) {
+        CollationSettings roSettings = settings.readOnly();
+        if (roSettings.fastLatinOptions < 0 || roSettings.getStrength() == IDENTICAL) {
+            return false;
+        }
+        for (CharSequence s : items) {
+            for (int i = 0; i < s.length(); ++i) {
+                if (s.charAt(i) > CollationFastLatin.LATIN_MAX) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes the sort keys for all of the strings into one byte array,
+     * building them in parallel if an executor is supplied.
+     * Requires a frozen collator if executor is not null.
+     */
+    private byte[] getSortKeyArena(CharSequence[] items, int[] offsets,
+            ExecutorService executor, int parallelism) {
+        int length = items.length;
+        int taskCount = ParallelIndexSort.getTaskCount(length, executor, parallelism);
+        if (taskCount == 1) {
+            return getRawCollationKeys(items, offsets, null).bytes;
+        }
+        final List<CharSequence> list = Arrays.asList(items);
+        final int[] limits = new int[taskCount + 1];
+        final int[][] chunkOffsets = new int[taskCount][];
+        final ByteArrayWrapper[] chunkKeys = new ByteArrayWrapper[taskCount];
+        List<Callable<Object>> tasks = new ArrayList<Callable<Object>>(taskCount);
+        for (int i = 0; i < taskCount; ++i) {
+            limits[i + 1] = (int)(((long)length * (i + 1)) / taskCount);
+            final int chunk = i;
+            tasks.add(new Callable<Object>() {
+                public Object call() {
+                    List<CharSequence> sources = list.subList(limits[chunk], limits[chunk + 1]);
+                    chunkOffsets[chunk] = new int[sources.size() + 1];
+                    chunkKeys[chunk] = getRawCollationKeys(sources, chunkOffsets[chunk], null);
+                    return null;
+                }
+            });
+        }
+        ConcurrencyUtil.invokeAll(executor, tasks, "sort key tasks");
+        // Concatenate the chunks and rebase their offsets.
+        int total = 0;
+        for (int i = 0; i < taskCount; ++i) {
+            total += chunkKeys[i].size;
+        }
+        byte[] keys = new byte[total];
+        int keysLength = 0;
+        for (int i = 0; i < taskCount; ++i) {
+            System.arraycopy(chunkKeys[i].bytes, 0, keys, keysLength, chunkKeys[i].size);
+            int[] o = chunkOffsets[i];
+            for (int j = limits[i]; j < limits[i + 1]; ++j) {
+                offsets[j] = keysLength + o[j - limits[i]];
+            }
+            keysLength += chunkKeys[i].size;
+        }
+        offsets[length] = keysLength;
+        return keys;
+    }
+
+    /**
+     * Compares two null-terminated sort keys in the same byte array
+     * as unsigned byte strings.
+     */
+    private static int compareSortKeys(byte[] keys, int left, int right) {
+        for (;;) {
+            int l = keys[left++] & 0xff;
+            int r = keys[right++] & 0xff;
+            if (l != r) {
+                return l < r ? Collation.LESS : Collation.GREATER;
+            }
+            if (l == Collation.TERMINATOR_BYTE) {
+                return Collation.EQUAL;
+            }
+        }
+    }
+
     private static final class CollationKeyByteSink extends SortKeyByteSink {
-        CollationKeyByteSink(RawCollationKey key) {
+        CollationKeyByteSink(ByteArrayWrapper key) {
             super(key.bytes);
             key_ = key;
         }
@@ -1149,7 +1517,7 @@ public final class RuleBasedCollator extends Collator {
             return true;
         }
 
-        private RawCollationKey key_;
+        private ByteArrayWrapper key_;
     }
 
     private RawCollationKey getRawCollationKey(CharSequence source, RawCollationKey key, CollationBuffer buffer) {
@@ -1159,7 +1527,7 @@ public final class RuleBasedCollator extends Collator {
             key.bytes = new byte[simpleKeyLengthEstimate(source)];
         }
         CollationKeyByteSink sink = new CollationKeyByteSink(key);
-        writeSortKey(source, sink, buffer);
+        writeSortKey(source, settings.readOnly(), sink, buffer);
         key.size = sink.NumberOfBytesAppended();
         return key;
     }
@@ -1168,25 +1536,31 @@ public final class RuleBasedCollator extends Collator {
         return 2 * source.length() + 10;
     }
 
-    private void writeSortKey(CharSequence s, CollationKeyByteSink sink, CollationBuffer buffer) {
-        boolean numeric = settings.readOnly().isNumeric();
-        if(settings.readOnly().dontCheckFCD()) {
+    private void writeSortKey(CharSequence s, CollationSettings roSettings,
+            CollationKeyByteSink sink, CollationBuffer buffer) {
+        writeSortKeyUpToQuaternary(s, roSettings, sink, Collation.QUATERNARY_LEVEL, true, buffer);
+        if(roSettings.getStrength() == IDENTICAL) {
+            writeIdenticalLevel(s, sink);
+        }
+        sink.Append(Collation.TERMINATOR_BYTE);
+    }
+
+    private void writeSortKeyUpToQuaternary(CharSequence s, CollationSettings roSettings,
+            SortKeyByteSink sink, int maxLevel, boolean preflight, CollationBuffer buffer) {
+        boolean numeric = roSettings.isNumeric();
+        if(roSettings.dontCheckFCD()) {
             buffer.leftUTF16CollIter.setText(numeric, s, 0);
             CollationKeys.writeSortKeyUpToQuaternary(
-                    buffer.leftUTF16CollIter, data.compressibleBytes, settings.readOnly(),
-                    sink, Collation.PRIMARY_LEVEL,
-                    CollationKeys.SIMPLE_LEVEL_FALLBACK, true);
+                    buffer.leftUTF16CollIter, data.compressibleBytes, roSettings,
+                    sink, Collation.PRIMARY_LEVEL, maxLevel,
+                    CollationKeys.SIMPLE_LEVEL_FALLBACK, preflight);
         } else {
             buffer.leftFCDUTF16Iter.setText(numeric, s, 0);
             CollationKeys.writeSortKeyUpToQuaternary(
-                    buffer.leftFCDUTF16Iter, data.compressibleBytes, settings.readOnly(),
-                    sink, Collation.PRIMARY_LEVEL,
-                    CollationKeys.SIMPLE_LEVEL_FALLBACK, true);
-        }
-        if(settings.readOnly().getStrength() == IDENTICAL) {
-            writeIdenticalLevel(s, sink);
+                    buffer.leftFCDUTF16Iter, data.compressibleBytes, roSettings,
+                    sink, Collation.PRIMARY_LEVEL, maxLevel,
+                    CollationKeys.SIMPLE_LEVEL_FALLBACK, preflight);
         }
-        sink.Append(Collation.TERMINATOR_BYTE);
     }
 
     private void writeIdenticalLevel(CharSequence s, CollationKeyByteSink sink) {
@@ -1770,8 +2144,10 @@ public final class RuleBasedCollator extends Collator {
 
     /**
      * Frozen state of the collator.
+     * A frozen collator hands out CollationBuffers from this pool
+     * rather than serializing all threads through a single buffer.
      */
-    private Lock frozenLock;
+    private CollationBufferPool frozenBuffers;
 
     private static final class CollationBuffer {
         private CollationBuffer(CollationData data) {
@@ -1798,6 +2174,66 @@ public final class RuleBasedCollator extends Collator {
         RawCollationKey rawCollationKey;
     }
 
+    /**
+     * Lock-free pool of CollationBuffers for a frozen collator.
+     * Each thread starts probing at a slot derived from its ID,
+     * so that concurrent threads mostly work with different slots.
+     * When all probed slots are in use, a new buffer is created;
+     * when all probed slots are occupied on release, the buffer is dropped.
+     * In the steady state the pool holds about one buffer per concurrently
+     * collating thread, and acquiring and releasing one does not allocate.
+     */
+    private static final class CollationBufferPool {
+        CollationBufferPool(CollationData d, CollationBuffer initial) {
+            data = d;
+            int capacity = MIN_CAPACITY;
+            int limit = 2 * Runtime.getRuntime().availableProcessors();
+            while (capacity < limit && capacity < MAX_CAPACITY) {
+                capacity <<= 1;
+            }
+            slots = new AtomicReferenceArray<CollationBuffer>(capacity);
+            mask = capacity - 1;
+            slots.set(0, initial != null ? initial : new CollationBuffer(d));
+        }
+
+        CollationBuffer acquire() {
+            int start = startIndex();
+            for (int i = 0; i < MAX_PROBES; ++i) {
+                int index = (start + i) & mask;
+                if (slots.get(index) != null) {
+                    CollationBuffer buffer = slots.getAndSet(index, null);
+                    if (buffer != null) {
+                        return buffer;
+                    }
+                }
+            }
+            return new CollationBuffer(data);
+        }
+
+        void release(CollationBuffer buffer) {
+            int start = startIndex();
+            for (int i = 0; i < MAX_PROBES; ++i) {
+                if (slots.compareAndSet((start + i) & mask, null, buffer)) {
+                    return;
+                }
+            }
+        }
+
+        private int startIndex() {
+            long id = Thread.currentThread().getId();
+            // Fibonacci hashing spreads sequential thread IDs across the slots.
+            return ((int)id * 0x9e3779b9) >>> 16;
+        }
+
+        private static final int MIN_CAPACITY = 4;
+        private static final int MAX_CAPACITY = 256;
+        private static final int MAX_PROBES = 4;
+
+        private final CollationData data;
+        private final AtomicReferenceArray<CollationBuffer> slots;
+        private final int mask;
+    }
+
     /**
      * Get the version of this collator object.
      * 
@@ -1836,7 +2272,7 @@ public final class RuleBasedCollator extends Collator {
 
     private final CollationBuffer getCollationBuffer() {
         if (isFrozen()) {
-            frozenLock.lock();
+            return frozenBuffers.acquire();
         } else if (collationBuffer == null) {
             collationBuffer = new CollationBuffer(data);
         }
@@ -1844,8 +2280,8 @@ public final class RuleBasedCollator extends Collator {
     }
 
     private final void releaseCollationBuffer(CollationBuffer buffer) {
-        if (isFrozen()) {
-            frozenLock.unlock();
+        if (isFrozen() && buffer != null) {
+            frozenBuffers.release(buffer);
         }
     }
 
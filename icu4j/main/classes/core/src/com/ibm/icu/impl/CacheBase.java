@@ -1,6 +1,6 @@
 /*
 *******************************************************************************
-*   Copyright (C) 2010, International Business Machines
+*   Copyright (C) 2010-2015, International Business Machines
 *   Corporation and others.  All Rights Reserved.
 *******************************************************************************
 */
@@ -20,6 +20,22 @@ package com.ibm.icu.impl;
  * @author Markus Scherer, Mark Davis
  */
 public abstract class CacheBase<K, V, D> {
+    /**
+     * Counters for this cache, or null if CacheMetrics are disabled.
+     */
+    final CacheMetrics metrics;
+
+    protected CacheBase() {
+        metrics = CacheMetrics.forCache(getClass().getName());
+    }
+
+    /**
+     * Constructor for a cache which implements another one, sharing its counters.
+     */
+    CacheBase(CacheMetrics metrics) {
+        this.metrics = metrics;
+    }
+
     /**
      * Retrieves an instance from the cache. Calls createInstance(key, data) if the cache
      * does not already contain an instance with this key.
@@ -36,4 +52,28 @@ public abstract class CacheBase<K, V, D> {
      * @return The requested instance
      */
     protected abstract V createInstance(K key, D data);
+
+    /**
+     * Counts a cache hit if metrics are enabled.
+     */
+    final void recordHit() {
+        if (metrics != null) {
+            metrics.recordHit();
+        }
+    }
+
+    /**
+     * Calls createInstance() for a cache miss,
+     * and records the miss and the creation time if metrics are enabled.
+     */
+    final V createInstanceForMiss(K key, D data) {
+        if (metrics == null) {
+            return createInstance(key, data);
+        }
+        metrics.recordMiss();
+        long start = System.nanoTime();
+        V value = createInstance(key, data);
+        metrics.recordLoad(System.nanoTime() - start);
+        return value;
+    }
 }
@@ -0,0 +1,203 @@
+/*
+*******************************************************************************
+*   Copyright (C) 2015, International Business Machines
+*   Corporation and others.  All Rights Reserved.
+*******************************************************************************
+*/
+package com.ibm.icu.impl;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Hit, miss, eviction and load-time counters for ICU's internal caches,
+ * and a registry of them by cache name.
+ *
+ * Counting is off unless the ICUConfig property com.ibm.icu.impl.CacheMetrics.enabled
+ * is true. When it is off, forCache() returns null and the caches skip all counting.
+ * When it is on, each event costs one uncontended atomic addition:
+ * The counters are striped by thread so that concurrent cache hits
+ * do not contend on one memory location.
+ *
+ * Caches register themselves by name: CacheBase subclasses by class name,
+ * SimpleCache instances by the class and line that created them,
+ * and ICUService instances by service name. Caches with the same name share counters.
+ */
+public final class CacheMetrics {
+    /**
+     * true if cache metrics are being collected.
+     */
+    public static final boolean ENABLED =
+        "true".equalsIgnoreCase(ICUConfig.get("com.ibm.icu.impl.CacheMetrics.enabled", "false").trim());
+
+    private static final ConcurrentHashMap<String, CacheMetrics> REGISTRY =
+        new ConcurrentHashMap<String, CacheMetrics>();
+
+    /**
+     * Returns the counters for the named cache, registering them if necessary.
+     * @param name the cache name
+     * @return the counters, or null if cache metrics are disabled
+     */
+    public static CacheMetrics forCache(String name) {
+        if (!ENABLED) {
+            return null;
+        }
+        return getInstance(name);
+    }
+
+    /**
+     * Returns the counters for the named cache, registering them if necessary,
+     * regardless of whether cache metrics are enabled.
+     * @param name the cache name
+     * @return the counters
+     */
+    public static CacheMetrics getInstance(String name) {
+        CacheMetrics metrics = REGISTRY.get(name);
+        if (metrics == null) {
+            metrics = new CacheMetrics(name);
+            CacheMetrics old = REGISTRY.putIfAbsent(name, metrics);
+            if (old != null) {
+                metrics = old;
+            }
+        }
+        return metrics;
+    }
+
+    /**
+     * Returns the counters of all registered caches, sorted by name.
+     * The returned map is a copy, but its values are the live counters.
+     */
+    public static Map<String, CacheMetrics> getAll() {
+        return new TreeMap<String, CacheMetrics>(REGISTRY);
+    }
+
+    /**
+     * Resets the counters of all registered caches.
+     */
+    public static void resetAll() {
+        for (CacheMetrics metrics : REGISTRY.values()) {
+            metrics.reset();
+        }
+    }
+
+    /**
+     * Returns a name for a cache of the given class, derived from the code which
+     * is creating it, in the form className:lineNumber.
+     * Must be called during construction of the cache.
+     */
+    static String getCreatorName(Class<?> cacheClass) {
+        StackTraceElement[] stack = new Throwable().getStackTrace();
+        String cacheClassName = cacheClass.getName();
+        // Skip this method and the cache's (possibly chained) constructors.
+        int i = 1;
+        while (i < stack.length && stack[i].getClassName().equals(cacheClassName)) {
+            ++i;
+        }
+        if (i == stack.length) {
+            return cacheClassName;
+        }
+        return stack[i].getClassName() + ':' + stack[i].getLineNumber();
+    }
+
+    private CacheMetrics(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /** Counts a lookup which found a cached instance. */
+    public void recordHit() {
+        add(HITS, 1);
+    }
+
+    /** Counts a lookup which did not find a cached instance. */
+    public void recordMiss() {
+        add(MISSES, 1);
+    }
+
+    /** Counts a cached instance which was evicted or released by the garbage collector. */
+    public void recordEviction() {
+        add(EVICTIONS, 1);
+    }
+
+    /**
+     * Counts the creation of an instance for the cache.
+     * @param nanos the time it took, in nanoseconds
+     */
+    public void recordLoad(long nanos) {
+        int base = stripeBase();
+        counters.incrementAndGet(base + LOADS);
+        counters.addAndGet(base + LOAD_NANOS, nanos);
+    }
+
+    public long getHitCount() {
+        return sum(HITS);
+    }
+
+    public long getMissCount() {
+        return sum(MISSES);
+    }
+
+    public long getEvictionCount() {
+        return sum(EVICTIONS);
+    }
+
+    public long getLoadCount() {
+        return sum(LOADS);
+    }
+
+    /**
+     * @return the total time spent creating instances, in nanoseconds
+     */
+    public long getTotalLoadNanos() {
+        return sum(LOAD_NANOS);
+    }
+
+    public void reset() {
+        for (int i = 0; i < counters.length(); ++i) {
+            counters.set(i, 0);
+        }
+    }
+
+    @Override
+    public String toString() {
+        long loads = getLoadCount();
+        return name + ": hits=" + getHitCount() + " misses=" + getMissCount() +
+            " evictions=" + getEvictionCount() + " loads=" + loads +
+            " avgLoadMicros=" + (loads == 0 ? 0 : getTotalLoadNanos() / loads / 1000);
+    }
+
+    private void add(int counter, long delta) {
+        counters.addAndGet(stripeBase() + counter, delta);
+    }
+
+    private long sum(int counter) {
+        long sum = 0;
+        for (int i = counter; i < counters.length(); i += STRIDE) {
+            sum += counters.get(i);
+        }
+        return sum;
+    }
+
+    private static int stripeBase() {
+        int h = (int)Thread.currentThread().getId() * 0x9e3779b9;
+        return ((h >>> 16) & (STRIPES - 1)) * STRIDE;
+    }
+
+    // Counter indexes within a stripe.
+    private static final int HITS = 0;
+    private static final int MISSES = 1;
+    private static final int EVICTIONS = 2;
+    private static final int LOADS = 3;
+    private static final int LOAD_NANOS = 4;
+    // Each stripe spans a 64-byte cache line, so that stripes do not share lines.
+    private static final int STRIDE = 8;
+    private static final int STRIPES = 16;
+
+    private final String name;
+    private final AtomicLongArray counters = new AtomicLongArray(STRIPES * STRIDE);
+}
@@ -0,0 +1,86 @@
+/*
+ *******************************************************************************
+ * Copyright (C) 2015, International Business Machines Corporation and
+ * others. All Rights Reserved.
+ *******************************************************************************
+ */
+package com.ibm.icu.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Runs tasks and waits for their results, for ICU code which splits work
+ * across an ExecutorService.
+ * A RuntimeException or Error thrown by a task is rethrown as is.
+ * Other exceptions are wrapped in an IllegalStateException, as is an interruption
+ * of the waiting thread, after restoring its interrupted status.
+ */
+public final class ConcurrencyUtil /* all static */ {
+    private ConcurrencyUtil() {}
+
+    /**
+     * Runs the tasks on the executor, waits for all of them,
+     * and returns their results in the order of the tasks.
+     * @param executor the executor for the tasks
+     * @param tasks the tasks
+     * @param what describes the tasks, for the message of an interruption exception
+     * @return the results of the tasks
+     */
+    public static <T> List<T> invokeAll(ExecutorService executor,
+            Collection<? extends Callable<T>> tasks, String what) {
+        List<T> results = new ArrayList<T>(tasks.size());
+        List<Future<T>> futures;
+        try {
+            futures = executor.invokeAll(tasks);
+        } catch (InterruptedException e) {
+            throw interrupted(what, e);
+        }
+        for (Future<T> f : futures) {
+            results.add(getResult(f, what));
+        }
+        return results;
+    }
+
+    /**
+     * Waits for the future and returns its result.
+     * @param future the future
+     * @param what describes the task, for the message of an interruption exception
+     * @return the result of the task
+     */
+    public static <T> T getResult(Future<T> future, String what) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            throw interrupted(what, e);
+        } catch (ExecutionException e) {
+            throw unchecked(e.getCause());
+        }
+    }
+
+    /**
+     * Returns the cause of a failed task or reflective call as an unchecked exception,
+     * for the caller to throw. Throws the cause if it is an Error.
+     * @param cause the exception thrown by the task or method
+     * @return the cause itself if it is a RuntimeException,
+     *         otherwise an IllegalStateException wrapping it
+     */
+    public static RuntimeException unchecked(Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException)cause;
+        } else if (cause instanceof Error) {
+            throw (Error)cause;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    private static IllegalStateException interrupted(String what, InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return new IllegalStateException("interrupted while waiting for " + what, e);
+    }
+}
@@ -1,6 +1,6 @@
 /*
 *******************************************************************************
-*   Copyright (C) 2007-2014, International Business Machines
+*   Copyright (C) 2007-2015, International Business Machines
 *   Corporation and others.  All Rights Reserved.
 *******************************************************************************
 */
@@ -141,13 +141,46 @@ public final class DateNumberFormat extends NumberFormat {
             toAppendTo.append(minusSign);
             numberL = -numberL;
         }
+        int index = formatDigits(numberL);
+        int length = decimalBufLimit() - index;
+        toAppendTo.append(decimalBuf, index, length);
+        setFieldPosition(pos, length);
+        return toAppendTo;
+    }
+
+    @Override
+    public StringBuilder format(long numberL, StringBuilder toAppendTo,
+            FieldPosition pos) {
 
+        if (numberL < 0) {
+            // negative
+            toAppendTo.append(minusSign);
+            numberL = -numberL;
+        }
+        int index = formatDigits(numberL);
+        int length = decimalBufLimit() - index;
+        toAppendTo.append(decimalBuf, index, length);
+        if (pos != null) {
+            setFieldPosition(pos, length);
+        }
+        return toAppendTo;
+    }
+
+    private int decimalBufLimit() {
+        return decimalBuf.length < maxIntDigits ? decimalBuf.length : maxIntDigits;
+    }
+
+    /**
+     * Writes the zero-padded digits of a non-negative number
+     * to the end of decimalBuf, and returns the index of the first one.
+     */
+    private int formatDigits(long numberL) {
         // Note: NumberFormat used by DateFormat only uses int numbers.
         // Remainder operation on 32bit platform using long is significantly slower
         // than int.  So, this method casts long number into int.
         int number = (int)numberL;
 
-        int limit = decimalBuf.length < maxIntDigits ? decimalBuf.length : maxIntDigits;
+        int limit = decimalBufLimit();
         int index = limit - 1;
         while (true) {
             decimalBuf[index] = digits[(number % 10)];
@@ -161,15 +194,16 @@ public final class DateNumberFormat extends NumberFormat {
         for (; padding > 0; padding--) {
             decimalBuf[--index] = digits[0];
         }
-        int length = limit - index;
-        toAppendTo.append(decimalBuf, index, length);
+        return index;
+    }
+
+    private static void setFieldPosition(FieldPosition pos, int length) {
         pos.setBeginIndex(0);
         if (pos.getField() == NumberFormat.INTEGER_FIELD) {
             pos.setEndIndex(length);
         } else {
             pos.setEndIndex(0);
         }
-        return toAppendTo;
     }
     
     public StringBuffer format(BigInteger number, StringBuffer toAppendTo,
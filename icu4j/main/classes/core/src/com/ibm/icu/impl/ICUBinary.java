@@ -11,8 +11,14 @@ import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
@@ -20,6 +26,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.MissingResourceException;
 import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.zip.CRC32;
 
 import com.ibm.icu.util.ICUUncheckedIOException;
 import com.ibm.icu.util.VersionInfo;
@@ -283,6 +291,240 @@ public final class ICUBinary {
         if (dataPath != null) {
             addDataFilesFromPath(dataPath, icuDataFiles);
         }
+        // Normally com.ibm.icu.impl.ICUBinary.dataPackage.
+        String dataPackage = ICUConfig.get(ICUBinary.class.getName() + ".dataPackage");
+        if (dataPackage != null && dataPackage.trim().length() != 0) {
+            String extractDir = ICUConfig.get(ICUBinary.class.getName() + ".dataPackageExtractDir");
+            addDataPackage(dataPackage.trim(), extractDir, icuDataFiles);
+        }
+    }
+
+    /**
+     * Maps a .dat package once so that all of its items are served as slices of the mapping.
+     * The package may be a file or a class loader resource.
+     * A resource which is not a file, for example a jar entry,
+     * is first extracted to a file in the extractDir
+     * (or the per-user .icu4j folder in the user's home folder).
+     */
+    private static void addDataPackage(String name, String extractDir, List<DataFile> files) {
+        File file = new File(name);
+        if (!file.isFile()) {
+            URL url = ClassLoaderUtil.getClassLoader(ICUData.class).getResource(name);
+            if (url == null) {
+                return;
+            }
+            try {
+                if (url.getProtocol().equals("file")) {
+                    file = new File(url.toURI());
+                } else {
+                    File dir;
+                    if (extractDir != null && extractDir.trim().length() != 0) {
+                        dir = new File(extractDir.trim());
+                    } else {
+                        // Not the shared temp folder, where other users could
+                        // plant files or replace the extracted one.
+                        String home = System.getProperty("user.home");
+                        if (home == null || home.length() == 0) {
+                            System.err.println("ICU data package " + name +
+                                    " not extracted: no dataPackageExtractDir and no user.home");
+                            return;
+                        }
+                        dir = new File(home, ".icu4j");
+                    }
+                    file = extractDataPackage(url, dir);
+                }
+            } catch (URISyntaxException e) {
+                System.err.println(e);
+                return;
+            } catch (IOException e) {
+                System.err.println(e);
+                return;
+            }
+        }
+        ByteBuffer pkgBytes = mapFile(file);
+        if (pkgBytes != null && DatPackageReader.validate(pkgBytes)) {
+            files.add(new PackageDataFile(name, pkgBytes));
+        }
+    }
+
+    /**
+     * Copies a .dat package resource, for example an entry inside a jar file,
+     * to a file in the given folder so that it can be memory-mapped.
+     * The file name is derived from the resource name, its length and its CRC-32.
+     * An existing file with that name is reused only if its length and CRC-32
+     * match the resource. Therefore, the package is normally extracted only once,
+     * concurrent processes share the same file, and a file with other contents
+     * that happens to have the same name is never used.
+     * A new file is written under a temporary name and then renamed.
+     * <p>
+     * Once the file has been verified, a marker file next to it records its
+     * modification time, so that later calls only compare its length and
+     * modification time instead of reading the whole file.
+     *
+     * @param url the package resource
+     * @param dir the folder for the extracted file
+     * @return the extracted file
+     * @throws IOException if the resource cannot be read or the file cannot be written
+     * @internal Public only for ICUBinaryTest.
+     */
+    public static File extractDataPackage(URL url, File dir) throws IOException {
+        URLConnection conn = url.openConnection();
+        long length = -1;
+        long crc = -1;
+        if (conn instanceof JarURLConnection) {
+            JarEntry entry = ((JarURLConnection)conn).getJarEntry();
+            if (entry != null) {
+                length = entry.getSize();
+                crc = entry.getCrc();
+            }
+        }
+        if (length < 0 || crc == -1) {
+            // Not a jar entry, or its size and CRC are not known up front:
+            // Read the resource once to get them.
+            CRC32 checksum = new CRC32();
+            length = copy(conn.getInputStream(), null, checksum);
+            crc = checksum.getValue();
+            conn = url.openConnection();
+        }
+        String baseName = url.getPath();
+        baseName = baseName.substring(baseName.lastIndexOf('/') + 1);
+        if (baseName.endsWith(".dat")) {
+            baseName = baseName.substring(0, baseName.length() - 4);
+        }
+        File file = new File(dir,
+                "icu4j-" + baseName + '-' + Long.toHexString(crc) + '-' + length + ".dat");
+        if (isMarkedVerified(file, length)) {
+            return file;
+        }
+        if (hasContents(file, length, crc)) {
+            markVerified(file);
+            return file;
+        }
+        if (!dir.isDirectory() && !dir.mkdirs() && !dir.isDirectory()) {
+            throw new IOException("unable to create the folder " + dir);
+        }
+        File temp = File.createTempFile("icu4j-" + baseName, ".tmp", dir);
+        boolean renamed = false;
+        try {
+            CRC32 checksum = new CRC32();
+            FileOutputStream out = new FileOutputStream(temp);
+            long copied;
+            try {
+                copied = copy(conn.getInputStream(), out, checksum);
+            } finally {
+                out.close();
+            }
+            if (copied != length || checksum.getValue() != crc) {
+                throw new IOException("corrupt or incomplete copy of " + url);
+            }
+            renamed = temp.renameTo(file);
+            if (!renamed && hasContents(file, length, crc)) {
+                // Another process has extracted the same package in the meantime.
+                markVerified(file);
+                return file;
+            }
+        } finally {
+            if (!renamed) {
+                temp.delete();
+            }
+        }
+        if (!renamed) {
+            throw new IOException("unable to rename " + temp + " to " + file);
+        }
+        markVerified(file);
+        return file;
+    }
+
+    /**
+     * Copies the input stream to the output stream, if not null,
+     * updates the checksum, and closes the input stream.
+     *
+     * @return the number of bytes copied
+     */
+    private static long copy(InputStream in, OutputStream out, CRC32 checksum)
+            throws IOException {
+        long length = 0;
+        try {
+            byte[] buffer = new byte[0x10000];
+            int n;
+            while ((n = in.read(buffer)) > 0) {
+                if (out != null) {
+                    out.write(buffer, 0, n);
+                }
+                checksum.update(buffer, 0, n);
+                length += n;
+            }
+        } finally {
+            in.close();
+        }
+        return length;
+    }
+
+    /**
+     * @return true if the file exists and has the given length and CRC-32
+     */
+    private static boolean hasContents(File file, long length, long crc) throws IOException {
+        if (!file.isFile() || file.length() != length) {
+            return false;
+        }
+        CRC32 checksum = new CRC32();
+        return copy(new FileInputStream(file), null, checksum) == length &&
+                checksum.getValue() == crc;
+    }
+
+    private static File getVerifiedMarker(File file) {
+        return new File(file.getPath() + ".verified");
+    }
+
+    /**
+     * @return true if the file has the given length, and its marker file
+     *         records its current modification time
+     */
+    private static boolean isMarkedVerified(File file, long length) {
+        if (!file.isFile() || file.length() != length) {
+            return false;
+        }
+        File marker = getVerifiedMarker(file);
+        if (!marker.isFile() || marker.length() > 32) {
+            return false;
+        }
+        try {
+            InputStream in = new FileInputStream(marker);
+            try {
+                byte[] bytes = new byte[(int)marker.length()];
+                int n = 0;
+                while (n < bytes.length) {
+                    int count = in.read(bytes, n, bytes.length - n);
+                    if (count <= 0) {
+                        return false;
+                    }
+                    n += count;
+                }
+                return new String(bytes, "US-ASCII").equals(Long.toString(file.lastModified()));
+            } finally {
+                in.close();
+            }
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Writes the marker file for a file whose contents have just been verified.
+     * Failure is ignored: The next call verifies the contents again.
+     */
+    private static void markVerified(File file) {
+        File marker = getVerifiedMarker(file);
+        try {
+            OutputStream out = new FileOutputStream(marker);
+            try {
+                out.write(Long.toString(file.lastModified()).getBytes("US-ASCII"));
+            } finally {
+                out.close();
+            }
+        } catch (IOException e) {
+            marker.delete();
+        }
     }
 
     private static void addDataFilesFromPath(String dataPath, List<DataFile> files) {
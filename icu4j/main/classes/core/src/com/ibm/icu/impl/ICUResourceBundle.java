@@ -1117,7 +1117,13 @@ public  class ICUResourceBundle extends UResourceBundle {
     }
 
     //  recursively build bundle
-    private synchronized static UResourceBundle instantiateBundle(String baseName, String localeID,
+    //  Does not lock: Different bundles, and the bundles in a fallback chain,
+    //  load in parallel, and cache hits never block.
+    //  Concurrent requests for the same uncached bundle read its data only once,
+    //  see ICUResourceBundleReader.ReaderCache.
+    //  A bundle is added to the cache only after its parent has been set,
+    //  so that other threads never see a partial fallback chain.
+    private static UResourceBundle instantiateBundle(String baseName, String localeID,
             ClassLoader root, OpenType openType) {
         ULocale defaultLocale = ULocale.getDefault();
         String localeName = localeID;
@@ -1188,8 +1194,6 @@ public  class ICUResourceBundle extends UResourceBundle {
                 localeName = b.getLocaleID();
                 int i = localeName.lastIndexOf('_');
 
-                b = (ICUResourceBundle)addToCache(root, fullName, defaultLocale, b);
-
                 // TODO: C++ uresbund.cpp also checks for %%ParentIsRoot. Why not Java?
                 String parentLocaleName = ((ICUResourceBundleImpl.ResourceTable)b).findString("%%Parent");
                 if (parentLocaleName != null) {
@@ -1203,6 +1207,7 @@ public  class ICUResourceBundle extends UResourceBundle {
                 if (!b.equals(parent)){
                     b.setParent(parent);
                 }
+                b = (ICUResourceBundle)addToCache(root, fullName, defaultLocale, b);
             }
         }
         return b;
@@ -11,6 +11,9 @@ import java.io.InputStream;
 import java.lang.ref.SoftReference;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.FutureTask;
 
 import com.ibm.icu.util.ICUException;
 import com.ibm.icu.util.ICUUncheckedIOException;
@@ -321,12 +324,46 @@ public final class ICUResourceBundleReader {
         }
     }
 
+    /**
+     * Cache of readers, including NULL_READER for missing bundles.
+     * Concurrent misses for the same bundle wait for one thread to read its data,
+     * so that the data is read only once.
+     * Reading a bundle only reads its pool bundle, not other locales' bundles,
+     * so the waiting cannot deadlock.
+     */
     private static class ReaderCache extends SoftCache<ReaderInfo, ICUResourceBundleReader, ReaderInfo> {
+        private final ConcurrentHashMap<ReaderInfo, FutureTask<ICUResourceBundleReader>> loading =
+            new ConcurrentHashMap<ReaderInfo, FutureTask<ICUResourceBundleReader>>();
+
         /* (non-Javadoc)
          * @see com.ibm.icu.impl.CacheBase#createInstance(java.lang.Object, java.lang.Object)
          */
         @Override
-        protected ICUResourceBundleReader createInstance(ReaderInfo key, ReaderInfo data) {
+        protected ICUResourceBundleReader createInstance(ReaderInfo key, final ReaderInfo data) {
+            FutureTask<ICUResourceBundleReader> task = loading.get(key);
+            if (task == null) {
+                FutureTask<ICUResourceBundleReader> newTask = new FutureTask<ICUResourceBundleReader>(
+                    new Callable<ICUResourceBundleReader>() {
+                        public ICUResourceBundleReader call() {
+                            return readBundle(data);
+                        }
+                    });
+                task = loading.putIfAbsent(key, newTask);
+                if (task == null) {
+                    task = newTask;
+                    try {
+                        task.run();
+                    } finally {
+                        // A thread which misses the cache in the short time
+                        // before the reader is cached reads the data again, which is harmless.
+                        loading.remove(key, task);
+                    }
+                }
+            }
+            return ConcurrencyUtil.getResult(task, "resource bundle data");
+        }
+
+        private static ICUResourceBundleReader readBundle(ReaderInfo data) {
             String fullName = ICUResourceBundleReader.getFullName(data.baseName, data.localeID);
             try {
                 ByteBuffer inBytes;
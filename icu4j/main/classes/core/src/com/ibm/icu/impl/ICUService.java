@@ -1,6 +1,6 @@
 /**
  *******************************************************************************
- * Copyright (C) 2001-2013, International Business Machines Corporation and    *
+ * Copyright (C) 2001-2015, International Business Machines Corporation and    *
  * others. All Rights Reserved.                                                *
  *******************************************************************************
  */
@@ -100,6 +100,7 @@ public class ICUService extends ICUNotifier {
      */
     public ICUService() {
         name = "";
+        metrics = CacheMetrics.forCache("ICUService:");
     }
 
     private static final boolean DEBUG = ICUDebug.enabled("service");
@@ -108,6 +109,7 @@ public class ICUService extends ICUNotifier {
      */
     public ICUService(String name) {
         this.name = name;
+        metrics = CacheMetrics.forCache("ICUService:" + name);
     }
 
     /**
@@ -404,6 +406,10 @@ public class ICUService extends ICUNotifier {
                 if (cref != null) {
                     if (DEBUG) System.out.println("Service " + name + " ref exists");
                     cache = cref.get();
+                    if (cache == null && metrics != null) {
+                        // The garbage collector released the whole cache.
+                        metrics.recordEviction();
+                    }
                 }
                 if (cache == null) {
                     if (DEBUG) System.out.println("Service " + name + " cache was empty");
@@ -423,6 +429,7 @@ public class ICUService extends ICUNotifier {
                 int startIndex = 0;
                 int limit = factories.size();
                 boolean cacheResult = true;
+                long startTime = metrics != null ? System.nanoTime() : 0;
                 if (factory != null) {
                     for (int i = 0; i < limit; ++i) {
                         if (factory == factories.get(i)) {
@@ -480,6 +487,17 @@ public class ICUService extends ICUNotifier {
 
                 } while (key.fallback());
 
+                if (metrics != null) {
+                    if (putInCache) {
+                        metrics.recordMiss();
+                        if (result != null) {
+                            metrics.recordLoad(System.nanoTime() - startTime);
+                        }
+                    } else if (result != null && cacheResult) {
+                        metrics.recordHit();
+                    }
+                }
+
                 if (result != null) {
                     if (putInCache) {
                         if (DEBUG) System.out.println("caching '" + result.actualDescriptor + "'");
@@ -523,6 +541,9 @@ public class ICUService extends ICUNotifier {
     }
     private SoftReference<Map<String, CacheEntry>> cacheref;
 
+    // Hit/miss/load counters for the cache, or null if CacheMetrics are disabled.
+    private final CacheMetrics metrics;
+
     // Record the actual id for this service in the cache, so we can return it
     // even if we succeed later with a different id.
     private static final class CacheEntry {
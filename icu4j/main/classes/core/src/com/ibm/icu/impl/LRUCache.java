@@ -0,0 +1,168 @@
+/*
+*******************************************************************************
+*   Copyright (C) 2015, International Business Machines
+*   Corporation and others.  All Rights Reserved.
+*******************************************************************************
+*/
+package com.ibm.icu.impl;
+
+/**
+ * Generic, thread-safe cache implementation which holds on to at most
+ * a fixed number of instances and evicts the least recently used ones.
+ * To use, instantiate a subclass which implements the createInstance() method,
+ * and call getInstance() with the key and the data. The getInstance() call will use the data
+ * only if it needs to call createInstance(), otherwise the data is ignored.
+ * Keys must not be null.
+ *
+ * Unlike SoftCache, instances are strongly referenced, so the garbage collector
+ * does not release whole groups of them at once.
+ * The instances are stored in an LRUMap; see there for how lookups and evictions work.
+ *
+ * Whether ICU's SoftCache and SimpleCache instances use this eviction policy
+ * is selected with the ICUConfig property com.ibm.icu.impl.CacheBase.type,
+ * and their maximum size with com.ibm.icu.impl.CacheBase.maxSize.
+ *
+ * @param <K> Cache lookup key type
+ * @param <V> Cache instance value type
+ * @param <D> Data type for creating a new instance value
+ */
+public abstract class LRUCache<K, V, D> extends CacheBase<K, V, D> {
+    /**
+     * true if ICU's internal caches are configured to use LRU eviction
+     * rather than SoftReferences.
+     */
+    public static final boolean SELECTED =
+        "LRU".equalsIgnoreCase(ICUConfig.get("com.ibm.icu.impl.CacheBase.type", "SOFT").trim());
+
+    /**
+     * The configured maximum number of instances per cache.
+     */
+    public static final int DEFAULT_MAX_SIZE = getDefaultMaxSize();
+
+    private static int getDefaultMaxSize() {
+        String s = ICUConfig.get("com.ibm.icu.impl.CacheBase.maxSize", "1000");
+        try {
+            int maxSize = Integer.parseInt(s.trim());
+            if (maxSize > 0) {
+                return maxSize;
+            }
+        } catch (NumberFormatException e) {
+            // fall through
+        }
+        return 1000;
+    }
+
+    /**
+     * Creates a cache with the configured default maximum size.
+     */
+    public LRUCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a cache which holds at most maxSize instances.
+     * @param maxSize the maximum number of cached instances; must be positive
+     */
+    public LRUCache(int maxSize) {
+        super();
+        map = new EvictionNotifyingMap(maxSize);
+    }
+
+    /**
+     * Constructor for a cache which implements another one, sharing its counters.
+     */
+    LRUCache(int maxSize, CacheMetrics metrics) {
+        super(metrics);
+        map = new EvictionNotifyingMap(maxSize);
+    }
+
+    @Override
+    public final V getInstance(K key, D data) {
+        V value = map.get(key);
+        if (value != null) {
+            recordHit();
+            return value;
+        }
+        value = createInstanceForMiss(key, data);
+        if (value == null) {
+            return null;
+        }
+        return map.putIfAbsent(key, value);
+    }
+
+    /**
+     * Returns the cached instance for the key, or null if there is none.
+     * Does not call createInstance(), and does not count a hit or miss.
+     * @param key Cache lookup key
+     * @return The cached instance, or null
+     */
+    public final V get(Object key) {
+        return map.get(key);
+    }
+
+    /**
+     * Caches the value for the key unless there is already a cached value,
+     * and returns the cached value.
+     * @param key Cache lookup key
+     * @param value Instance to be cached; must not be null
+     * @return The value that is now cached for the key, old or new
+     */
+    public final V putIfAbsent(K key, V value) {
+        return map.putIfAbsent(key, value);
+    }
+
+    /**
+     * Caches the value for the key, replacing any previously cached value.
+     * @param key Cache lookup key
+     * @param value Instance to be cached; if null, then the key is removed
+     */
+    public final void put(K key, V value) {
+        map.put(key, value);
+    }
+
+    /**
+     * Removes all cached instances.
+     */
+    public final void clear() {
+        map.clear();
+    }
+
+    /**
+     * @return the number of currently cached instances
+     */
+    public final int size() {
+        return map.size();
+    }
+
+    /**
+     * @return the maximum number of cached instances
+     */
+    public final int getMaxSize() {
+        return map.getMaxSize();
+    }
+
+    /**
+     * Called after an instance has been evicted from the cache.
+     * Does nothing by default.
+     * @param key Cache lookup key of the evicted instance
+     * @param value The evicted instance
+     */
+    protected void onEviction(K key, V value) {
+    }
+
+    /**
+     * Counts evictions with this cache's metrics and forwards them to onEviction().
+     */
+    private final class EvictionNotifyingMap extends LRUMap<K, V> {
+        EvictionNotifyingMap(int maxSize) {
+            super(maxSize, LRUCache.this.metrics);
+        }
+
+        @Override
+        protected void onEviction(K key, V value) {
+            LRUCache.this.onEviction(key, value);
+        }
+    }
+
+    private final LRUMap<K, V> map;
+}
@@ -0,0 +1,197 @@
+/*
+*******************************************************************************
+*   Copyright (C) 2015, International Business Machines
+*   Corporation and others.  All Rights Reserved.
+*******************************************************************************
+*/
+package com.ibm.icu.impl;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe map which holds on to at most a fixed number of entries
+ * and evicts the least recently used ones.
+ * Keys and values must not be null.
+ *
+ * Lookups do not lock: They only stamp the entry with the current access time.
+ * When an insertion makes the map exceed its maximum size, a batch of the
+ * least recently used entries is evicted, so that the cost of finding them
+ * is amortized over many insertions.
+ *
+ * This is the storage for LRUCache. Use it directly where instances are
+ * put into the map explicitly rather than created by a CacheBase.createInstance() method.
+ *
+ * @param <K> Lookup key type
+ * @param <V> Value type
+ */
+public class LRUMap<K, V> {
+    /**
+     * Creates a map which holds at most maxSize entries.
+     * @param maxSize the maximum number of entries; must be positive
+     */
+    public LRUMap(int maxSize) {
+        this(maxSize, null);
+    }
+
+    /**
+     * Constructor for the map of a cache, which counts evictions.
+     * @param metrics the cache's counters, or null
+     */
+    LRUMap(int maxSize, CacheMetrics metrics) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        // Evict about 1/8 of the entries at a time.
+        evictionTargetSize = maxSize - Math.max(1, maxSize >> 3);
+        map = new ConcurrentHashMap<K, Entry<V>>(Math.min(maxSize, 64));
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the value for the key, or null if there is none.
+     * @param key Lookup key
+     * @return The value, or null
+     */
+    public final V get(Object key) {
+        Entry<V> entry = map.get(key);
+        if (entry == null) {
+            return null;
+        }
+        entry.lastAccess = clock.get();
+        return entry.value;
+    }
+
+    /**
+     * Puts the value for the key unless there is already a value,
+     * and returns the value that is now in the map.
+     * @param key Lookup key
+     * @param value Value to be put; must not be null
+     * @return The value that is now in the map for the key, old or new
+     */
+    public final V putIfAbsent(K key, V value) {
+        Entry<V> entry = new Entry<V>(value, clock.incrementAndGet());
+        Entry<V> oldEntry = map.putIfAbsent(key, entry);
+        if (oldEntry != null) {
+            // Race condition: Another thread beat us to putting a value.
+            oldEntry.lastAccess = entry.lastAccess;
+            return oldEntry.value;
+        }
+        evictIfNecessary();
+        return value;
+    }
+
+    /**
+     * Puts the value for the key, replacing any previous value.
+     * @param key Lookup key
+     * @param value Value to be put; if null, then the key is removed
+     */
+    public final void put(K key, V value) {
+        if (value == null) {
+            map.remove(key);
+            return;
+        }
+        map.put(key, new Entry<V>(value, clock.incrementAndGet()));
+        evictIfNecessary();
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public final void clear() {
+        map.clear();
+    }
+
+    /**
+     * @return the number of entries
+     */
+    public final int size() {
+        return map.size();
+    }
+
+    /**
+     * @return the maximum number of entries
+     */
+    public final int getMaxSize() {
+        return maxSize;
+    }
+
+    private void evictIfNecessary() {
+        if (map.size() <= maxSize || !evictionLock.tryLock()) {
+            // Either there is room, or another thread is already evicting.
+            return;
+        }
+        try {
+            int size = map.size();
+            int excess = size - evictionTargetSize;
+            if (size <= maxSize || excess <= 0) {
+                return;
+            }
+            // Find the access time at or below which the excess entries lie.
+            long[] stamps = new long[size];
+            int count = 0;
+            for (Entry<V> entry : map.values()) {
+                if (count == stamps.length) {
+                    break;  // concurrent insertions
+                }
+                stamps[count++] = entry.lastAccess;
+            }
+            if (count == 0) {
+                return;
+            }
+            Arrays.sort(stamps, 0, count);
+            long threshold = stamps[Math.min(excess, count) - 1];
+            Iterator<Map.Entry<K, Entry<V>>> iter = map.entrySet().iterator();
+            while (iter.hasNext() && excess > 0) {
+                Map.Entry<K, Entry<V>> mapEntry = iter.next();
+                Entry<V> entry = mapEntry.getValue();
+                if (entry.lastAccess <= threshold && map.remove(mapEntry.getKey(), entry)) {
+                    --excess;
+                    if (metrics != null) {
+                        metrics.recordEviction();
+                    }
+                    onEviction(mapEntry.getKey(), entry.value);
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Called after an entry has been evicted from the map.
+     * Does nothing by default.
+     * @param key Lookup key of the evicted entry
+     * @param value The evicted value
+     */
+    protected void onEviction(K key, V value) {
+    }
+
+    /**
+     * Map value type: The value and its most recent access time.
+     *
+     * @param <V> Value type
+     */
+    private static final class Entry<V> {
+        private Entry(V value, long lastAccess) {
+            this.value = value;
+            this.lastAccess = lastAccess;
+        }
+        private final V value;
+        private volatile long lastAccess;
+    }
+
+    private final int maxSize;
+    private final int evictionTargetSize;
+    private final ConcurrentHashMap<K, Entry<V>> map;
+    private final CacheMetrics metrics;
+    // Advanced for each insertion. Lookups read it but do not advance it,
+    // so that they do not contend on it.
+    private final AtomicLong clock = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+}
@@ -1,6 +1,6 @@
 /*
  *******************************************************************************
- *   Copyright (C) 2009-2014, International Business Machines
+ *   Copyright (C) 2009-2015, International Business Machines
  *   Corporation and others.  All Rights Reserved.
  *******************************************************************************
  */
@@ -9,6 +9,7 @@ package com.ibm.icu.impl;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 
 import com.ibm.icu.text.Normalizer;
 import com.ibm.icu.text.Normalizer2;
@@ -151,6 +152,58 @@ public final class Norm2AllModes {
             return s.length()==spanQuickCheckYes(s);
         }
         @Override
+        public boolean isNormalized(char[] s, int start, int length) {
+            checkArrayBounds(s, start, length);
+            return spanQuickCheckYes(s, start, length, true)==start+length;
+        }
+        @Override
+        public int spanQuickCheckYes(char[] s, int start, int length) {
+            checkArrayBounds(s, start, length);
+            return spanQuickCheckYes(s, start, length, false);
+        }
+        /**
+         * Skips code units below getMinQuickCheckCP() directly in the array,
+         * and checks each remaining segment via the CharSequence code.
+         * Such code units have a normalization boundary before them,
+         * so each segment starts with the preceding one of them
+         * and ends before the next one.
+         * @return the span end index, which is start+length if fullCheck and s is normalized
+         */
+        private int spanQuickCheckYes(char[] s, int start, int length, boolean fullCheck) {
+            int minCP=getMinQuickCheckCP();
+            int limit=start+length;
+            int i=start;
+            for(;;) {
+                i=Normalizer2Impl.skipBelow(s, i, limit, minCP);
+                if(i==limit) {
+                    return limit;
+                }
+                int segmentStart= i>start ? i-1 : i;
+                do { ++i; } while(i<limit && s[i]>=minCP);
+                CharBuffer segment=CharBuffer.wrap(s, segmentStart, i-segmentStart);
+                if(fullCheck) {
+                    if(!isNormalized((CharSequence)segment)) {
+                        return segmentStart;
+                    }
+                } else {
+                    int spanLength=spanQuickCheckYes((CharSequence)segment);
+                    if(spanLength<(i-segmentStart)) {
+                        return segmentStart+spanLength;
+                    }
+                }
+            }
+        }
+        private static void checkArrayBounds(char[] s, int start, int length) {
+            if(start<0 || length<0 || start>s.length-length) {
+                throw new IndexOutOfBoundsException();
+            }
+        }
+        /**
+         * @return the code point below which all code points pass the quick check,
+         *         and have a normalization boundary before them
+         */
+        protected abstract int getMinQuickCheckCP();
+        @Override
         public Normalizer.QuickCheckResult quickCheck(CharSequence s) {
             return isNormalized(s) ? Normalizer.YES : Normalizer.NO;
         }
@@ -181,6 +234,10 @@ public final class Norm2AllModes {
             return impl.decompose(s, 0, s.length(), null);
         }
         @Override
+        protected int getMinQuickCheckCP() {
+            return impl.getMinDecompNoCP();
+        }
+        @Override
         public int getQuickCheck(int c) {
             return impl.isDecompYes(impl.getNorm16(c)) ? 1 : 0;
         }
@@ -231,6 +288,10 @@ public final class Norm2AllModes {
             return impl.composeQuickCheck(s, 0, s.length(), onlyContiguous, true)>>>1;
         }
         @Override
+        protected int getMinQuickCheckCP() {
+            return impl.getMinCompNoMaybeCP();
+        }
+        @Override
         public int getQuickCheck(int c) {
             return impl.getCompQuickCheck(impl.getNorm16(c));
         }
@@ -267,6 +328,10 @@ public final class Norm2AllModes {
             return impl.makeFCD(s, 0, s.length(), null);
         }
         @Override
+        protected int getMinQuickCheckCP() {
+            return Normalizer2Impl.MIN_CCC_LCCC_CP;
+        }
+        @Override
         public int getQuickCheck(int c) {
             return impl.isDecompYes(impl.getNorm16(c)) ? 1 : 0;
         }
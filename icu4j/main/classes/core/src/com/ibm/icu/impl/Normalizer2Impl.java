@@ -1,6 +1,6 @@
 /*
  *******************************************************************************
- *   Copyright (C) 2009-2014, International Business Machines
+ *   Copyright (C) 2009-2015, International Business Machines
  *   Corporation and others.  All Rights Reserved.
  *******************************************************************************
  */
@@ -574,6 +574,28 @@ public final class Normalizer2Impl {
 
     public Trie2_16 getNormTrie() { return normTrie; }
 
+    /** Code points below this one are decomposition-"yes" and have ccc=0. */
+    public int getMinDecompNoCP() { return minDecompNoCP; }
+    /** Code points below this one are composition-"yes" and have ccc=0. */
+    public int getMinCompNoMaybeCP() { return minCompNoMaybeCP; }
+
+    /**
+     * Returns the index of the first code unit in s[start..limit[ which is at least minCP,
+     * or limit if there is none.
+     * Tests four code units at a time while they are all below minCP.
+     */
+    public static int skipBelow(char[] s, int start, int limit, int minCP) {
+        // If the bitwise OR of the code units is below minCP, then so is each of them.
+        int limit4=limit-3;
+        while(start<limit4 && (s[start]|s[start+1]|s[start+2]|s[start+3])<minCP) {
+            start+=4;
+        }
+        while(start<limit && s[start]<minCP) {
+            ++start;
+        }
+        return start;
+    }
+
     // Note: Normalizer2Impl.java r30983 (2011-nov-27)
     // still had getFCDTrie() which built and cached an FCD trie.
     // That provided faster access to FCD data than getFCD16FromNormData()
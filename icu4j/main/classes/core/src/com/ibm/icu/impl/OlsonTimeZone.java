@@ -1,6 +1,6 @@
  /*
   *******************************************************************************
-  * Copyright (C) 2005-2014, International Business Machines Corporation and    *
+  * Copyright (C) 2005-2015, International Business Machines Corporation and    *
   * others. All Rights Reserved.                                                *
   *******************************************************************************
   */
@@ -682,10 +682,12 @@ public class OlsonTimeZone extends BasicTimeZone {
                 offsets[0] = initialRawOffset() * Grego.MILLIS_PER_SECOND;
                 offsets[1] = initialDstOffset() * Grego.MILLIS_PER_SECOND;
             } else {
-                // Linear search from the end is the fastest approach, since
-                // most lookups will happen at/near the end.
+                // Start from the last transition which could apply, and search
+                // linearly backward from there. For a local time, the transitions
+                // within MAX_OFFSET_SECONDS after it may apply as well.
                 int transIdx;
-                for (transIdx = transitionCount - 1; transIdx >= 0; transIdx--) {
+                for (transIdx = findTransitionIndex(local ? sec + MAX_OFFSET_SECONDS : sec);
+                        transIdx >= 0; transIdx--) {
                     long transition = transitionTimes64[transIdx];
                     if (local && (sec >= (transition - MAX_OFFSET_SECONDS))) {
                         int offsetBefore = zoneOffsetAt(transIdx - 1);
@@ -744,6 +746,43 @@ public class OlsonTimeZone extends BasicTimeZone {
         }
     }
 
+    /**
+     * Returns the index of the last transition at or before the given time,
+     * or -1 if the time is before the first transition.
+     * Checks the last transition and then the transition interval found
+     * in the previous call, before doing a binary search.
+     * @param sec time in seconds since the epoch
+     */
+    private int findTransitionIndex(long sec) {
+        int last = transitionCount - 1;
+        if (sec >= transitionTimes64[last]) {
+            // Most lookups happen at/near the end.
+            return last;
+        }
+        // The cached index is only a hint, and may have been set by another thread.
+        // It is usable if sec is in its transition interval.
+        int index = lastTransitionIndex;
+        if (-1 <= index && index < last
+                && (index < 0 || transitionTimes64[index] <= sec)
+                && sec < transitionTimes64[index + 1]) {
+            return index;
+        }
+        // Binary search with transitionTimes64[start] <= sec < transitionTimes64[limit]
+        // where start=-1 stands for the time before the first transition.
+        int start = -1;
+        int limit = last;
+        while ((limit - start) > 1) {
+            int mid = (start + limit) >>> 1;
+            if (transitionTimes64[mid] <= sec) {
+                start = mid;
+            } else {
+                limit = mid;
+            }
+        }
+        lastTransitionIndex = start;
+        return start;
+    }
+
     private int getInt(byte val){
         return val & 0xFF; 
     }
@@ -1104,6 +1143,11 @@ public class OlsonTimeZone extends BasicTimeZone {
 
     private transient boolean transitionRulesInitialized;
 
+    /**
+     * The transition index found by the previous binary search in findTransitionIndex().
+     */
+    private transient int lastTransitionIndex;
+
     private synchronized void initTransitionRules() {
         if (transitionRulesInitialized) {
             return;
@@ -1,6 +1,6 @@
 /*
  ****************************************************************************
- * Copyright (c) 2007-2009 International Business Machines Corporation and  *
+ * Copyright (c) 2007-2015 International Business Machines Corporation and  *
  * others.  All rights reserved.                                            *
  ****************************************************************************
  */
@@ -10,16 +10,31 @@ package com.ibm.icu.impl;
 import java.lang.ref.Reference;
 import java.lang.ref.SoftReference;
 import java.lang.ref.WeakReference;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Simple cache whose whole map is held via a SoftReference or WeakReference.
+ * The map is concurrent, so that lookups do not block.
+ *
+ * If the ICUConfig property com.ibm.icu.impl.CacheBase.type is LRU,
+ * then the entries are instead cached in a bounded LRUMap,
+ * and the cache type is ignored.
+ */
 public class SimpleCache<K, V> implements ICUCache<K, V> {
     private static final int DEFAULT_CAPACITY = 16;
 
-    private Reference<Map<K, V>> cacheRef = null;
+    // Since ConcurrentHashMap does not support null keys,
+    // they are mapped to ICUCache.NULL.
+    private volatile Reference<Map<Object, V>> cacheRef = null;
     private int type = ICUCache.SOFT;
     private int capacity = DEFAULT_CAPACITY;
+    private final CacheMetrics metrics = !CacheMetrics.ENABLED ? null :
+        CacheMetrics.getInstance(CacheMetrics.getCreatorName(SimpleCache.class));
+    // Set only in LRU mode. Since LRUMap does not support null keys,
+    // they are mapped to ICUCache.NULL.
+    private final LRUMap<Object, V> lruMap = !LRUCache.SELECTED ? null :
+        new LRUMap<Object, V>(LRUCache.DEFAULT_MAX_SIZE, metrics);
 
     public SimpleCache() {
     }
@@ -38,35 +53,63 @@ public class SimpleCache<K, V> implements ICUCache<K, V> {
     }
 
     public V get(Object key) {
-        Reference<Map<K, V>> ref = cacheRef;
-        if (ref != null) {
-            Map<K, V> map = ref.get();
-            if (map != null) {
-                return map.get(key);
+        V value = null;
+        if (lruMap != null) {
+            value = lruMap.get(key != null ? key : ICUCache.NULL);
+        } else {
+            Reference<Map<Object, V>> ref = cacheRef;
+            if (ref != null) {
+                Map<Object, V> map = ref.get();
+                if (map != null) {
+                    value = map.get(key != null ? key : ICUCache.NULL);
+                }
+            }
+        }
+        if (metrics != null) {
+            if (value != null) {
+                metrics.recordHit();
+            } else {
+                metrics.recordMiss();
             }
         }
-        return null;
+        return value;
     }
 
     public void put(K key, V value) {
-        Reference<Map<K, V>> ref = cacheRef;
-        Map<K, V> map = null;
+        if (lruMap != null) {
+            lruMap.put(key != null ? key : ICUCache.NULL, value);
+            return;
+        }
+        Reference<Map<Object, V>> ref = cacheRef;
+        Map<Object, V> map = null;
         if (ref != null) {
             map = ref.get();
+            if (map == null && metrics != null) {
+                // The garbage collector released the whole map.
+                metrics.recordEviction();
+            }
         }
         if (map == null) {
-            map = Collections.synchronizedMap(new HashMap<K, V>(capacity));
+            map = new ConcurrentHashMap<Object, V>(capacity);
             if (type == ICUCache.WEAK) {
-                ref = new WeakReference<Map<K, V>>(map);
+                ref = new WeakReference<Map<Object, V>>(map);
             } else {
-                ref = new SoftReference<Map<K, V>>(map);
+                ref = new SoftReference<Map<Object, V>>(map);
             }
             cacheRef = ref;
         }
-        map.put(key, value);
+        Object mapKey = key != null ? key : ICUCache.NULL;
+        if (value == null) {
+            map.remove(mapKey);
+        } else {
+            map.put(mapKey, value);
+        }
     }
 
     public void clear() {
+        if (lruMap != null) {
+            lruMap.clear();
+        }
         cacheRef = null;
     }
 
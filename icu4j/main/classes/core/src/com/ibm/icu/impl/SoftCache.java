@@ -1,6 +1,6 @@
 /*
 *******************************************************************************
-*   Copyright (C) 2010-2011, International Business Machines
+*   Copyright (C) 2010-2015, International Business Machines
 *   Corporation and others.  All Rights Reserved.
 *******************************************************************************
 */
@@ -20,6 +20,9 @@ import java.util.concurrent.ConcurrentHashMap;
  * the get() method will call createInstance() again and also create a new SoftReference.
  * The cache holds on to its map of keys to SoftReferenced instances forever.
  *
+ * If the ICUConfig property com.ibm.icu.impl.CacheBase.type is LRU,
+ * then the instances are instead cached in a bounded LRUCache.
+ *
  * @param <K> Cache lookup key type
  * @param <V> Cache instance value type
  * @param <D> Data type for creating a new instance value
@@ -29,6 +32,9 @@ import java.util.concurrent.ConcurrentHashMap;
 public abstract class SoftCache<K, V, D> extends CacheBase<K, V, D> {
     @Override
     public final V getInstance(K key, D data) {
+        if (lruCache != null) {
+            return lruCache.getInstance(key, data);
+        }
         // We synchronize twice, once on the map and once on valueRef,
         // because we prefer the fine-granularity locking of the ConcurrentHashMap
         // over coarser locking on the whole cache instance.
@@ -42,11 +48,15 @@ public abstract class SoftCache<K, V, D> extends CacheBase<K, V, D> {
             synchronized(valueRef) {
                 value = valueRef.ref.get();
                 if(value != null) {
+                    recordHit();
                     return value;
                 } else {
                     // The instance has been evicted, its SoftReference cleared.
                     // Create and set a new instance.
-                    value = createInstance(key, data);
+                    if (metrics != null) {
+                        metrics.recordEviction();
+                    }
+                    value = createInstanceForMiss(key, data);
                     if (value != null) {
                         valueRef.ref = new SoftReference<V>(value);
                     }
@@ -55,7 +65,7 @@ public abstract class SoftCache<K, V, D> extends CacheBase<K, V, D> {
             }
         } else /* valueRef == null */ {
             // We had never cached an instance for this key.
-            value = createInstance(key, data);
+            value = createInstanceForMiss(key, data);
             if (value == null) {
                 return null;
             }
@@ -102,4 +112,11 @@ public abstract class SoftCache<K, V, D> extends CacheBase<K, V, D> {
     }
     private ConcurrentHashMap<K, SettableSoftReference<V>> map =
         new ConcurrentHashMap<K, SettableSoftReference<V>>();
+    private final LRUCache<K, V, D> lruCache = !LRUCache.SELECTED ? null :
+        new LRUCache<K, V, D>(LRUCache.DEFAULT_MAX_SIZE, metrics) {
+            @Override
+            protected V createInstance(K key, D data) {
+                return SoftCache.this.createInstance(key, data);
+            }
+        };
 }
@@ -1,6 +1,6 @@
 /*
  *******************************************************************************
- * Copyright (C) 2011-2014, International Business Machines Corporation and    *
+ * Copyright (C) 2011-2015, International Business Machines Corporation and    *
  * others. All Rights Reserved.                                                *
  *******************************************************************************
  */
@@ -205,6 +205,22 @@ public class TimeZoneNamesImpl extends TimeZoneNames {
         }
 
         // All names are not yet loaded into the trie
+        loadAllDisplayNames();
+
+        // now, try it again
+        handler.resetResults();
+        _namesTrie.find(text, start, handler);
+        return handler.getMatches();
+    }
+
+    /* (non-Javadoc)
+     * @see com.ibm.icu.text.TimeZoneNames#loadAllDisplayNames()
+     */
+    @Override
+    public synchronized void loadAllDisplayNames() {
+        if (_namesTrieFullyLoaded) {
+            return;
+        }
 
         // time zone names
         Set<String> tzIDs = TimeZone.getAvailableIDs(SystemTimeZoneType.CANONICAL, null, null);
@@ -218,11 +234,6 @@ public class TimeZoneNamesImpl extends TimeZoneNames {
             loadMetaZoneNames(mzID);
         }
         _namesTrieFullyLoaded = true;
-
-        // now, try it again
-        handler.resetResults();
-        _namesTrie.find(text, start, handler);
-        return handler.getMatches();
     }
 
     /**
@@ -7,13 +7,13 @@
 
 package com.ibm.icu.text;
 
-import java.lang.ref.SoftReference;
 import java.text.CharacterIterator;
 import java.text.StringCharacterIterator;
 import java.util.Locale;
 import java.util.MissingResourceException;
 
 import com.ibm.icu.impl.ICUDebug;
+import com.ibm.icu.impl.SoftCache;
 import com.ibm.icu.util.ICUCloneNotSupportedException;
 import com.ibm.icu.util.ULocale;
 
@@ -556,7 +556,18 @@ public abstract class BreakIterator implements Cloneable
      */
     private static final int KIND_COUNT = 5;
 
-    private static final SoftReference<?>[] iterCache = new SoftReference<?>[5];
+    /**
+     * Per kind, a cache of prototype iterators for any number of locales.
+     * The prototypes are never handed out; getBreakInstance() returns clones,
+     * which share the prototype's immutable rule data.
+     * Replaced (flushed) when the registration of iterators changes.
+     */
+    private static final BreakIteratorCache[] iterCache = new BreakIteratorCache[KIND_COUNT];
+    static {
+        for (int kind = 0; kind < KIND_COUNT; ++kind) {
+            iterCache[kind] = new BreakIteratorCache(kind);
+        }
+    }
 
     /**
      * Returns a new instance of BreakIterator that locates word boundaries.
@@ -793,17 +804,11 @@ s     */
      * @stable ICU 3.2
      */
     public static Object registerInstance(BreakIterator iter, ULocale locale, int kind) {
-        // If the registered object matches the one in the cache, then
-        // flush the cached object.
-        if (iterCache[kind] != null) {
-            BreakIteratorCache cache = (BreakIteratorCache) iterCache[kind].get();
-            if (cache != null) {
-                if (cache.getLocale().equals(locale)) {
-                    iterCache[kind] = null;
-                }
-            }
-        }
-        return getShim().registerInstance(iter, locale, kind);
+        // The registered object may replace cached objects for this locale
+        // and for locales that fall back to it: Flush the cache for this kind.
+        Object key = getShim().registerInstance(iter, locale, kind);
+        iterCache[kind] = new BreakIteratorCache(kind);
+        return key;
     }
 
     /**
@@ -832,10 +837,11 @@ s     */
             // -- what `kind' and what locale -- so we flush all
             // caches.  This is safe but inefficient if people are
             // actively registering and unregistering.
+            boolean result = shim.unregister(key);
             for (int kind=0; kind<KIND_COUNT; ++kind) {
-                iterCache[kind] = null;
+                iterCache[kind] = new BreakIteratorCache(kind);
             }
-            return shim.unregister(key);
+            return result;
         }
         return false;
         ///CLOVER:ON
@@ -854,26 +860,8 @@ s     */
         if (where == null) {
             throw new NullPointerException("Specified locale is null");
         }
-        if (iterCache[kind] != null) {
-            BreakIteratorCache cache = (BreakIteratorCache)iterCache[kind].get();
-            if (cache != null) {
-                if (cache.getLocale().equals(where)) {
-                    return cache.createBreakInstance();
-                }
-            }
-        }
-
-        // sigh, all to avoid linking in ICULocaleData...
-        BreakIterator result = getShim().createBreakIterator(where, kind);
-
-        BreakIteratorCache cache = new BreakIteratorCache(where, result);
-        iterCache[kind] = new SoftReference<BreakIteratorCache>(cache);
-        if (result instanceof RuleBasedBreakIterator) {
-            RuleBasedBreakIterator rbbi = (RuleBasedBreakIterator)result;
-            rbbi.setBreakType(kind);
-        }
-
-        return result;
+        BreakIterator prototype = iterCache[kind].getInstance(where, null);
+        return (BreakIterator) prototype.clone();
     }
 
 
@@ -902,22 +890,23 @@ s     */
         return getShim().getAvailableULocales();
     }
 
-    private static final class BreakIteratorCache {
-
-        private BreakIterator iter;
-        private ULocale where;
+    private static final class BreakIteratorCache extends SoftCache<ULocale, BreakIterator, Void> {
 
-        BreakIteratorCache(ULocale where, BreakIterator iter) {
-            this.where = where;
-            this.iter = (BreakIterator) iter.clone();
-        }
+        private final int kind;
 
-        ULocale getLocale() {
-            return where;
+        BreakIteratorCache(int kind) {
+            this.kind = kind;
         }
 
-        BreakIterator createBreakInstance() {
-            return (BreakIterator) iter.clone();
+        @Override
+        protected BreakIterator createInstance(ULocale where, Void unused) {
+            // sigh, all to avoid linking in ICULocaleData...
+            BreakIterator iter = getShim().createBreakIterator(where, kind);
+            if (iter instanceof RuleBasedBreakIterator) {
+                RuleBasedBreakIterator rbbi = (RuleBasedBreakIterator)iter;
+                rbbi.setBreakType(kind);
+            }
+            return iter;
         }
     }
 
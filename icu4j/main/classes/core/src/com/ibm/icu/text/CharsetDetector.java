@@ -1,6 +1,6 @@
 /**
 *******************************************************************************
-* Copyright (C) 2005-2014, International Business Machines Corporation and    *
+* Copyright (C) 2005-2015, International Business Machines Corporation and    *
 * others. All Rights Reserved.                                                *
 *******************************************************************************
 */
@@ -13,6 +13,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+import com.ibm.icu.impl.ConcurrencyUtil;
 
 
 /**
@@ -92,7 +96,7 @@ public class CharsetDetector {
         return this;
     }
     
-    private static final int kBufSize = 8000;
+    static final int kBufSize = 8000;
 
     /**
      * Set the input text (byte) data whose charset is to be detected.
@@ -153,10 +157,8 @@ public class CharsetDetector {
      * @stable ICU 3.4
      */
     public CharsetMatch detect() {
-//   TODO:  A better implementation would be to copy the detect loop from
-//          detectAll(), and cut it short as soon as a match with a high confidence
-//          is found.  This is something to be done later, after things are otherwise
-//          working.
+//   Note:  With enableShortCircuit(true), the detect loop is cut short
+//          as soon as a conclusive match is found.
         CharsetMatch matches[] = detectAll();
         
         if (matches == null || matches.length == 0) {
@@ -182,29 +184,119 @@ public class CharsetDetector {
      * @stable ICU 3.4
      */
     public CharsetMatch[] detectAll() {
-        ArrayList<CharsetMatch>         matches = new ArrayList<CharsetMatch>();
+        CharsetMatch[]                  recognizerMatches = new CharsetMatch[ALL_CS_RECOGNIZERS.size()];
         
+        matchAll(recognizerMatches, null);
+        return sortMatches(recognizerMatches);
+    }
+
+    /**
+     * Return an array of all charsets that appear to be plausible
+     * matches with the input data, as {@link #detectAll()} does,
+     * but run the recognizers in parallel on the executor.
+     * The result is the same as from {@link #detectAll()}, in the same order.
+     * The calling thread waits for the recognizer tasks, so this works with any
+     * ExecutorService, including bounded ones.
+     * <p>
+     * The recognizers only read the input, but this CharsetDetector and
+     * its input must not be used on other threads while this method runs.
+     *
+     * @param executor the executor for the recognizer tasks, or null
+     *                 to run all of the recognizers on the calling thread
+     * @return An array of CharsetMatch objects representing possibly matching charsets.
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public CharsetMatch[] detectAll(ExecutorService executor) {
+        CharsetMatch[] recognizerMatches = new CharsetMatch[ALL_CS_RECOGNIZERS.size()];
+        matchAll(recognizerMatches, executor);
+        return sortMatches(recognizerMatches);
+    }
+
+    private static CharsetMatch[] sortMatches(CharsetMatch[] recognizerMatches) {
+        ArrayList<CharsetMatch>         matches = new ArrayList<CharsetMatch>();
+        for (CharsetMatch m : recognizerMatches) {
+            if (m != null) {
+                matches.add(m);
+            }
+        }
+        Collections.sort(matches);      // CharsetMatch compares on confidence
+        Collections.reverse(matches);   //  Put best match first.
+        CharsetMatch [] resultArray = new CharsetMatch[matches.size()];
+        resultArray = matches.toArray(resultArray);
+        return resultArray;
+    }
+
+
+    /*
+     * Runs the enabled recognizers over the current input.
+     * Sets matches[i] to the match for the i-th recognizer,
+     * or to null if it is not enabled or does not match.
+     * Shared with StreamingCharsetDetector.
+     */
+    void matchAll(CharsetMatch[] matches) {
+        matchAll(matches, null);
+    }
+
+    /*
+     * Same as matchAll(matches), but if the executor is not null, then the recognizers
+     * which are not decisive run in parallel on it.
+     * The decisive recognizers are cheap, and run first on the calling thread
+     * so that short-circuiting does not need to wait for or cancel other tasks.
+     */
+    private void matchAll(final CharsetMatch[] matches, ExecutorService executor) {
         MungeInput();  // Strip html markup, collect byte stats.
         
         //  Iterate over all possible charsets, remember all that
         //    give a match quality > 0.
+        Arrays.fill(matches, null);
+        List<Callable<Object>> tasks = null;
         for (int i = 0; i < ALL_CS_RECOGNIZERS.size(); i++) {
             CSRecognizerInfo rcinfo = ALL_CS_RECOGNIZERS.get(i);
             boolean active = (fEnabledRecognizers != null) ? fEnabledRecognizers[i] : rcinfo.isDefaultEnabled;
-            if (active) {
+            if (!active) {
+                continue;
+            }
+            if (executor == null || rcinfo.isDecisive) {
                 CharsetMatch m = rcinfo.recognizer.match(this);
-                if (m != null) {
-                    matches.add(m);
+                matches[i] = m;
+                if (fShortCircuit && rcinfo.isDecisive && m != null && m.getConfidence() == 100) {
+                    break;  // Skip the remaining recognizers.
                 }
+            } else {
+                if (tasks == null) {
+                    tasks = new ArrayList<Callable<Object>>();
+                }
+                final CharsetRecognizer recognizer = rcinfo.recognizer;
+                final int index = i;
+                tasks.add(new Callable<Object>() {
+                    public Object call() {
+                        matches[index] = recognizer.match(CharsetDetector.this);
+                        return null;
+                    }
+                });
             }
         }
-        Collections.sort(matches);      // CharsetMatch compares on confidence
-        Collections.reverse(matches);   //  Put best match first.
-        CharsetMatch [] resultArray = new CharsetMatch[matches.size()];
-        resultArray = matches.toArray(resultArray);
-        return resultArray;
+        if (tasks == null) {
+            return;
+        }
+        // Waiting for the results makes the tasks' writes to matches[] visible to this thread.
+        ConcurrencyUtil.invokeAll(executor, tasks, "recognizer tasks");
+    }
+
+    /*
+     * Sets the input to the first length bytes of the buffer without copying them.
+     * For StreamingCharsetDetector, which reuses its buffer.
+     */
+    void setWindow(byte[] buffer, int length) {
+        fRawInput = buffer;
+        fRawLength = length;
+        fInputStream = null;
     }
 
+    static int getRecognizerCount() {
+        return ALL_CS_RECOGNIZERS.size();
+    }
     
     /**
      * Autodetect the charset of an inputStream, and return a Java Reader
@@ -339,6 +431,29 @@ public class CharsetDetector {
         return previous;
     }
     
+    /**
+     * Enable or disable short-circuit detection.
+     * If enabled, then detection stops as soon as a Unicode charset
+     * is recognized with a confidence of 100, for example from a byte order mark,
+     * or from UTF-8 text with several multi-byte characters and no invalid byte sequences.
+     * The remaining recognizers are skipped, and detectAll() returns only the matches
+     * found so far, in the same order as without short-circuiting.
+     * This saves most of the detection time for such input.
+     * <p>
+     * Short-circuiting is disabled by default.
+     *
+     * @param shortCircuit <code>true</code> to enable short-circuit detection.
+     * @return The previous setting.
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public boolean enableShortCircuit(boolean shortCircuit)
+    {
+        boolean previous = fShortCircuit;
+        fShortCircuit = shortCircuit;
+        return previous;
+    }
+
     /*
      *  MungeInput - after getting a set of raw input data to be analyzed, preprocess
      *               it by removing what appears to be html markup.
@@ -453,6 +568,9 @@ public class CharsetDetector {
     private boolean      fStripTags =   // If true, setText() will strip tags from input text.
                            false;
 
+    private boolean      fShortCircuit =  // If true, detection stops at the first decisive match.
+                           false;
+
     private boolean[]    fEnabledRecognizers;   // If not null, active set of charset recognizers had
                                                 // been changed from the default. The array index is
                                                 // corresponding to ALL_RECOGNIZER. See setDetectableCharset().
@@ -460,10 +578,18 @@ public class CharsetDetector {
     private static class CSRecognizerInfo {
         CharsetRecognizer recognizer;
         boolean isDefaultEnabled;
+        // True if a confidence of 100 from this recognizer is conclusive.
+        // Decisive recognizers are cheap and listed first.
+        boolean isDecisive;
 
         CSRecognizerInfo(CharsetRecognizer recognizer, boolean isDefaultEnabled) {
+            this(recognizer, isDefaultEnabled, false);
+        }
+
+        CSRecognizerInfo(CharsetRecognizer recognizer, boolean isDefaultEnabled, boolean isDecisive) {
             this.recognizer = recognizer;
             this.isDefaultEnabled = isDefaultEnabled;
+            this.isDecisive = isDecisive;
         }
     }
 
@@ -475,11 +601,11 @@ public class CharsetDetector {
     static {
         List<CSRecognizerInfo> list = new ArrayList<CSRecognizerInfo>();
 
-        list.add(new CSRecognizerInfo(new CharsetRecog_UTF8(), true));
-        list.add(new CSRecognizerInfo(new CharsetRecog_Unicode.CharsetRecog_UTF_16_BE(), true));
-        list.add(new CSRecognizerInfo(new CharsetRecog_Unicode.CharsetRecog_UTF_16_LE(), true));
-        list.add(new CSRecognizerInfo(new CharsetRecog_Unicode.CharsetRecog_UTF_32_BE(), true));
-        list.add(new CSRecognizerInfo(new CharsetRecog_Unicode.CharsetRecog_UTF_32_LE(), true));
+        list.add(new CSRecognizerInfo(new CharsetRecog_UTF8(), true, true));
+        list.add(new CSRecognizerInfo(new CharsetRecog_Unicode.CharsetRecog_UTF_16_BE(), true, true));
+        list.add(new CSRecognizerInfo(new CharsetRecog_Unicode.CharsetRecog_UTF_16_LE(), true, true));
+        list.add(new CSRecognizerInfo(new CharsetRecog_Unicode.CharsetRecog_UTF_32_BE(), true, true));
+        list.add(new CSRecognizerInfo(new CharsetRecog_Unicode.CharsetRecog_UTF_32_LE(), true, true));
 
         list.add(new CSRecognizerInfo(new CharsetRecog_mbcs.CharsetRecog_sjis(), true));
         list.add(new CSRecognizerInfo(new CharsetRecog_2022.CharsetRecog_2022JP(), true));
@@ -1,6 +1,6 @@
 /**
 *******************************************************************************
-* Copyright (C) 2005-2012, International Business Machines Corporation and    *
+* Copyright (C) 2005-2015, International Business Machines Corporation and    *
 * others. All Rights Reserved.                                                *
 *******************************************************************************
 */
@@ -38,7 +38,8 @@ public class CharsetMatch implements Comparable<CharsetMatch> {
      * than one charset needs to be tried, the caller will need to reset
      * the InputStream and create InputStreamReaders itself, based on the charset name.
      *
-     * @return the Reader for the Unicode character data.
+     * @return the Reader for the Unicode character data,
+     *         or null if this match does not retain the input data.
      *
      * @stable ICU 3.4
      */
@@ -46,6 +47,9 @@ public class CharsetMatch implements Comparable<CharsetMatch> {
         InputStream inputStream = fInputStream;
         
         if (inputStream == null) {
+            if (fRawInput == null) {
+                return null;  // from a StreamingCharsetDetector
+            }
             inputStream = new ByteArrayInputStream(fRawInput, 0, fRawLength);
         }
         
@@ -80,13 +84,16 @@ public class CharsetMatch implements Comparable<CharsetMatch> {
      * @param maxLength The maximium length of the String to be created when the
      *                  source of the data is an input stream, or -1 for
      *                  unlimited length.
-     * @return a String created from the converted input data.
+     * @return a String created from the converted input data,
+     *         or null if this match does not retain the input data.
      *
      * @stable ICU 3.4
      */
     public String getString(int maxLength) throws java.io.IOException {
         String result = null;
-        if (fInputStream != null) {
+        if (fInputStream == null && fRawInput == null) {
+            return null;  // from a StreamingCharsetDetector
+        } else if (fInputStream != null) {
             StringBuilder sb = new StringBuilder();
             char[] buffer = new char[1024];
             Reader reader = getReader();
@@ -225,6 +232,17 @@ public class CharsetMatch implements Comparable<CharsetMatch> {
         fLang = lang;
     }
 
+
+    /*
+     *  Constructor for a match which does not retain the input data.
+     *  Used by StreamingCharsetDetector, which reuses its input buffer.
+     */
+    CharsetMatch(int conf, String csName, String lang) {
+        fConfidence = conf;
+        fCharsetName = csName;
+        fLang = lang;
+    }
+
     
     //
     //   Private Data
@@ -1,6 +1,6 @@
 /*
  *******************************************************************************
- * Copyright (C) 1996-2013, International Business Machines Corporation and    *
+ * Copyright (C) 1996-2015, International Business Machines Corporation and    *
  * others. All Rights Reserved.                                                *
  *******************************************************************************
  *
@@ -59,7 +59,7 @@ abstract class CharsetRecog_Unicode extends CharsetRecognizer {
             byte[] input = det.fRawInput;
             int confidence = 10;
             
-            int bytesToCheck = Math.min(input.length, 30);
+            int bytesToCheck = Math.min(det.fRawLength, 30);
             for (int charIndex=0; charIndex<bytesToCheck-1; charIndex+=2) {
                 int codeUnit = codeUnit16FromBytes(input[charIndex], input[charIndex + 1]);
                 if (charIndex == 0 && codeUnit == 0xFEFF) {
@@ -93,7 +93,7 @@ abstract class CharsetRecog_Unicode extends CharsetRecognizer {
             byte[] input = det.fRawInput;
             int confidence = 10;
             
-            int bytesToCheck = Math.min(input.length, 30);
+            int bytesToCheck = Math.min(det.fRawLength, 30);
             for (int charIndex=0; charIndex<bytesToCheck-1; charIndex+=2) {
                 int codeUnit = codeUnit16FromBytes(input[charIndex+1], input[charIndex]);
                 if (charIndex == 0 && codeUnit == 0xFEFF) {
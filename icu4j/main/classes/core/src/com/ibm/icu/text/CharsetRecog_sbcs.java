@@ -1,6 +1,6 @@
 /*
  ****************************************************************************
- * Copyright (C) 2005-2013, International Business Machines Corporation and *
+ * Copyright (C) 2005-2015, International Business Machines Corporation and *
  * others. All Rights Reserved.                                             *
  ************************************************************************** *
  *
@@ -262,17 +262,67 @@ abstract class CharsetRecog_sbcs extends CharsetRecognizer {
     }
         
      
-    int match(CharsetDetector det, int[] ngrams,  byte[] byteMap)
+    int match(CharsetDetector det, int[] ngrams, boolean[] ngramBytes, byte[] byteMap)
     {
-        return match (det, ngrams, byteMap, (byte)0x20);
+        return match (det, ngrams, ngramBytes, byteMap, (byte)0x20);
     }
     
-    int match(CharsetDetector det, int[] ngrams,  byte[] byteMap, byte spaceChar)
+    int match(CharsetDetector det, int[] ngrams, boolean[] ngramBytes, byte[] byteMap, byte spaceChar)
     {
+        if (!mayHaveHits(det, ngramBytes, byteMap)) {
+            // The parser would not find any n-gram: Skip parsing the input.
+            return 0;
+        }
         NGramParser parser = new NGramParser(ngrams, byteMap);
         return parser.parse(det, spaceChar);
     }
     
+    /*
+     * Returns the set of the non-space bytes in the n-grams, for mayHaveHits(),
+     * or null if some n-gram consists only of spaces.
+     * Computed once per n-gram table.
+     */
+    static boolean[] getNGramBytes(int[] ngrams, byte spaceChar)
+    {
+        boolean[] ngramBytes = new boolean[256];
+        for (int ngram : ngrams) {
+            boolean hasNonSpace = false;
+            for (int shift = 0; shift < 24; shift += 8) {
+                int b = (ngram >> shift) & 0xFF;
+                if (b != 0 && b != (spaceChar & 0xFF)) {
+                    ngramBytes[b] = true;
+                    hasNonSpace = true;
+                }
+            }
+            if (!hasNonSpace) {
+                return null;
+            }
+        }
+        return ngramBytes;
+    }
+    
+    /*
+     * Byte histogram prefilter for the n-gram parser.
+     * Every n-gram contains some byte other than a space,
+     * and the parser gets such bytes only from the input via the byte map.
+     * Returns false if the input has none of the non-space bytes of the n-grams,
+     * in which case the parser would find no hits and return a confidence of 0.
+     * Much cheaper than parsing the input.
+     */
+    private static boolean mayHaveHits(CharsetDetector det, boolean[] ngramBytes, byte[] byteMap)
+    {
+        if (ngramBytes == null) {
+            return true;
+        }
+        short[] byteStats = det.fByteStats;
+        for (int b = 0; b < 256; ++b) {
+            if (byteStats[b] != 0 && ngramBytes[byteMap[b] & 0xFF]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     int matchIBM420(CharsetDetector det, int[] ngrams,  byte[] byteMap, byte spaceChar){
         NGramParser_IBM420 parser = new NGramParser_IBM420(ngrams, byteMap);
         return parser.parse(det, spaceChar);
@@ -280,10 +330,12 @@ abstract class CharsetRecog_sbcs extends CharsetRecognizer {
     
     static class NGramsPlusLang {
         int[] fNGrams;
+        boolean[] fNGramBytes;
         String  fLang;
         NGramsPlusLang(String la, int [] ng) {
             fLang   = la;
             fNGrams = ng;
+            fNGramBytes = getNGramBytes(ng, (byte)0x20);
         }
     }
 
@@ -424,7 +476,7 @@ abstract class CharsetRecog_sbcs extends CharsetRecognizer {
             int bestConfidenceSoFar = -1;
             String lang = null;
             for (NGramsPlusLang ngl: ngrams_8859_1) {
-                int confidence = match(det, ngl.fNGrams, byteMap);
+                int confidence = match(det, ngl.fNGrams, ngl.fNGramBytes, byteMap);
                 if (confidence > bestConfidenceSoFar) {
                     bestConfidenceSoFar = confidence;
                     lang = ngl.fLang;
@@ -519,7 +571,7 @@ abstract class CharsetRecog_sbcs extends CharsetRecognizer {
             int bestConfidenceSoFar = -1;
             String lang = null;
             for (NGramsPlusLang ngl: ngrams_8859_2) {
-                int confidence = match(det, ngl.fNGrams, byteMap);
+                int confidence = match(det, ngl.fNGrams, ngl.fNGramBytes, byteMap);
                 if (confidence > bestConfidenceSoFar) {
                     bestConfidenceSoFar = confidence;
                     lang = ngl.fLang;
@@ -587,6 +639,7 @@ abstract class CharsetRecog_sbcs extends CharsetRecognizer {
             0xDDD020, 0xDDD520, 0xDDD8D5, 0xDDD8EF, 0xDDDE20, 0xDDDED2, 0xDE20D2, 0xDE20DF, 0xDE20E1, 0xDED220, 0xDED2D0, 0xDED3DE, 0xDED920, 0xDEDBEC, 0xDEDC20, 0xDEE1E2, 
             0xDFDEDB, 0xDFE0D5, 0xDFE0D8, 0xDFE0DE, 0xE0D0D2, 0xE0D5D4, 0xE1E2D0, 0xE1E2D2, 0xE1E2D8, 0xE1EF20, 0xE2D5DB, 0xE2DE20, 0xE2DEE0, 0xE2EC20, 0xE7E2DE, 0xEBE520, 
         };
+        private static boolean[] ngramBytes = getNGramBytes(ngrams, (byte)0x20);
 
         public String getLanguage()
         {
@@ -595,7 +648,7 @@ abstract class CharsetRecog_sbcs extends CharsetRecognizer {
         
         public CharsetMatch match(CharsetDetector det)
         {
-            int confidence = match(det, ngrams, byteMap);
+            int confidence = match(det, ngrams, ngramBytes, byteMap);
             return confidence == 0 ? null : new CharsetMatch(det, this, confidence);
         }
     }
@@ -651,6 +704,7 @@ abstract class CharsetRecog_sbcs extends CharsetRecognizer {
             0xC920E4, 0xC920E5, 0xC920E8, 0xCA20C7, 0xCF20C7, 0xCFC920, 0xD120C7, 0xD1C920, 0xD320C7, 0xD920C7, 0xD9E4E9, 0xE1EA20, 0xE420C7, 0xE4C920, 0xE4E920, 0xE4EA20, 
             0xE520C7, 0xE5C720, 0xE5C920, 0xE5E620, 0xE620C7, 0xE720C7, 0xE7C720, 0xE8C7E4, 0xE8E620, 0xE920C7, 0xEA20C7, 0xEA20E5, 0xEA20E8, 0xEAC920, 0xEAD120, 0xEAE620, 
         };
+        private static boolean[] ngramBytes = getNGramBytes(ngrams, (byte)0x20);
 
         public String getLanguage()
         {
@@ -659,7 +713,7 @@ abstract class CharsetRecog_sbcs extends CharsetRecognizer {
         
         public CharsetMatch match(CharsetDetector det)
         {
-            int confidence = match(det, ngrams, byteMap);
+            int confidence = match(det, ngrams, ngramBytes, byteMap);
             return confidence == 0 ? null : new CharsetMatch(det, this, confidence);
         }
     }
@@ -715,6 +769,7 @@ abstract class CharsetRecog_sbcs extends CharsetRecognizer {
             0xE9EADE, 0xE9F220, 0xEAE1E9, 0xEAE1F4, 0xECE520, 0xED20E1, 0xED20E5, 0xED20F0, 0xEDE120, 0xEFF220, 0xEFF520, 0xF0EFF5, 0xF0F1EF, 0xF0FC20, 0xF220E1, 0xF220E5, 
             0xF220EA, 0xF220F0, 0xF220F4, 0xF3E520, 0xF3E720, 0xF3F4EF, 0xF4E120, 0xF4E1E9, 0xF4E7ED, 0xF4E7F2, 0xF4E9EA, 0xF4EF20, 0xF4EFF5, 0xF4F9ED, 0xF9ED20, 0xFEED20, 
         };
+        private static boolean[] ngramBytes = getNGramBytes(ngrams, (byte)0x20);
 
         public String getLanguage()
         {
@@ -724,7 +779,7 @@ abstract class CharsetRecog_sbcs extends CharsetRecognizer {
         public CharsetMatch match(CharsetDetector det)
         {
             String name = det.fC1Bytes ?  "windows-1253" : "ISO-8859-7";
-            int confidence = match(det, ngrams, byteMap);
+            int confidence = match(det, ngrams, ngramBytes, byteMap);
             return confidence == 0 ? null : new CharsetMatch(det, this, confidence, name, "el");
         }
     }
@@ -780,6 +835,7 @@ abstract class CharsetRecog_sbcs extends CharsetRecognizer {
             0xE9E420, 0xE9E5FA, 0xE9E9ED, 0xE9ED20, 0xE9EF20, 0xE9F820, 0xE9FA20, 0xEC20E0, 0xEC20E4, 0xECE020, 0xECE420, 0xED20E0, 0xED20E1, 0xED20E4, 0xED20EC, 0xED20EE, 
             0xED20F9, 0xEEE420, 0xEF20E4, 0xF0E420, 0xF0E920, 0xF0E9ED, 0xF2EC20, 0xF820E4, 0xF8E9ED, 0xF9EC20, 0xFA20E0, 0xFA20E1, 0xFA20E4, 0xFA20EC, 0xFA20EE, 0xFA20F9, 
         };
+        private static boolean[] ngramBytes = getNGramBytes(ngrams, (byte)0x20);
 
         public String getName()
         {
@@ -794,7 +850,7 @@ abstract class CharsetRecog_sbcs extends CharsetRecognizer {
         public CharsetMatch match(CharsetDetector det)
         {
             String name = det.fC1Bytes ? "windows-1255" : "ISO-8859-8-I";
-            int confidence = match(det, ngrams, byteMap);
+            int confidence = match(det, ngrams, ngramBytes, byteMap);
             return confidence == 0 ? null : new CharsetMatch(det, this, confidence, name, "he");
         }
     }
@@ -807,6 +863,7 @@ abstract class CharsetRecog_sbcs extends CharsetRecognizer {
             0xE420ED, 0xE420EF, 0xE420F8, 0xE420FA, 0xE4EC20, 0xE5E020, 0xE5E420, 0xE7E020, 0xE9E020, 0xE9E120, 0xE9E420, 0xEC20E4, 0xEC20ED, 0xEC20FA, 0xECF220, 0xECF920, 
             0xEDE9E9, 0xEDE9F0, 0xEDE9F8, 0xEE20E4, 0xEE20ED, 0xEE20FA, 0xEEE120, 0xEEE420, 0xF2E420, 0xF920E4, 0xF920ED, 0xF920FA, 0xF9E420, 0xFAE020, 0xFAE420, 0xFAE5E9, 
         };
+        private static boolean[] ngramBytes = getNGramBytes(ngrams, (byte)0x20);
 
         public String getLanguage()
         {
@@ -816,7 +873,7 @@ abstract class CharsetRecog_sbcs extends CharsetRecognizer {
         public CharsetMatch match(CharsetDetector det)
         {
             String name = det.fC1Bytes ? "windows-1255" : "ISO-8859-8";
-            int confidence = match(det, ngrams, byteMap);
+            int confidence = match(det, ngrams, ngramBytes, byteMap);
             return confidence == 0 ? null : new CharsetMatch(det, this, confidence, name, "he");
 
         }
@@ -873,6 +930,7 @@ abstract class CharsetRecog_sbcs extends CharsetRecognizer {
             0x65206B, 0x656469, 0x656E20, 0x657220, 0x657269, 0x657369, 0x696C65, 0x696E20, 0x696E69, 0x697220, 0x6C616E, 0x6C6172, 0x6C6520, 0x6C6572, 0x6E2061, 0x6E2062, 
             0x6E206B, 0x6E6461, 0x6E6465, 0x6E6520, 0x6E6920, 0x6E696E, 0x6EFD20, 0x72696E, 0x72FD6E, 0x766520, 0x796120, 0x796F72, 0xFD6E20, 0xFD6E64, 0xFD6EFD, 0xFDF0FD, 
         };
+        private static boolean[] ngramBytes = getNGramBytes(ngrams, (byte)0x20);
 
         public String getLanguage()
         {
@@ -882,7 +940,7 @@ abstract class CharsetRecog_sbcs extends CharsetRecognizer {
         public CharsetMatch match(CharsetDetector det)
         {
             String name = det.fC1Bytes ? "windows-1254" : "ISO-8859-9";
-            int confidence = match(det, ngrams, byteMap);
+            int confidence = match(det, ngrams, ngramBytes, byteMap);
             return confidence == 0 ? null : new CharsetMatch(det, this, confidence, name, "tr");
         }
     }
@@ -895,6 +953,7 @@ abstract class CharsetRecog_sbcs extends CharsetRecognizer {
             0xEDE020, 0xEDE520, 0xEDE8E5, 0xEDE8FF, 0xEDEE20, 0xEDEEE2, 0xEE20E2, 0xEE20EF, 0xEE20F1, 0xEEE220, 0xEEE2E0, 0xEEE3EE, 0xEEE920, 0xEEEBFC, 0xEEEC20, 0xEEF1F2, 
             0xEFEEEB, 0xEFF0E5, 0xEFF0E8, 0xEFF0EE, 0xF0E0E2, 0xF0E5E4, 0xF1F2E0, 0xF1F2E2, 0xF1F2E8, 0xF1FF20, 0xF2E5EB, 0xF2EE20, 0xF2EEF0, 0xF2FC20, 0xF7F2EE, 0xFBF520, 
         };
+        private static boolean[] ngramBytes = getNGramBytes(ngrams, (byte)0x20);
 
         private static byte[] byteMap = {
             (byte) 0x20, (byte) 0x20, (byte) 0x20, (byte) 0x20, (byte) 0x20, (byte) 0x20, (byte) 0x20, (byte) 0x20, 
@@ -943,7 +1002,7 @@ abstract class CharsetRecog_sbcs extends CharsetRecognizer {
         
         public CharsetMatch match(CharsetDetector det)
         {
-            int confidence = match(det, ngrams, byteMap);
+            int confidence = match(det, ngrams, ngramBytes, byteMap);
             return confidence == 0 ? null : new CharsetMatch(det, this, confidence);
         }
     }
@@ -956,6 +1015,7 @@ abstract class CharsetRecog_sbcs extends CharsetRecognizer {
             0xC920E1, 0xC920E3, 0xC920E6, 0xCA20C7, 0xCF20C7, 0xCFC920, 0xD120C7, 0xD1C920, 0xD320C7, 0xDA20C7, 0xDAE1EC, 0xDDED20, 0xE120C7, 0xE1C920, 0xE1EC20, 0xE1ED20, 
             0xE320C7, 0xE3C720, 0xE3C920, 0xE3E420, 0xE420C7, 0xE520C7, 0xE5C720, 0xE6C7E1, 0xE6E420, 0xEC20C7, 0xED20C7, 0xED20E3, 0xED20E6, 0xEDC920, 0xEDD120, 0xEDE420, 
         };
+        private static boolean[] ngramBytes = getNGramBytes(ngrams, (byte)0x20);
 
         private static byte[] byteMap = {
             (byte) 0x20, (byte) 0x20, (byte) 0x20, (byte) 0x20, (byte) 0x20, (byte) 0x20, (byte) 0x20, (byte) 0x20, 
@@ -1004,7 +1064,7 @@ abstract class CharsetRecog_sbcs extends CharsetRecognizer {
         
         public CharsetMatch match(CharsetDetector det)
         {
-            int confidence = match(det, ngrams, byteMap);
+            int confidence = match(det, ngrams, ngramBytes, byteMap);
             return confidence == 0 ? null : new CharsetMatch(det, this, confidence);
         }
     }
@@ -1017,6 +1077,7 @@ abstract class CharsetRecog_sbcs extends CharsetRecognizer {
             0xCEC120, 0xCEC520, 0xCEC9C5, 0xCEC9D1, 0xCECF20, 0xCECFD7, 0xCF20D0, 0xCF20D3, 0xCF20D7, 0xCFC7CF, 0xCFCA20, 0xCFCCD8, 0xCFCD20, 0xCFD3D4, 0xCFD720, 0xCFD7C1, 
             0xD0CFCC, 0xD0D2C5, 0xD0D2C9, 0xD0D2CF, 0xD2C1D7, 0xD2C5C4, 0xD3D120, 0xD3D4C1, 0xD3D4C9, 0xD3D4D7, 0xD4C5CC, 0xD4CF20, 0xD4CFD2, 0xD4D820, 0xD9C820, 0xDED4CF, 
         };
+        private static boolean[] ngramBytes = getNGramBytes(ngrams, (byte)0x20);
 
         private static byte[] byteMap = {
             (byte) 0x20, (byte) 0x20, (byte) 0x20, (byte) 0x20, (byte) 0x20, (byte) 0x20, (byte) 0x20, (byte) 0x20, 
@@ -1065,7 +1126,7 @@ abstract class CharsetRecog_sbcs extends CharsetRecognizer {
         
         public CharsetMatch match(CharsetDetector det)
         {
-            int confidence = match(det, ngrams, byteMap);
+            int confidence = match(det, ngrams, ngramBytes, byteMap);
             return confidence == 0 ? null : new CharsetMatch(det, this, confidence);
         }
     }
@@ -1109,9 +1170,10 @@ abstract class CharsetRecog_sbcs extends CharsetRecognizer {
             0x514540, 0x514671, 0x515155, 0x515540, 0x515740, 0x516840, 0x517140, 0x544041, 0x544045, 0x544140, 0x544540, 0x554041, 0x554042, 0x554045, 0x554054, 0x554056, 
             0x554069, 0x564540, 0x574045, 0x584540, 0x585140, 0x585155, 0x625440, 0x684045, 0x685155, 0x695440, 0x714041, 0x714042, 0x714045, 0x714054, 0x714056, 0x714069, 
         };
+        private static boolean[] ngramBytes = getNGramBytes(ngrams, (byte)0x40);
         public CharsetMatch match(CharsetDetector det)
         {
-            int confidence = match(det, ngrams, byteMap, (byte)0x40);
+            int confidence = match(det, ngrams, ngramBytes, byteMap, (byte)0x40);
             return confidence == 0 ? null : new CharsetMatch(det, this, confidence);
         }
     }
@@ -1128,9 +1190,10 @@ abstract class CharsetRecog_sbcs extends CharsetRecognizer {
             0x555151, 0x555158, 0x555168, 0x564045, 0x564055, 0x564071, 0x564240, 0x564540, 0x624540, 0x694045, 0x694055, 0x694071, 0x694540, 0x714140, 0x714540, 0x714651
 
         };
+        private static boolean[] ngramBytes = getNGramBytes(ngrams, (byte)0x40);
         public CharsetMatch match(CharsetDetector det)
         {
-            int confidence = match(det, ngrams, byteMap, (byte)0x40);
+            int confidence = match(det, ngrams, ngramBytes, byteMap, (byte)0x40);
             return confidence == 0 ? null : new CharsetMatch(det, this, confidence);
         }
     }
@@ -1,6 +1,6 @@
 /*
  *******************************************************************************
- * Copyright (C) 1996-2014, Google, International Business Machines Corporation and
+ * Copyright (C) 1996-2015, Google, International Business Machines Corporation and
  * others. All Rights Reserved.                                                *
  *******************************************************************************
  */
@@ -247,6 +247,28 @@ public class CompactDecimalFormat extends DecimalFormat {
         return toAppendTo;
     }
 
+    /**
+     * {@inheritDoc}
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    @Override
+    public StringBuilder format(double number, StringBuilder toAppendTo, FieldPosition pos) {
+        Output<Unit> currencyUnit = new Output<Unit>();
+        Amount amount = toAmount(number, currencyUnit);
+        if (currencyUnit.value != null) {
+            currencyUnit.value.writePrefix(toAppendTo);
+        }
+        Unit unit = amount.getUnit();
+        unit.writePrefix(toAppendTo);
+        super.format(amount.getQty(), toAppendTo, pos);
+        unit.writeSuffix(toAppendTo);
+        if (currencyUnit.value != null) {
+            currencyUnit.value.writeSuffix(toAppendTo);
+        }
+        return toAppendTo;
+    }
+
     /**
      * {@inheritDoc}
      * @stable ICU 50
@@ -270,6 +292,16 @@ public class CompactDecimalFormat extends DecimalFormat {
         return format((double) number, toAppendTo, pos);
     }
 
+    /**
+     * {@inheritDoc}
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    @Override
+    public StringBuilder format(long number, StringBuilder toAppendTo, FieldPosition pos) {
+        return format((double) number, toAppendTo, pos);
+    }
+
     /**
      * {@inheritDoc}
      * @stable ICU 49
@@ -23,6 +23,7 @@ import com.ibm.icu.impl.ICUResourceBundle;
 import com.ibm.icu.impl.RelativeDateFormat;
 import com.ibm.icu.util.Calendar;
 import com.ibm.icu.util.GregorianCalendar;
+import com.ibm.icu.util.ICUUncheckedIOException;
 import com.ibm.icu.util.TimeZone;
 import com.ibm.icu.util.ULocale;
 import com.ibm.icu.util.ULocale.Category;
@@ -630,6 +631,67 @@ public abstract class DateFormat extends UFormat {
         return format(calendar, toAppendTo, fieldPosition);
     }
 
+    /**
+     * {@icu} Formats a date into a date/time string and appends it to a StringBuilder.
+     * Unlike the StringBuffer variant, this does not synchronize on the output.
+     * The default implementation formats into a StringBuffer;
+     * subclasses may override it with a more efficient implementation.
+     * @param cal a Calendar set to the date and time to be formatted
+     * into a date/time string.  When the calendar type is different from
+     * the internal calendar held by this DateFormat instance, the date
+     * and the time will be resolved as described for the StringBuffer variant.
+     * @param toAppendTo the StringBuilder for the returning date/time string.
+     * @param fieldPosition on input: an alignment field, if desired;
+     * on output: the offsets of the alignment field.
+     * May be null if the field position is not needed.
+     * @return toAppendTo
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public StringBuilder format(Calendar cal, StringBuilder toAppendTo,
+                                FieldPosition fieldPosition) {
+        FieldPosition pos = fieldPosition != null ? fieldPosition : new FieldPosition(0);
+        StringBuffer formatted = format(cal, new StringBuffer(), pos);
+        return NumberFormat.appendFormatted(toAppendTo, formatted, fieldPosition);
+    }
+
+    /**
+     * {@icu} Formats a Date into a date/time string and appends it to a StringBuilder.
+     * Unlike the StringBuffer variant, this does not synchronize on the output.
+     * @param date a Date to be formatted into a date/time string.
+     * @param toAppendTo the StringBuilder for the returning date/time string.
+     * @param fieldPosition on input: an alignment field, if desired;
+     * on output: the offsets of the alignment field.
+     * May be null if the field position is not needed.
+     * @return toAppendTo
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public StringBuilder format(Date date, StringBuilder toAppendTo,
+                                FieldPosition fieldPosition) {
+        // Use our Calendar object
+        calendar.setTime(date);
+        return format(calendar, toAppendTo, fieldPosition);
+    }
+
+    /**
+     * {@icu} Formats a Date into a date/time string and appends it to an Appendable,
+     * for example a Writer or a StringBuilder.
+     * @param date a Date to be formatted into a date/time string.
+     * @param toAppendTo the Appendable for the returning date/time string.
+     * @return toAppendTo
+     * @throws ICUUncheckedIOException if appending to toAppendTo throws an IOException
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public final <T extends Appendable> T formatTo(Date date, T toAppendTo) {
+        if (toAppendTo instanceof StringBuilder) {
+            format(date, (StringBuilder) toAppendTo, null);
+            return toAppendTo;
+        }
+        return NumberFormat.append(toAppendTo, format(date, new StringBuilder(64), null));
+    }
+
     /**
      * Formats a Date into a date/time string.
      * @param date the time value to be formatted into a time string.
@@ -638,7 +700,7 @@ public abstract class DateFormat extends UFormat {
      */
     public final String format(Date date)
     {
-        return format(date, new StringBuffer(64),new FieldPosition(0)).toString();
+        return format(date, new StringBuilder(64), null).toString();
     }
 
     /**
@@ -1,6 +1,6 @@
 /*
  *******************************************************************************
- * Copyright (C) 1996-2014, International Business Machines Corporation and    *
+ * Copyright (C) 1996-2015, International Business Machines Corporation and    *
  * others. All Rights Reserved.                                                *
  *******************************************************************************
  */
@@ -17,9 +17,12 @@ import java.text.FieldPosition;
 import java.text.Format;
 import java.text.ParsePosition;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 import com.ibm.icu.impl.ICUConfig;
 import com.ibm.icu.impl.PatternProps;
@@ -31,6 +34,7 @@ import com.ibm.icu.text.PluralRules.FixedDecimal;
 import com.ibm.icu.util.Currency;
 import com.ibm.icu.util.Currency.CurrencyUsage;
 import com.ibm.icu.util.CurrencyAmount;
+import com.ibm.icu.util.Freezable;
 import com.ibm.icu.util.ULocale;
 import com.ibm.icu.util.ULocale.Category;
 
@@ -598,7 +602,8 @@ import com.ibm.icu.util.ULocale.Category;
  * <h4>Synchronization</h4>
  *
  * <p><code>DecimalFormat</code> objects are not synchronized.  Multiple threads should
- * not access one formatter concurrently.
+ * not access one formatter concurrently, unless it is frozen.
+ * See {@link #freeze()} and {@link com.ibm.icu.util.Freezable}.
  *
  * @see          java.text.Format
  * @see          NumberFormat
@@ -606,7 +611,7 @@ import com.ibm.icu.util.ULocale.Category;
  * @author       Alan Liu
  * @stable ICU 2.0
  */
-public class DecimalFormat extends NumberFormat {
+public class DecimalFormat extends NumberFormat implements Freezable<DecimalFormat> {
 
     /**
      * Creates a DecimalFormat using the default pattern and symbols for the default
@@ -780,7 +785,24 @@ public class DecimalFormat extends NumberFormat {
      */
     @Override
     public StringBuffer format(double number, StringBuffer result, FieldPosition fieldPosition) {
-        return format(number, result, fieldPosition, false);
+        return NumberFormat.appendFormatted(
+            result, format(number, new StringBuilder(), fieldPosition, false), fieldPosition);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    @Override
+    public StringBuilder format(double number, StringBuilder result, FieldPosition fieldPosition) {
+        FieldPosition pos = fieldPosition != null ? fieldPosition : NULL_FIELD_POSITION;
+        if (formatWidth > 0 && result.length() != 0) {
+            // Padding is computed relative to the start of the output.
+            return NumberFormat.appendFormatted(
+                result, format(number, new StringBuilder(), pos, false), fieldPosition);
+        }
+        return format(number, result, pos, false);
     }
 
     // See if number is negative.
@@ -826,8 +848,17 @@ public class DecimalFormat extends NumberFormat {
 
     // [Spark/CDL] The actual method to format number. If boolean value
     // parseAttr == true, then attribute information will be recorded.
-    private StringBuffer format(double number, StringBuffer result, FieldPosition fieldPosition,
+    private StringBuilder format(double number, StringBuilder result, FieldPosition fieldPosition,
                                 boolean parseAttr) {
+        return format(number, result, fieldPosition, parseAttr, null);
+    }
+
+    /**
+     * Formats the number with the given DigitList,
+     * or with the one from acquireDigitList() if the given one is null.
+     */
+    private StringBuilder format(double number, StringBuilder result, FieldPosition fieldPosition,
+                                boolean parseAttr, DigitList givenDigitList) {
         fieldPosition.setBeginIndex(0);
         fieldPosition.setEndIndex(0);
 
@@ -862,7 +893,7 @@ public class DecimalFormat extends NumberFormat {
         number = round(number);
 
         if (Double.isInfinite(number)) {
-            int prefixLen = appendAffix(result, isNegative, true, parseAttr);
+            int prefixLen = appendAffix(result, isNegative, true, parseAttr, digitList);
 
             if (fieldPosition.getField() == NumberFormat.INTEGER_FIELD) {
                 fieldPosition.setBeginIndex(result.length());
@@ -882,7 +913,7 @@ public class DecimalFormat extends NumberFormat {
                 fieldPosition.setEndIndex(result.length());
             }
 
-            int suffixLen = appendAffix(result, isNegative, false, parseAttr);
+            int suffixLen = appendAffix(result, isNegative, false, parseAttr, digitList);
 
             addPadding(result, fieldPosition, prefixLen, suffixLen);
             return result;
@@ -918,10 +949,15 @@ public class DecimalFormat extends NumberFormat {
 
         // At this point we are guaranteed a nonnegative finite
         // number.
-        synchronized (digitList) {
-            digitList.set(number, precision, !useExponentialNotation &&
+        DigitList dl = givenDigitList != null ? givenDigitList : acquireDigitList();
+        try {
+            dl.set(number, precision, !useExponentialNotation &&
                           !areSignificantDigitsUsed());
-            return subformat(number, result, fieldPosition, isNegative, false, parseAttr);
+            return subformat(number, result, fieldPosition, isNegative, false, parseAttr, dl);
+        } finally {
+            if (givenDigitList == null) {
+                releaseDigitList(dl);
+            }
         }
     }
 
@@ -1074,10 +1110,27 @@ public class DecimalFormat extends NumberFormat {
     // [Spark/CDL] Delegate to format_long_StringBuffer_FieldPosition_boolean
     @Override
     public StringBuffer format(long number, StringBuffer result, FieldPosition fieldPosition) {
-        return format(number, result, fieldPosition, false);
+        return NumberFormat.appendFormatted(
+            result, format(number, new StringBuilder(), fieldPosition, false), fieldPosition);
     }
 
-    private StringBuffer format(long number, StringBuffer result, FieldPosition fieldPosition,
+    /**
+     * {@inheritDoc}
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    @Override
+    public StringBuilder format(long number, StringBuilder result, FieldPosition fieldPosition) {
+        FieldPosition pos = fieldPosition != null ? fieldPosition : NULL_FIELD_POSITION;
+        if (formatWidth > 0 && result.length() != 0) {
+            // Padding is computed relative to the start of the output.
+            return NumberFormat.appendFormatted(
+                result, format(number, new StringBuilder(), pos, false), fieldPosition);
+        }
+        return format(number, result, pos, false);
+    }
+
+    private StringBuilder format(long number, StringBuilder result, FieldPosition fieldPosition,
                                 boolean parseAttr) {
         fieldPosition.setBeginIndex(0);
         fieldPosition.setEndIndex(0);
@@ -1085,7 +1138,7 @@ public class DecimalFormat extends NumberFormat {
         // If we are to do rounding, we need to move into the BigDecimal
         // domain in order to do divide/multiply correctly.
         if (actualRoundingIncrementICU != null) {
-            return format(BigDecimal.valueOf(number), result, fieldPosition);
+            return format(BigDecimal.valueOf(number), result, fieldPosition, false);
         }
 
         boolean isNegative = (number < 0);
@@ -1116,9 +1169,12 @@ public class DecimalFormat extends NumberFormat {
         }
 
         number *= multiplier;
-        synchronized (digitList) {
-            digitList.set(number, precision(true));
-            return subformat(number, result, fieldPosition, isNegative, true, parseAttr);
+        DigitList dl = acquireDigitList();
+        try {
+            dl.set(number, precision(true));
+            return subformat(number, result, fieldPosition, isNegative, true, parseAttr, dl);
+        } finally {
+            releaseDigitList(dl);
         }
     }
 
@@ -1130,15 +1186,27 @@ public class DecimalFormat extends NumberFormat {
     @Override
     public StringBuffer format(BigInteger number, StringBuffer result,
                                FieldPosition fieldPosition) {
-        return format(number, result, fieldPosition, false);
+        return NumberFormat.appendFormatted(
+            result, format(number, new StringBuilder(), fieldPosition, false), fieldPosition);
+    }
+
+    @Override
+    StringBuilder format(BigInteger number, StringBuilder result, FieldPosition fieldPosition) {
+        FieldPosition pos = fieldPosition != null ? fieldPosition : NULL_FIELD_POSITION;
+        if (formatWidth > 0 && result.length() != 0) {
+            // Padding is computed relative to the start of the output.
+            return NumberFormat.appendFormatted(
+                result, format(number, new StringBuilder(), pos, false), fieldPosition);
+        }
+        return format(number, result, pos, false);
     }
 
-    private StringBuffer format(BigInteger number, StringBuffer result, FieldPosition fieldPosition,
+    private StringBuilder format(BigInteger number, StringBuilder result, FieldPosition fieldPosition,
                                 boolean parseAttr) {
         // If we are to do rounding, we need to move into the BigDecimal
         // domain in order to do divide/multiply correctly.
         if (actualRoundingIncrementICU != null) {
-            return format(new BigDecimal(number), result, fieldPosition);
+            return format(new BigDecimal(number), result, fieldPosition, false);
         }
 
         if (multiplier != 1) {
@@ -1147,10 +1215,13 @@ public class DecimalFormat extends NumberFormat {
 
         // At this point we are guaranteed a nonnegative finite
         // number.
-        synchronized (digitList) {
-            digitList.set(number, precision(true));
+        DigitList dl = acquireDigitList();
+        try {
+            dl.set(number, precision(true));
             return subformat(number.intValue(), result, fieldPosition, number.signum() < 0, true,
-                             parseAttr);
+                             parseAttr, dl);
+        } finally {
+            releaseDigitList(dl);
         }
     }
 
@@ -1162,10 +1233,22 @@ public class DecimalFormat extends NumberFormat {
     @Override
     public StringBuffer format(java.math.BigDecimal number, StringBuffer result,
                                FieldPosition fieldPosition) {
-        return format(number, result, fieldPosition, false);
+        return NumberFormat.appendFormatted(
+            result, format(number, new StringBuilder(), fieldPosition, false), fieldPosition);
+    }
+
+    @Override
+    StringBuilder format(java.math.BigDecimal number, StringBuilder result, FieldPosition fieldPosition) {
+        FieldPosition pos = fieldPosition != null ? fieldPosition : NULL_FIELD_POSITION;
+        if (formatWidth > 0 && result.length() != 0) {
+            // Padding is computed relative to the start of the output.
+            return NumberFormat.appendFormatted(
+                result, format(number, new StringBuilder(), pos, false), fieldPosition);
+        }
+        return format(number, result, pos, false);
     }
 
-    private StringBuffer format(java.math.BigDecimal number, StringBuffer result,
+    private StringBuilder format(java.math.BigDecimal number, StringBuilder result,
                                 FieldPosition fieldPosition,
             boolean parseAttr) {
         if (multiplier != 1) {
@@ -1176,11 +1259,14 @@ public class DecimalFormat extends NumberFormat {
             number = number.divide(actualRoundingIncrement, 0, roundingMode).multiply(actualRoundingIncrement);
         }
 
-        synchronized (digitList) {
-            digitList.set(number, precision(false), !useExponentialNotation &&
+        DigitList dl = acquireDigitList();
+        try {
+            dl.set(number, precision(false), !useExponentialNotation &&
                           !areSignificantDigitsUsed());
             return subformat(number.doubleValue(), result, fieldPosition, number.signum() < 0,
-                             false, parseAttr);
+                             false, parseAttr, dl);
+        } finally {
+            releaseDigitList(dl);
         }
     }
 
@@ -1192,6 +1278,23 @@ public class DecimalFormat extends NumberFormat {
     @Override
     public StringBuffer format(BigDecimal number, StringBuffer result,
                                FieldPosition fieldPosition) {
+        return NumberFormat.appendFormatted(
+            result, format(number, new StringBuilder(), fieldPosition, false), fieldPosition);
+    }
+
+    @Override
+    StringBuilder format(BigDecimal number, StringBuilder result, FieldPosition fieldPosition) {
+        FieldPosition pos = fieldPosition != null ? fieldPosition : NULL_FIELD_POSITION;
+        if (formatWidth > 0 && result.length() != 0) {
+            // Padding is computed relative to the start of the output.
+            return NumberFormat.appendFormatted(
+                result, format(number, new StringBuilder(), pos, false), fieldPosition);
+        }
+        return format(number, result, pos, false);
+    }
+
+    private StringBuilder format(BigDecimal number, StringBuilder result,
+                                 FieldPosition fieldPosition, boolean parseAttr) {
          // This method is just a copy of the corresponding java.math.BigDecimal method
          // for now. It isn't very efficient since it must create a conversion object to
          // do math on the rounding increment. In the future we may try to clean this up,
@@ -1205,14 +1308,65 @@ public class DecimalFormat extends NumberFormat {
                 .multiply(actualRoundingIncrementICU, mathContext);
         }
 
-        synchronized (digitList) {
-            digitList.set(number, precision(false), !useExponentialNotation &&
+        DigitList dl = acquireDigitList();
+        try {
+            dl.set(number, precision(false), !useExponentialNotation &&
                           !areSignificantDigitsUsed());
             return subformat(number.doubleValue(), result, fieldPosition, number.signum() < 0,
-                             false, false);
+                             false, parseAttr, dl);
+        } finally {
+            releaseDigitList(dl);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * @stable ICU 3.0
+     */
+    @Override
+    public StringBuffer format(CurrencyAmount currAmt, StringBuffer toAppendTo,
+                               FieldPosition pos) {
+        if (isFrozen() && !currAmt.getCurrency().equals(getCurrency())) {
+            // The default implementation temporarily sets the currency.
+            return cloneAsThawed().format(currAmt, toAppendTo, pos);
         }
+        return super.format(currAmt, toAppendTo, pos);
     }
 
+    /**
+     * Returns the DigitList for one format() call: Normally the digitList member,
+     * but a new one if another thread is using it. This avoids both locking
+     * and allocation for uncontended formatting, frozen or not.
+     * Must be paired with releaseDigitList().
+     */
+    private DigitList acquireDigitList() {
+        DigitList dl = digitList;
+        if (DIGIT_LIST_IN_USE.compareAndSet(this, 0, 1)) {
+            return dl;
+        }
+        return new DigitList();
+    }
+
+    private void releaseDigitList(DigitList dl) {
+        if (dl == digitList) {
+            digitListInUse = 0;
+        }
+    }
+
+    /**
+     * Stands in for a null FieldPosition in the StringBuilder format methods.
+     * It matches no field and ignores the indexes set on it, so it can be shared.
+     */
+    private static final FieldPosition NULL_FIELD_POSITION = new FieldPosition(-1) {
+        @Override
+        public void setBeginIndex(int bi) {
+        }
+
+        @Override
+        public void setEndIndex(int ei) {
+        }
+    };
+
     /**
      * Returns true if a grouping separator belongs at the given position, based on whether
      * grouping is in use and the values of the primary and secondary grouping interval.
@@ -1248,15 +1402,16 @@ public class DecimalFormat extends NumberFormat {
         }
     }
 
-    private StringBuffer subformat(int number, StringBuffer result, FieldPosition fieldPosition,
-                                   boolean isNegative, boolean isInteger, boolean parseAttr) {
+    private StringBuilder subformat(int number, StringBuilder result, FieldPosition fieldPosition,
+                                   boolean isNegative, boolean isInteger, boolean parseAttr,
+                                   DigitList dl) {
         if (currencySignCount == CURRENCY_SIGN_COUNT_IN_PLURAL_FORMAT) {
             // compute the plural category from the digitList plus other settings
-            return subformat(currencyPluralInfo.select(getFixedDecimal(number)),
+            return subformat(currencyPluralInfo.select(getFixedDecimal(number, dl)),
                              result, fieldPosition, isNegative,
-                             isInteger, parseAttr);
+                             isInteger, parseAttr, dl);
         } else {
-            return subformat(result, fieldPosition, isNegative, isInteger, parseAttr);
+            return subformat(result, fieldPosition, isNegative, isInteger, parseAttr, dl);
         }
     }
 
@@ -1265,7 +1420,14 @@ public class DecimalFormat extends NumberFormat {
      */
     /*package*/ FixedDecimal getFixedDecimal(double number) {
         // get the visible fractions and the number of fraction digits.
-       return getFixedDecimal(number, digitList);
+        if (isFrozen()) {
+            // Other threads may have formatted with the digitList since this thread did:
+            // Compute the digits again in a DigitList of our own.
+            DigitList dl = new DigitList();
+            format(number, new StringBuilder(), NULL_FIELD_POSITION, false, dl);
+            return getFixedDecimal(number, dl);
+        }
+        return getFixedDecimal(number, digitList);
     }
     
     FixedDecimal getFixedDecimal(double number, DigitList dl) {
@@ -1306,21 +1468,40 @@ public class DecimalFormat extends NumberFormat {
         return new FixedDecimal(number, v, f);
     }
 
-    private StringBuffer subformat(double number, StringBuffer result, FieldPosition fieldPosition,
+    private StringBuilder subformat(double number, StringBuilder result, FieldPosition fieldPosition,
                                    boolean isNegative,
-            boolean isInteger, boolean parseAttr) {
+            boolean isInteger, boolean parseAttr, DigitList dl) {
         if (currencySignCount == CURRENCY_SIGN_COUNT_IN_PLURAL_FORMAT) {
             // compute the plural category from the digitList plus other settings
-            return subformat(currencyPluralInfo.select(getFixedDecimal(number)),
+            return subformat(currencyPluralInfo.select(getFixedDecimal(number, dl)),
                              result, fieldPosition, isNegative,
-                             isInteger, parseAttr);
+                             isInteger, parseAttr, dl);
         } else {
-            return subformat(result, fieldPosition, isNegative, isInteger, parseAttr);
+            return subformat(result, fieldPosition, isNegative, isInteger, parseAttr, dl);
+        }
+    }
+
+    private StringBuilder subformat(String pluralCount, StringBuilder result, FieldPosition fieldPosition,
+            boolean isNegative, boolean isInteger, boolean parseAttr, DigitList dl) {
+        if (isFrozen()) {
+            // freeze() set up a copy for each plural count, which is not modified later.
+            DecimalFormat pluralFormat = frozenPluralFormats.get(pluralCount);
+            if (pluralFormat == null) {
+                // Not one of the plural rules' keywords.
+                pluralFormat = cloneAsThawed();
+                pluralFormat.setUpForPluralCount(pluralCount);
+            }
+            return pluralFormat.subformat(result, fieldPosition, isNegative, isInteger, parseAttr, dl);
         }
+        setUpForPluralCount(pluralCount);
+        return subformat(result, fieldPosition, isNegative, isInteger, parseAttr, dl);
     }
 
-    private StringBuffer subformat(String pluralCount, StringBuffer result, FieldPosition fieldPosition,
-            boolean isNegative, boolean isInteger, boolean parseAttr) {
+    /**
+     * Sets the pattern and the affixes for formatting currency plural names
+     * with the given plural count.
+     */
+    private void setUpForPluralCount(String pluralCount) {
         // There are 2 ways to activate currency plural format: by applying a pattern with
         // 3 currency sign directly, or by instantiate a decimal formatter using
         // PLURALCURRENCYSTYLE.  For both cases, the number of currency sign in the
@@ -1346,15 +1527,15 @@ public class DecimalFormat extends NumberFormat {
         // based on pattern alone, and it is already expanded during applying pattern, or
         // setDecimalFormatSymbols, or setCurrency.
         expandAffixAdjustWidth(pluralCount);
-        return subformat(result, fieldPosition, isNegative, isInteger, parseAttr);
     }
 
     /**
      * Complete the formatting of a finite number. On entry, the
-     * digitList must be filled in with the correct digits.
+     * digit list must be filled in with the correct digits.
      */
-    private StringBuffer subformat(StringBuffer result, FieldPosition fieldPosition,
-                                   boolean isNegative, boolean isInteger, boolean parseAttr) {
+    private StringBuilder subformat(StringBuilder result, FieldPosition fieldPosition,
+                                   boolean isNegative, boolean isInteger, boolean parseAttr,
+                                   DigitList dl) {
         // NOTE: This isn't required anymore because DigitList takes care of this.
         //
         // // The negative of the exponent represents the number of leading // zeros
@@ -1375,28 +1556,29 @@ public class DecimalFormat extends NumberFormat {
         // zero. This allows sensible computations and preserves relations such as
         // signum(1/x) = signum(x), where x is +Infinity or -Infinity.  Prior to this fix,
         // we always formatted zero values as if they were positive. Liu 7/6/98.
-        if (digitList.isZero()) {
-            digitList.decimalAt = 0; // Normalize
+        if (dl.isZero()) {
+            dl.decimalAt = 0; // Normalize
         }
 
-        int prefixLen = appendAffix(result, isNegative, true, parseAttr);
+        int prefixLen = appendAffix(result, isNegative, true, parseAttr, dl);
 
         if (useExponentialNotation) {
-            subformatExponential(result, fieldPosition, parseAttr);
+            subformatExponential(result, fieldPosition, parseAttr, dl);
         } else {
-            subformatFixed(result, fieldPosition, isInteger, parseAttr);
+            subformatFixed(result, fieldPosition, isInteger, parseAttr, dl);
         }
 
-        int suffixLen = appendAffix(result, isNegative, false, parseAttr);
+        int suffixLen = appendAffix(result, isNegative, false, parseAttr, dl);
 
         addPadding(result, fieldPosition, prefixLen, suffixLen);
         return result;
     }
 
-    private void subformatFixed(StringBuffer result,
+    private void subformatFixed(StringBuilder result,
             FieldPosition fieldPosition,
             boolean isInteger,
-            boolean parseAttr) {
+            boolean parseAttr,
+            DigitList dl) {
         char [] digits = symbols.getDigitsLocal();
 
         char grouping = currencySignCount == CURRENCY_SIGN_COUNT_ZERO ?
@@ -1430,9 +1612,9 @@ public class DecimalFormat extends NumberFormat {
         // Output the integer portion. Here 'count' is the total number of integer
         // digits we will display, including both leading zeros required to satisfy
         // getMinimumIntegerDigits, and actual digits present in the number.
-        int count = useSigDig ? Math.max(1, digitList.decimalAt) : minIntDig;
-        if (digitList.decimalAt > 0 && count < digitList.decimalAt) {
-            count = digitList.decimalAt;
+        int count = useSigDig ? Math.max(1, dl.decimalAt) : minIntDig;
+        if (dl.decimalAt > 0 && count < dl.decimalAt) {
+            count = dl.decimalAt;
         }
 
         // Handle the case where getMaximumIntegerDigits() is smaller than the real
@@ -1443,15 +1625,15 @@ public class DecimalFormat extends NumberFormat {
         int digitIndex = 0; // Index into digitList.fDigits[]
         if (count > maxIntDig && maxIntDig >= 0) {
             count = maxIntDig;
-            digitIndex = digitList.decimalAt - count;
+            digitIndex = dl.decimalAt - count;
         }
 
         int sizeBeforeIntegerPart = result.length();
         for (i = count - 1; i >= 0; --i) {
-            if (i < digitList.decimalAt && digitIndex < digitList.count
+            if (i < dl.decimalAt && digitIndex < dl.count
                 && sigCount < maxSigDig) {
                 // Output a real digit
-                result.append(digits[digitList.getDigitValue(digitIndex++)]);
+                result.append(digits[dl.getDigitValue(digitIndex++)]);
                 ++sigCount;
             } else {
                 // Output a zero (leading or trailing)
@@ -1483,13 +1665,13 @@ public class DecimalFormat extends NumberFormat {
         // zero to the left of the decimal point as one signficant digit. Ordinarily we
         // do not count any leading 0's as significant. If the number we are formatting
         // is not zero, then either sigCount or digits.getCount() will be non-zero.
-        if (sigCount == 0 && digitList.count == 0) {
+        if (sigCount == 0 && dl.count == 0) {
           sigCount = 1;
         }      
 
         // Determine whether or not there are any printable fractional digits. If
         // we've used up the digits we know there aren't.
-        boolean fractionPresent = (!isInteger && digitIndex < digitList.count)
+        boolean fractionPresent = (!isInteger && digitIndex < dl.count)
                 || (useSigDig ? (sigCount < minSigDig) : (getMinimumFractionDigits() > 0));
 
         // If there is no fraction present, and we haven't printed any integer digits,
@@ -1529,7 +1711,7 @@ public class DecimalFormat extends NumberFormat {
 
         count = useSigDig ? Integer.MAX_VALUE : getMaximumFractionDigits();
         if (useSigDig && (sigCount == maxSigDig ||
-                          (sigCount >= minSigDig && digitIndex == digitList.count))) {
+                          (sigCount >= minSigDig && digitIndex == dl.count))) {
             count = 0;
         }
         for (i = 0; i < count; ++i) {
@@ -1539,14 +1721,14 @@ public class DecimalFormat extends NumberFormat {
             // integer, so there is no fractional stuff to display, or we're out of
             // significant digits.
             if (!useSigDig && i >= getMinimumFractionDigits() &&
-                (isInteger || digitIndex >= digitList.count)) {
+                (isInteger || digitIndex >= dl.count)) {
                 break;
             }
 
             // Output leading fractional zeros. These are zeros that come after the
             // decimal but before any significant digits. These are only output if
             // abs(number being formatted) < 1.0.
-            if (-1 - i > (digitList.decimalAt - 1)) {
+            if (-1 - i > (dl.decimalAt - 1)) {
                 result.append(digits[0]);
                 if (recordFractionDigits) {
                     ++fractionalDigitsCount;
@@ -1557,8 +1739,8 @@ public class DecimalFormat extends NumberFormat {
 
             // Output a digit, if we have any precision left, or a zero if we
             // don't. We don't want to output noise digits.
-            if (!isInteger && digitIndex < digitList.count) {
-                byte digit = digitList.getDigitValue(digitIndex++);
+            if (!isInteger && digitIndex < dl.count) {
+                byte digit = dl.getDigitValue(digitIndex++);
                 result.append(digits[digit]);
                 if (recordFractionDigits) {
                     ++fractionalDigitsCount;
@@ -1577,7 +1759,7 @@ public class DecimalFormat extends NumberFormat {
             // all the real digits and reach the minimum, then we are done.
             ++sigCount;
             if (useSigDig && (sigCount == maxSigDig ||
-                              (digitIndex == digitList.count && sigCount >= minSigDig))) {
+                              (digitIndex == dl.count && sigCount >= minSigDig))) {
                 break;
             }
         }
@@ -1598,9 +1780,10 @@ public class DecimalFormat extends NumberFormat {
         }
     }
 
-    private void subformatExponential(StringBuffer result,
+    private void subformatExponential(StringBuilder result,
             FieldPosition fieldPosition,
-            boolean parseAttr) {
+            boolean parseAttr,
+            DigitList dl) {
         char [] digits = symbols.getDigitsLocal();
         char decimal = currencySignCount == CURRENCY_SIGN_COUNT_ZERO ?
                 symbols.getDecimalSeparator() : symbols.getMonetaryDecimalSeparator();
@@ -1658,7 +1841,7 @@ public class DecimalFormat extends NumberFormat {
         // digits is "12.34e-3".  If maximum integer digits are defined and are larger
         // than minimum integer digits, then minimum integer digits are ignored.
 
-        int exponent = digitList.decimalAt;
+        int exponent = dl.decimalAt;
         if (maxIntDig > 1 && maxIntDig != minIntDig) {
             // A exponent increment is defined; adjust to it.
             exponent = (exponent > 0) ? (exponent - 1) / maxIntDig : (exponent / maxIntDig) - 1;
@@ -1676,8 +1859,8 @@ public class DecimalFormat extends NumberFormat {
         int minimumDigits = minIntDig + minFracDig;
         // The number of integer digits is handled specially if the number
         // is zero, since then there may be no digits.
-        int integerDigits = digitList.isZero() ? minIntDig : digitList.decimalAt - exponent;
-        int totalDigits = digitList.count;
+        int integerDigits = dl.isZero() ? minIntDig : dl.decimalAt - exponent;
+        int totalDigits = dl.count;
         if (minimumDigits > totalDigits)
             totalDigits = minimumDigits;
         if (integerDigits > totalDigits)
@@ -1715,7 +1898,7 @@ public class DecimalFormat extends NumberFormat {
                 recordFractionDigits = fieldPosition instanceof UFieldPosition;
 
             }
-            byte digit = (i < digitList.count) ? digitList.getDigitValue(i) : (byte)0;
+            byte digit = (i < dl.count) ? dl.getDigitValue(i) : (byte)0;
             result.append(digits[digit]);
             if (recordFractionDigits) {
                 ++fractionalDigitsCount;
@@ -1725,7 +1908,7 @@ public class DecimalFormat extends NumberFormat {
         }
 
         // For ICU compatibility and format 0 to 0E0 with pattern "#E0" [Richard/GCL]
-        if (digitList.isZero() && (totalDigits == 0)) {
+        if (dl.isZero() && (totalDigits == 0)) {
             result.append(digits[0]);
         }
 
@@ -1776,7 +1959,7 @@ public class DecimalFormat extends NumberFormat {
         // For zero values, we force the exponent to zero. We must do this here, and
         // not earlier, because the value is used to determine integer digit count
         // above.
-        if (digitList.isZero())
+        if (dl.isZero())
             exponent = 0;
 
         boolean negativeExponent = exponent < 0;
@@ -1799,17 +1982,17 @@ public class DecimalFormat extends NumberFormat {
             }
         }
         int expBegin = result.length();
-        digitList.set(exponent);
+        dl.set(exponent);
         {
             int expDig = minExponentDigits;
             if (useExponentialNotation && expDig < 1) {
                 expDig = 1;
             }
-            for (i = digitList.decimalAt; i < expDig; ++i)
+            for (i = dl.decimalAt; i < expDig; ++i)
                 result.append(digits[0]);
         }
-        for (i = 0; i < digitList.decimalAt; ++i) {
-            result.append((i < digitList.count) ? digits[digitList.getDigitValue(i)]
+        for (i = 0; i < dl.decimalAt; ++i) {
+            result.append((i < dl.count) ? digits[dl.getDigitValue(i)]
                           : digits[0]);
         }
         // [Spark/CDL] Add attribute for exponent part.
@@ -1818,7 +2001,7 @@ public class DecimalFormat extends NumberFormat {
         }
     }
 
-    private final void addPadding(StringBuffer result, FieldPosition fieldPosition, int prefixLen,
+    private final void addPadding(StringBuilder result, FieldPosition fieldPosition, int prefixLen,
                                   int suffixLen) {
         if (formatWidth > 0) {
             int len = formatWidth - result.length();
@@ -1905,6 +2088,16 @@ public class DecimalFormat extends NumberFormat {
      * @return a Number or CurrencyAmount or null
      */
     private Object parse(String text, ParsePosition parsePosition, Currency[] currency) {
+        if (isFrozen()) {
+            // Parsing uses the digitList member and lazily set-up currency affixes.
+            synchronized (this) {
+                return parseUnfrozen(text, parsePosition, currency);
+            }
+        }
+        return parseUnfrozen(text, parsePosition, currency);
+    }
+
+    private Object parseUnfrozen(String text, ParsePosition parsePosition, Currency[] currency) {
         int backup;
         int i = backup = parsePosition.getIndex();
 
@@ -3145,6 +3338,7 @@ public class DecimalFormat extends NumberFormat {
      * @stable ICU 2.0
      */
     public void setDecimalFormatSymbols(DecimalFormatSymbols newSymbols) {
+        checkNotFrozen();
         symbols = (DecimalFormatSymbols) newSymbols.clone();
         setCurrencyForSymbols();
         expandAffixes(null);
@@ -3195,6 +3389,7 @@ public class DecimalFormat extends NumberFormat {
      * @stable ICU 2.0
      */
     public void setPositivePrefix(String newValue) {
+        checkNotFrozen();
         positivePrefix = newValue;
         posPrefixPattern = null;
     }
@@ -3219,6 +3414,7 @@ public class DecimalFormat extends NumberFormat {
      * @stable ICU 2.0
      */
     public void setNegativePrefix(String newValue) {
+        checkNotFrozen();
         negativePrefix = newValue;
         negPrefixPattern = null;
     }
@@ -3243,6 +3439,7 @@ public class DecimalFormat extends NumberFormat {
      * @stable ICU 2.0
      */
     public void setPositiveSuffix(String newValue) {
+        checkNotFrozen();
         positiveSuffix = newValue;
         posSuffixPattern = null;
     }
@@ -3267,6 +3464,7 @@ public class DecimalFormat extends NumberFormat {
      * @stable ICU 2.0
      */
     public void setNegativeSuffix(String newValue) {
+        checkNotFrozen();
         negativeSuffix = newValue;
         negSuffixPattern = null;
     }
@@ -3298,6 +3496,7 @@ public class DecimalFormat extends NumberFormat {
      * @stable ICU 2.0
      */
     public void setMultiplier(int newValue) {
+        checkNotFrozen();
         if (newValue == 0) {
             throw new IllegalArgumentException("Bad multiplier: " + newValue);
         }
@@ -3333,6 +3532,7 @@ public class DecimalFormat extends NumberFormat {
      * @stable ICU 2.0
      */
     public void setRoundingIncrement(java.math.BigDecimal newValue) {
+        checkNotFrozen();
         if (newValue == null) {
             setRoundingIncrement((BigDecimal) null);
         } else {
@@ -3353,6 +3553,7 @@ public class DecimalFormat extends NumberFormat {
      * @stable ICU 3.6
      */
     public void setRoundingIncrement(BigDecimal newValue) {
+        checkNotFrozen();
         int i = newValue == null ? 0 : newValue.compareTo(BigDecimal.ZERO);
         if (i < 0) {
             throw new IllegalArgumentException("Illegal rounding increment");
@@ -3378,6 +3579,7 @@ public class DecimalFormat extends NumberFormat {
      * @stable ICU 2.0
      */
     public void setRoundingIncrement(double newValue) {
+        checkNotFrozen();
         if (newValue < 0.0) {
             throw new IllegalArgumentException("Illegal rounding increment");
         }
@@ -3422,6 +3624,7 @@ public class DecimalFormat extends NumberFormat {
      */
     @Override
     public void setRoundingMode(int roundingMode) {
+        checkNotFrozen();
         if (roundingMode < BigDecimal.ROUND_UP || roundingMode > BigDecimal.ROUND_UNNECESSARY) {
             throw new IllegalArgumentException("Invalid rounding mode: " + roundingMode);
         }
@@ -3462,6 +3665,7 @@ public class DecimalFormat extends NumberFormat {
      * @stable ICU 2.0
      */
     public void setFormatWidth(int width) {
+        checkNotFrozen();
         if (width < 0) {
             throw new IllegalArgumentException("Illegal format width");
         }
@@ -3496,6 +3700,7 @@ public class DecimalFormat extends NumberFormat {
      * @stable ICU 2.0
      */
     public void setPadCharacter(char padChar) {
+        checkNotFrozen();
         pad = padChar;
     }
 
@@ -3543,6 +3748,7 @@ public class DecimalFormat extends NumberFormat {
      * @stable ICU 2.0
      */
     public void setPadPosition(int padPos) {
+        checkNotFrozen();
         if (padPos < PAD_BEFORE_PREFIX || padPos > PAD_AFTER_SUFFIX) {
             throw new IllegalArgumentException("Illegal pad position");
         }
@@ -3580,6 +3786,7 @@ public class DecimalFormat extends NumberFormat {
      * @stable ICU 2.0
      */
     public void setScientificNotation(boolean useScientific) {
+        checkNotFrozen();
         useExponentialNotation = useScientific;
     }
 
@@ -3613,6 +3820,7 @@ public class DecimalFormat extends NumberFormat {
      * @stable ICU 2.0
      */
     public void setMinimumExponentDigits(byte minExpDig) {
+        checkNotFrozen();
         if (minExpDig < 1) {
             throw new IllegalArgumentException("Exponent digits must be >= 1");
         }
@@ -3651,6 +3859,7 @@ public class DecimalFormat extends NumberFormat {
      * @stable ICU 2.0
      */
     public void setExponentSignAlwaysShown(boolean expSignAlways) {
+        checkNotFrozen();
         exponentSignAlwaysShown = expSignAlways;
     }
 
@@ -3679,6 +3888,7 @@ public class DecimalFormat extends NumberFormat {
      * @stable ICU 2.0
      */
     public void setGroupingSize(int newValue) {
+        checkNotFrozen();
         groupingSize = (byte) newValue;
     }
 
@@ -3712,6 +3922,7 @@ public class DecimalFormat extends NumberFormat {
      * @stable ICU 2.0
      */
     public void setSecondaryGroupingSize(int newValue) {
+        checkNotFrozen();
         groupingSize2 = (byte) newValue;
     }
 
@@ -3751,6 +3962,7 @@ public class DecimalFormat extends NumberFormat {
      * @stable ICU 4.2
      */
     public void setMathContextICU(MathContext newValue) {
+        checkNotFrozen();
         mathContext = newValue;
     }
 
@@ -3762,6 +3974,7 @@ public class DecimalFormat extends NumberFormat {
      * @stable ICU 4.2
      */
     public void setMathContext(java.math.MathContext newValue) {
+        checkNotFrozen();
         mathContext = new MathContext(newValue.getPrecision(), MathContext.SCIENTIFIC, false,
                                       (newValue.getRoundingMode()).ordinal());
     }
@@ -3787,6 +4000,7 @@ public class DecimalFormat extends NumberFormat {
      * @provisional This API might change or be removed in a future release.
      */
      public void setDecimalPatternMatchRequired(boolean value) {
+         checkNotFrozen();
          parseRequireDecimalPoint = value;
      }
 
@@ -3817,6 +4031,7 @@ public class DecimalFormat extends NumberFormat {
      * @stable ICU 2.0
      */
     public void setDecimalSeparatorAlwaysShown(boolean newValue) {
+        checkNotFrozen();
         decimalSeparatorAlwaysShown = newValue;
     }
 
@@ -3850,12 +4065,14 @@ public class DecimalFormat extends NumberFormat {
      * @stable ICU 4.2
      */
     public void setCurrencyPluralInfo(CurrencyPluralInfo newInfo) {
+        checkNotFrozen();
         currencyPluralInfo = (CurrencyPluralInfo) newInfo.clone();
         isReadyForParsing = false;
     }
 
     /**
      * Overrides clone.
+     * The clone of a frozen DecimalFormat is not frozen.
      * @stable ICU 2.0
      */
     @Override
@@ -3864,6 +4081,9 @@ public class DecimalFormat extends NumberFormat {
             DecimalFormat other = (DecimalFormat) super.clone();
             other.symbols = (DecimalFormatSymbols) symbols.clone();
             other.digitList = new DigitList(); // fix for JB#5358
+            other.digitListInUse = 0;
+            other.frozen = false;
+            other.frozenPluralFormats = null;
             if (currencyPluralInfo != null) {
                 other.currencyPluralInfo = (CurrencyPluralInfo) currencyPluralInfo.clone();
             }
@@ -3879,6 +4099,99 @@ public class DecimalFormat extends NumberFormat {
         }
     }
 
+    /**
+     * Determines whether the object has been frozen or not.
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Freezes the DecimalFormat, making it immutable and thread-safe.
+     * All setters and applyPattern() then throw UnsupportedOperationException.
+     * Formatting does not lock: A call which finds the digit list in use by
+     * another thread uses a new one. For currency plural names, freeze() sets up
+     * the affixes for each plural form once. The rare operations which depend on
+     * temporarily changing the settings, such as formatting a CurrencyAmount
+     * in a different currency, or formatToCharacterIterator(),
+     * use a private thawed copy. Parsing is thread-safe but serialized.
+     * @return this
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public DecimalFormat freeze() {
+        if (!isFrozen()) {
+            if (currencySignCount == CURRENCY_SIGN_COUNT_IN_PLURAL_FORMAT) {
+                Map<String, DecimalFormat> pluralFormats = new HashMap<String, DecimalFormat>();
+                for (String pluralCount : currencyPluralInfo.getPluralRules().getKeywords()) {
+                    DecimalFormat pluralFormat = cloneAsThawed();
+                    pluralFormat.setUpForPluralCount(pluralCount);
+                    pluralFormats.put(pluralCount, pluralFormat);
+                }
+                frozenPluralFormats = pluralFormats;
+            }
+            frozen = true;
+        }
+        return this;
+    }
+
+    /**
+     * Provides for the clone operation. Any clone is initially unfrozen.
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public DecimalFormat cloneAsThawed() {
+        return (DecimalFormat) clone();
+    }
+
+    private void checkNotFrozen() {
+        if (isFrozen()) {
+            throw new UnsupportedOperationException("Attempt to modify frozen DecimalFormat");
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * @stable ICU 2.0
+     */
+    @Override
+    public void setParseIntegerOnly(boolean value) {
+        checkNotFrozen();
+        super.setParseIntegerOnly(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @stable ICU 3.6
+     */
+    @Override
+    public void setParseStrict(boolean value) {
+        checkNotFrozen();
+        super.setParseStrict(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @stable ICU 53
+     */
+    @Override
+    public void setContext(DisplayContext context) {
+        checkNotFrozen();
+        super.setContext(context);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @stable ICU 2.0
+     */
+    @Override
+    public void setGroupingUsed(boolean newValue) {
+        checkNotFrozen();
+        super.setGroupingUsed(newValue);
+    }
+
     /**
      * Overrides equals.
      * @stable ICU 2.0
@@ -4023,19 +4336,19 @@ public class DecimalFormat extends NumberFormat {
         // Reuse one StringBuffer for better performance
         StringBuffer buffer = new StringBuffer();
         if (posPrefixPattern != null) {
-            expandAffix(posPrefixPattern, pluralCount, buffer, false);
+            expandAffix(posPrefixPattern, pluralCount, buffer, null);
             positivePrefix = buffer.toString();
         }
         if (posSuffixPattern != null) {
-            expandAffix(posSuffixPattern, pluralCount, buffer, false);
+            expandAffix(posSuffixPattern, pluralCount, buffer, null);
             positiveSuffix = buffer.toString();
         }
         if (negPrefixPattern != null) {
-            expandAffix(negPrefixPattern, pluralCount, buffer, false);
+            expandAffix(negPrefixPattern, pluralCount, buffer, null);
             negativePrefix = buffer.toString();
         }
         if (negSuffixPattern != null) {
-            expandAffix(negSuffixPattern, pluralCount, buffer, false);
+            expandAffix(negSuffixPattern, pluralCount, buffer, null);
             negativeSuffix = buffer.toString();
         }
     }
@@ -4050,10 +4363,11 @@ public class DecimalFormat extends NumberFormat {
      * itself. Quoted text must be well-formed.
      *
      * This method is used in two distinct ways. First, it is used to expand the stored
-     * affix patterns into actual affixes. For this usage, doFormat must be false. Second,
-     * it is used to expand the stored affix patterns given a specific number (doFormat ==
-     * true), for those rare cases in which a currency format references a ChoiceFormat
-     * (e.g., en_IN display name for INR). The number itself is taken from digitList.
+     * affix patterns into actual affixes. For this usage, formatDigits must be null.
+     * Second, it is used to expand the stored affix patterns given a specific number
+     * (formatDigits != null), for those rare cases in which a currency format references
+     * a ChoiceFormat (e.g., en_IN display name for INR). The number itself is taken from
+     * formatDigits.
      *
      * When used in the first way, this method has a side effect: It sets currencyChoice
      * to a ChoiceFormat object, if the currency's display name in this locale is a
@@ -4066,15 +4380,15 @@ public class DecimalFormat extends NumberFormat {
      * it is the singular "one", or the plural "other". For all other cases, it is null,
      * and is not being used.
      * @param buffer a scratch StringBuffer; its contents will be lost
-     * @param doFormat if false, then the pattern will be expanded, and if a currency
+     * @param formatDigits if null, then the pattern will be expanded, and if a currency
      * symbol is encountered that expands to a ChoiceFormat, the currencyChoice member
-     * variable will be initialized if it is null. If doFormat is true, then it is assumed
-     * that the currencyChoice has been created, and it will be used to format the value
-     * in digitList.
+     * variable will be initialized if it is null. If formatDigits is not null, then it is
+     * assumed that the currencyChoice has been created, and it will be used to format the
+     * value in formatDigits.
      */
     // Bug 4212072 [Richard/GCL]
     private void expandAffix(String pattern, String pluralCount, StringBuffer buffer,
-                             boolean doFormat) {
+                             DigitList formatDigits) {
         buffer.setLength(0);
         for (int i = 0; i < pattern.length();) {
             char c = pattern.charAt(i++);
@@ -4134,10 +4448,10 @@ public class DecimalFormat extends NumberFormat {
                         s = currency.getName(symbols.getULocale(), Currency.SYMBOL_NAME,
                                              isChoiceFormat);
                         if (isChoiceFormat[0]) {
-                            // Two modes here: If doFormat is false, we set up
-                            // currencyChoice. If doFormat is true, we use the previously
-                            // created currencyChoice to format the value in digitList.
-                            if (!doFormat) {
+                            // Two modes here: If formatDigits is null, we set up
+                            // currencyChoice. Otherwise we use the previously
+                            // created currencyChoice to format the value in formatDigits.
+                            if (formatDigits == null) {
                                 // If the currency is handled by a ChoiceFormat, then
                                 // we're not going to use the expanded
                                 // patterns. Instantiate the ChoiceFormat and return.
@@ -4153,7 +4467,7 @@ public class DecimalFormat extends NumberFormat {
                                 s = String.valueOf(CURRENCY_SIGN);
                             } else {
                                 FieldPosition pos = new FieldPosition(0); // ignored
-                                currencyChoice.format(digitList.getDouble(), buffer, pos);
+                                currencyChoice.format(formatDigits.getDouble(), buffer, pos);
                                 continue;
                             }
                         }
@@ -4182,15 +4496,17 @@ public class DecimalFormat extends NumberFormat {
     }
 
     /**
-     * Append an affix to the given StringBuffer.
+     * Append an affix to the given StringBuilder.
      *
      * @param buf
      *            buffer to append to
      * @param isNegative
      * @param isPrefix
+     * @param dl
+     *            the digits of the number being formatted
      */
-    private int appendAffix(StringBuffer buf, boolean isNegative, boolean isPrefix,
-                            boolean parseAttr) {
+    private int appendAffix(StringBuilder buf, boolean isNegative, boolean isPrefix,
+                            boolean parseAttr, DigitList dl) {
         if (currencyChoice != null) {
             String affixPat = null;
             if (isPrefix) {
@@ -4199,7 +4515,7 @@ public class DecimalFormat extends NumberFormat {
                 affixPat = isNegative ? negSuffixPattern : posSuffixPattern;
             }
             StringBuffer affixBuf = new StringBuffer();
-            expandAffix(affixPat, null, affixBuf, true);
+            expandAffix(affixPat, null, affixBuf, dl);
             buf.append(affixBuf);
             return affixBuf.length();
         }
@@ -4267,8 +4583,12 @@ public class DecimalFormat extends NumberFormat {
     AttributedCharacterIterator formatToCharacterIterator(Object obj, Unit unit) {
         if (!(obj instanceof Number))
             throw new IllegalArgumentException();
+        if (isFrozen()) {
+            // The attributes are collected in a member list.
+            return cloneAsThawed().formatToCharacterIterator(obj, unit);
+        }
         Number number = (Number) obj;
-        StringBuffer text = new StringBuffer();
+        StringBuilder text = new StringBuilder();
         unit.writePrefix(text);
         attributes.clear();
         if (obj instanceof BigInteger) {
@@ -4540,6 +4860,7 @@ public class DecimalFormat extends NumberFormat {
      * @stable ICU 2.0
      */
     public void applyPattern(String pattern) {
+        checkNotFrozen();
         applyPattern(pattern, false);
     }
 
@@ -4566,6 +4887,7 @@ public class DecimalFormat extends NumberFormat {
      * @stable ICU 2.0
      */
     public void applyLocalizedPattern(String pattern) {
+        checkNotFrozen();
         applyPattern(pattern, true);
     }
 
@@ -5101,6 +5423,7 @@ public class DecimalFormat extends NumberFormat {
      */
     @Override
     public void setMaximumIntegerDigits(int newValue) {
+        checkNotFrozen();
         super.setMaximumIntegerDigits(Math.min(newValue, DOUBLE_INTEGER_DIGITS));
     }
 
@@ -5113,6 +5436,7 @@ public class DecimalFormat extends NumberFormat {
      */
     @Override
     public void setMinimumIntegerDigits(int newValue) {
+        checkNotFrozen();
         super.setMinimumIntegerDigits(Math.min(newValue, DOUBLE_INTEGER_DIGITS));
     }
 
@@ -5151,6 +5475,7 @@ public class DecimalFormat extends NumberFormat {
      * @stable ICU 3.0
      */
     public void setMinimumSignificantDigits(int min) {
+        checkNotFrozen();
         if (min < 1) {
             min = 1;
         }
@@ -5172,6 +5497,7 @@ public class DecimalFormat extends NumberFormat {
      * @stable ICU 3.0
      */
     public void setMaximumSignificantDigits(int max) {
+        checkNotFrozen();
         if (max < 1) {
             max = 1;
         }
@@ -5202,6 +5528,7 @@ public class DecimalFormat extends NumberFormat {
      * @stable ICU 3.0
      */
     public void setSignificantDigitsUsed(boolean useSignificantDigits) {
+        checkNotFrozen();
         this.useSignificantDigits = useSignificantDigits;
     }
 
@@ -5216,6 +5543,7 @@ public class DecimalFormat extends NumberFormat {
      */
     @Override
     public void setCurrency(Currency theCurrency) {
+        checkNotFrozen();
         // If we are a currency format, then modify our affixes to
         // encode the currency symbol for the given currency in our
         // locale, and adjust the decimal digits and rounding for the
@@ -5254,6 +5582,7 @@ public class DecimalFormat extends NumberFormat {
      * @provisional This API might change or be removed in a future release. 
      */
     public void setCurrencyUsage(CurrencyUsage newUsage) {
+        checkNotFrozen();
         if (newUsage == null) {
             throw new NullPointerException("return value is null at method AAA");
         }
@@ -5304,6 +5633,7 @@ public class DecimalFormat extends NumberFormat {
      */
     @Override
     public void setMaximumFractionDigits(int newValue) {
+        checkNotFrozen();
         _setMaximumFractionDigits(newValue);
         resetActualRounding();
     }
@@ -5325,6 +5655,7 @@ public class DecimalFormat extends NumberFormat {
      */
     @Override
     public void setMinimumFractionDigits(int newValue) {
+        checkNotFrozen();
         super.setMinimumFractionDigits(Math.min(newValue, DOUBLE_FRACTION_DIGITS));
     }
 
@@ -5337,6 +5668,7 @@ public class DecimalFormat extends NumberFormat {
      * @stable ICU 3.6
      */
     public void setParseBigDecimal(boolean value) {
+        checkNotFrozen();
         parseBigDecimal = value;
     }
 
@@ -5358,6 +5690,7 @@ public class DecimalFormat extends NumberFormat {
     * @stable ICU 51
     */
     public void setParseMaxDigits(int newValue) {
+        checkNotFrozen();
         if (newValue > 0) {
             PARSE_MAX_EXPONENT = newValue;
         }
@@ -5456,6 +5789,24 @@ public class DecimalFormat extends NumberFormat {
 
     private transient DigitList digitList = new DigitList();
 
+    /**
+     * 1 while a format() call is using digitList.
+     * Concurrent calls use their own DigitList objects instead of blocking.
+     */
+    private transient volatile int digitListInUse;
+
+    private static final AtomicIntegerFieldUpdater<DecimalFormat> DIGIT_LIST_IN_USE =
+        AtomicIntegerFieldUpdater.newUpdater(DecimalFormat.class, "digitListInUse");
+
+    private transient volatile boolean frozen;
+
+    /**
+     * For a frozen currency plural format: A thawed copy of this object for each
+     * plural count, with the pattern and affixes for that count.
+     * The copies are not modified after freeze().
+     */
+    private transient Map<String, DecimalFormat> frozenPluralFormats;
+
     /**
      * The symbol used as a prefix when formatting positive numbers, e.g. "+".
      *
@@ -6011,6 +6362,14 @@ public class DecimalFormat extends NumberFormat {
             toAppendTo.append(prefix);
         }
 
+        public void writeSuffix(StringBuilder toAppendTo) {
+            toAppendTo.append(suffix);
+        }
+
+        public void writePrefix(StringBuilder toAppendTo) {
+            toAppendTo.append(prefix);
+        }
+
         @Override
         public boolean equals(Object obj) {
             if (this == obj) {
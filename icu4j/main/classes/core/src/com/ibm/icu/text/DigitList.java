@@ -1,6 +1,6 @@
 /*
  *******************************************************************************
- * Copyright (C) 1996-2011, International Business Machines Corporation and    *
+ * Copyright (C) 1996-2015, International Business Machines Corporation and    *
  * others. All Rights Reserved.                                                *
  *******************************************************************************
  */
@@ -407,11 +407,13 @@ final class DigitList {
     final void set(double source, int maximumDigits, boolean fixedPoint)
     {
         if (source == 0) source = 0;
-        // Generate a representation of the form DDDDD, DDDDD.DDDDD, or
-        // DDDDDE+/-DDDDD.
-        String rep = Double.toString(source);
+        if (!setShortest(source)) {
+            // Generate a representation of the form DDDDD, DDDDD.DDDDD, or
+            // DDDDDE+/-DDDDD.
+            String rep = Double.toString(source);
 
-        set(rep, MAX_LONG_DIGITS);
+            set(rep, MAX_LONG_DIGITS);
+        }
 
         if (fixedPoint) {
             // The negative of the exponent represents the number of leading
@@ -444,6 +446,81 @@ final class DigitList {
         round(fixedPoint ? (maximumDigits + decimalAt) : maximumDigits == 0 ? -1 : maximumDigits);
     }
 
+    /**
+     * Powers of ten which are exactly representable as doubles.
+     */
+    private static final double[] DOUBLE_POWERS_OF_10 = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20,
+        1e21, 1e22
+    };
+
+    /**
+     * Upper bound for the decimal significands found by setShortest().
+     * Below 2^51, the rounding error of source*10^k is less than 1/4,
+     * so the nearest integer to the computed product is the only candidate
+     * significand with k fraction digits.
+     */
+    private static final double MAX_SHORTEST_SIGNIFICAND = 1L << 51;
+
+    /**
+     * Sets the digits to the shortest decimal representation which rounds
+     * back to source, without going through a String.
+     * For each number k of fraction digits, the candidate significand m is
+     * the integer nearest to source*10^k. Since both m and 10^k are exact doubles,
+     * the quotient m/10^k is correctly rounded, and it equals source exactly if and
+     * only if the decimal number m*10^-k rounds to source.
+     * This handles values whose shortest representation has up to 15 significant
+     * digits and at most 22 fraction digits, which covers most values in practice.
+     * @param source Value to be converted; its sign is ignored.
+     * @return true if the digits were set,
+     *         false if the caller needs to fall back to Double.toString()
+     */
+    private boolean setShortest(double source) {
+        if (source < 0) {
+            source = -source;
+        }
+        // Also rejects NaN.
+        if (!(source > 0 && source < MAX_SHORTEST_SIGNIFICAND)) {
+            return false;
+        }
+        for (int k = 0; k < DOUBLE_POWERS_OF_10.length; ++k) {
+            double scaled = source * DOUBLE_POWERS_OF_10[k];
+            if (scaled >= MAX_SHORTEST_SIGNIFICAND) {
+                return false;
+            }
+            double m = Math.rint(scaled);
+            if (m != 0 && m / DOUBLE_POWERS_OF_10[k] == source) {
+                setSignificand((long) m, k);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sets this object's value to significand*10^-fractionDigits.
+     * @param significand a positive value
+     */
+    private void setSignificand(long significand, int fractionDigits) {
+        int length = 1;
+        for (long q = significand / 10; q != 0; q /= 10) {
+            ++length;
+        }
+        ensureCapacity(length, 0);
+        for (int i = length; i > 0;) {
+            long q = significand / 10;
+            digits[--i] = (byte) ('0' + (int) (significand - q * 10));
+            significand = q;
+        }
+        count = length;
+        decimalAt = length - fractionDigits;
+        // Eliminate trailing zeros.
+        while (count > 1 && digits[count - 1] == '0') {
+            --count;
+        }
+    }
+
     /**
      * Given a string representation of the form DDDDD, DDDDD.DDDDD,
      * or DDDDDE+/-DDDDD, set this object's value to it.  Ignore
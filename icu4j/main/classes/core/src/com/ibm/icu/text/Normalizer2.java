@@ -10,7 +10,13 @@ package com.ibm.icu.text;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
 
+import com.ibm.icu.impl.ConcurrencyUtil;
 import com.ibm.icu.impl.ICUBinary;
 import com.ibm.icu.impl.Norm2AllModes;
 import com.ibm.icu.util.ICUUncheckedIOException;
@@ -51,6 +57,7 @@ import com.ibm.icu.util.ICUUncheckedIOException;
  * For example, in ICU, iterative normalization is used by the NormalizationTransliterator
  * (to avoid replacing already-normalized text) and ucol_nextSortKeyPart()
  * (to process only the substring for which sort key bytes are computed).
+ * StreamingNormalizer uses it to normalize text which arrives in pieces.
  * <p>
  * The set of normalization boundaries returned by these functions may not be
  * complete: There may be more boundaries that could be returned.
@@ -252,6 +259,109 @@ public abstract class Normalizer2 {
      */
     public abstract Appendable normalize(CharSequence src, Appendable dest);
 
+    /**
+     * {@icu} Writes the normalized form of the source string to the destination string
+     * (replacing its contents) and returns the destination string.
+     * A long source string is split at normalization boundaries into segments,
+     * and the segments are normalized in parallel on the executor.
+     * The result is the same as from {@link #normalize(CharSequence, StringBuilder)}.
+     * The calling thread waits for the segment tasks, so this works with any
+     * ExecutorService, including bounded ones.
+     * Strings shorter than some tens of thousands of characters are normalized
+     * on the calling thread.
+     * The source must not be modified while it is being normalized.
+     * @param src source string
+     * @param dest destination string; its contents is replaced with normalized src
+     * @param executor the executor for the segment tasks, or null
+     * @param parallelism the desired number of concurrent tasks
+     * @return dest
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public StringBuilder normalize(CharSequence src, StringBuilder dest,
+                                   ExecutorService executor, int parallelism) {
+        if (dest == src) {
+            throw new IllegalArgumentException();
+        }
+        int length = src.length();
+        int taskCount = (executor == null || parallelism <= 1) ?
+            1 : Math.min(parallelism, length / MIN_PARALLEL_SEGMENT_LENGTH);
+        if (taskCount <= 1) {
+            return normalize(src, dest);
+        }
+        // Split into segments of roughly equal length, at boundaries.
+        final CharSequence source = src;
+        List<Callable<StringBuilder>> tasks = new ArrayList<Callable<StringBuilder>>(taskCount);
+        int start = 0;
+        for (int i = 1; i <= taskCount; ++i) {
+            int limit = i == taskCount ? length : (int)(((long)length * i) / taskCount);
+            limit = nextBoundary(src, Math.max(start + 1, limit), length);
+            if (limit <= start) {
+                continue;  // no boundary before the next segment
+            }
+            final int segmentStart = start;
+            final int segmentLimit = limit;
+            tasks.add(new Callable<StringBuilder>() {
+                public StringBuilder call() {
+                    CharSequence segment = source.subSequence(segmentStart, segmentLimit);
+                    return normalize(segment, new StringBuilder(segmentLimit - segmentStart));
+                }
+            });
+            start = limit;
+        }
+        dest.setLength(0);
+        for (StringBuilder segment : ConcurrencyUtil.invokeAll(executor, tasks, "normalization tasks")) {
+            dest.append(segment);
+        }
+        return dest;
+    }
+
+    /**
+     * {@icu} Writes the normalized form of the source text in the array to the destination string
+     * (replacing its contents) and returns the destination string.
+     * Same as {@link #normalize(CharSequence, StringBuilder, ExecutorService, int)}
+     * otherwise.
+     * @param src source text array
+     * @param start index of the first character of the text
+     * @param length number of chars in the text
+     * @param dest destination string; its contents is replaced with normalized src
+     * @param executor the executor for the segment tasks, or null
+     * @param parallelism the desired number of concurrent tasks
+     * @return dest
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public StringBuilder normalize(char[] src, int start, int length, StringBuilder dest,
+                                   ExecutorService executor, int parallelism) {
+        return normalize(CharBuffer.wrap(src, start, length), dest, executor, parallelism);
+    }
+
+    /**
+     * Returns the index of the first normalization boundary at or after start,
+     * or limit if there is none.
+     */
+    private int nextBoundary(CharSequence s, int start, int limit) {
+        while (start < limit) {
+            char c = s.charAt(start);
+            if (Character.isLowSurrogate(c) && Character.isHighSurrogate(s.charAt(start - 1))) {
+                // Do not split a surrogate pair.
+                ++start;
+                continue;
+            }
+            int cp = Character.codePointAt(s, start);
+            if (hasBoundaryBefore(cp)) {
+                return start;
+            }
+            start += Character.charCount(cp);
+        }
+        return limit;
+    }
+
+    /**
+     * Segments normalized in parallel are at least about this long.
+     */
+    private static final int MIN_PARALLEL_SEGMENT_LENGTH = 16384;
+
     /**
      * Appends the normalized form of the second string to the first string
      * (merging them at the boundary) and returns the first string.
@@ -352,6 +462,40 @@ public abstract class Normalizer2 {
      */
     public abstract boolean isNormalized(CharSequence s);
 
+    /**
+     * {@icu} Tests if the text in the array is normalized.
+     * Same as isNormalized(CharSequence) but faster for arrays:
+     * Runs of characters which are always normalized, such as ASCII for NFC,
+     * are skipped without per-character lookups.
+     * @param s input text array
+     * @param start index of the first character of the text
+     * @param length number of chars in the text
+     * @return true if the text is normalized
+     * @throws IndexOutOfBoundsException if start or length are out of bounds
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public boolean isNormalized(char[] s, int start, int length) {
+        return isNormalized((CharSequence) CharBuffer.wrap(s, start, length));
+    }
+
+    /**
+     * {@icu} Tests if the text in the buffer, from its position to its limit, is normalized.
+     * For a buffer backed by an accessible array, this is as fast as
+     * {@link #isNormalized(char[], int, int)}.
+     * Does not change the buffer position.
+     * @param s input text buffer
+     * @return true if the text is normalized
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public boolean isNormalized(CharBuffer s) {
+        if (s.hasArray()) {
+            return isNormalized(s.array(), s.arrayOffset() + s.position(), s.remaining());
+        }
+        return isNormalized((CharSequence) s);
+    }
+
     /**
      * Tests if the string is normalized.
      * For the two COMPOSE modes, the result could be "maybe" in cases that
@@ -385,6 +529,42 @@ public abstract class Normalizer2 {
      */
     public abstract int spanQuickCheckYes(CharSequence s);
 
+    /**
+     * {@icu} Returns the end of the normalized part of the text in the array.
+     * Same as spanQuickCheckYes(CharSequence) but faster for arrays:
+     * Runs of characters which are always normalized, such as ASCII for NFC,
+     * are skipped without per-character lookups.
+     * @param s input text array
+     * @param start index of the first character of the text
+     * @param length number of chars in the text
+     * @return "yes" span end index in the array, between start and start+length
+     * @throws IndexOutOfBoundsException if start or length are out of bounds
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public int spanQuickCheckYes(char[] s, int start, int length) {
+        return start + spanQuickCheckYes((CharSequence) CharBuffer.wrap(s, start, length));
+    }
+
+    /**
+     * {@icu} Returns the end of the normalized part of the text in the buffer,
+     * from its position to its limit.
+     * For a buffer backed by an accessible array, this is as fast as
+     * {@link #spanQuickCheckYes(char[], int, int)}.
+     * Does not change the buffer position.
+     * @param s input text buffer
+     * @return "yes" span end index, relative to the buffer position
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public int spanQuickCheckYes(CharBuffer s) {
+        if (s.hasArray()) {
+            int start = s.arrayOffset() + s.position();
+            return spanQuickCheckYes(s.array(), start, s.remaining()) - start;
+        }
+        return spanQuickCheckYes((CharSequence) s);
+    }
+
     /**
      * Tests if the character always has a normalization boundary before it,
      * regardless of context.
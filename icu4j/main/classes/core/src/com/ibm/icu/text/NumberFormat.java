@@ -25,6 +25,7 @@ import com.ibm.icu.impl.ICUResourceBundle;
 import com.ibm.icu.util.Currency;
 import com.ibm.icu.util.Currency.CurrencyUsage;
 import com.ibm.icu.util.CurrencyAmount;
+import com.ibm.icu.util.ICUUncheckedIOException;
 import com.ibm.icu.util.ULocale;
 import com.ibm.icu.util.ULocale.Category;
 import com.ibm.icu.util.UResourceBundle;
@@ -288,8 +289,7 @@ public abstract class NumberFormat extends UFormat {
      * @stable ICU 2.0
      */
     public final String format(double number) {
-        return format(number,new StringBuffer(),
-                      new FieldPosition(0)).toString();
+        return format(number, new StringBuilder(), null).toString();
     }
 
     /**
@@ -298,10 +298,7 @@ public abstract class NumberFormat extends UFormat {
      * @stable ICU 2.0
      */
     public final String format(long number) {
-        StringBuffer buf = new StringBuffer(19);
-        FieldPosition pos = new FieldPosition(0);
-        format(number, buf, pos);
-        return buf.toString();
+        return format(number, new StringBuilder(19), null).toString();
     }
 
     /**
@@ -309,8 +306,7 @@ public abstract class NumberFormat extends UFormat {
      * @stable ICU 2.0
      */
     public final String format(BigInteger number) {
-        return format(number, new StringBuffer(),
-                      new FieldPosition(0)).toString();
+        return format(number, new StringBuilder(), null).toString();
     }
 
     /**
@@ -318,8 +314,7 @@ public abstract class NumberFormat extends UFormat {
      * @stable ICU 2.0
      */
     public final String format(java.math.BigDecimal number) {
-        return format(number, new StringBuffer(),
-                      new FieldPosition(0)).toString();
+        return format(number, new StringBuilder(), null).toString();
     }
 
     /**
@@ -327,8 +322,7 @@ public abstract class NumberFormat extends UFormat {
      * @stable ICU 2.0
      */
     public final String format(com.ibm.icu.math.BigDecimal number) {
-        return format(number, new StringBuffer(),
-                      new FieldPosition(0)).toString();
+        return format(number, new StringBuilder(), null).toString();
     }
 
     /**
@@ -398,6 +392,163 @@ public abstract class NumberFormat extends UFormat {
         return toAppendTo;
     }
 
+    /**
+     * {@icu} Formats a double and appends the result to a StringBuilder.
+     * Unlike the StringBuffer variant, this does not synchronize on the output.
+     * The default implementation formats into a StringBuffer;
+     * subclasses may override it with a more efficient implementation.
+     * @param number the number to format
+     * @param toAppendTo the StringBuilder to which the formatted text is appended
+     * @param pos on input: an alignment field, if desired; on output: the offsets
+     * of the alignment field. May be null if the field position is not needed.
+     * @return toAppendTo
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public StringBuilder format(double number, StringBuilder toAppendTo, FieldPosition pos) {
+        FieldPosition fp = pos != null ? pos : new FieldPosition(0);
+        StringBuffer formatted = format(number, new StringBuffer(), fp);
+        return appendFormatted(toAppendTo, formatted, pos);
+    }
+
+    /**
+     * {@icu} Formats a long and appends the result to a StringBuilder.
+     * Unlike the StringBuffer variant, this does not synchronize on the output.
+     * The default implementation formats into a StringBuffer;
+     * subclasses may override it with a more efficient implementation.
+     * @param number the number to format
+     * @param toAppendTo the StringBuilder to which the formatted text is appended
+     * @param pos on input: an alignment field, if desired; on output: the offsets
+     * of the alignment field. May be null if the field position is not needed.
+     * @return toAppendTo
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public StringBuilder format(long number, StringBuilder toAppendTo, FieldPosition pos) {
+        FieldPosition fp = pos != null ? pos : new FieldPosition(0);
+        StringBuffer formatted = format(number, new StringBuffer(), fp);
+        return appendFormatted(toAppendTo, formatted, pos);
+    }
+
+    /**
+     * Formats a BigInteger and appends the result to a StringBuilder,
+     * for format(BigInteger).
+     * The default implementation formats into a StringBuffer;
+     * DecimalFormat overrides it.
+     * @param pos the field position; may be null
+     */
+    StringBuilder format(BigInteger number, StringBuilder toAppendTo, FieldPosition pos) {
+        FieldPosition fp = pos != null ? pos : new FieldPosition(0);
+        StringBuffer formatted = format(number, new StringBuffer(), fp);
+        return appendFormatted(toAppendTo, formatted, pos);
+    }
+
+    /**
+     * Formats a BigDecimal and appends the result to a StringBuilder,
+     * for format(java.math.BigDecimal).
+     * The default implementation formats into a StringBuffer;
+     * DecimalFormat overrides it.
+     * @param pos the field position; may be null
+     */
+    StringBuilder format(java.math.BigDecimal number, StringBuilder toAppendTo,
+                         FieldPosition pos) {
+        FieldPosition fp = pos != null ? pos : new FieldPosition(0);
+        StringBuffer formatted = format(number, new StringBuffer(), fp);
+        return appendFormatted(toAppendTo, formatted, pos);
+    }
+
+    /**
+     * Formats an ICU BigDecimal and appends the result to a StringBuilder,
+     * for format(com.ibm.icu.math.BigDecimal).
+     * The default implementation formats into a StringBuffer;
+     * DecimalFormat overrides it.
+     * @param pos the field position; may be null
+     */
+    StringBuilder format(com.ibm.icu.math.BigDecimal number, StringBuilder toAppendTo,
+                         FieldPosition pos) {
+        FieldPosition fp = pos != null ? pos : new FieldPosition(0);
+        StringBuffer formatted = format(number, new StringBuffer(), fp);
+        return appendFormatted(toAppendTo, formatted, pos);
+    }
+
+    /**
+     * {@icu} Formats a double and appends the result to an Appendable,
+     * for example a Writer or a StringBuilder.
+     * @param number the number to format
+     * @param toAppendTo the Appendable to which the formatted text is appended
+     * @return toAppendTo
+     * @throws ICUUncheckedIOException if appending to toAppendTo throws an IOException
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public final <T extends Appendable> T formatTo(double number, T toAppendTo) {
+        if (toAppendTo instanceof StringBuilder) {
+            format(number, (StringBuilder) toAppendTo, null);
+            return toAppendTo;
+        }
+        return append(toAppendTo, format(number, new StringBuilder(), null));
+    }
+
+    /**
+     * {@icu} Formats a long and appends the result to an Appendable,
+     * for example a Writer or a StringBuilder.
+     * @param number the number to format
+     * @param toAppendTo the Appendable to which the formatted text is appended
+     * @return toAppendTo
+     * @throws ICUUncheckedIOException if appending to toAppendTo throws an IOException
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public final <T extends Appendable> T formatTo(long number, T toAppendTo) {
+        if (toAppendTo instanceof StringBuilder) {
+            format(number, (StringBuilder) toAppendTo, null);
+            return toAppendTo;
+        }
+        return append(toAppendTo, format(number, new StringBuilder(), null));
+    }
+
+    static <T extends Appendable> T append(T toAppendTo, CharSequence s) {
+        try {
+            toAppendTo.append(s);
+            return toAppendTo;
+        } catch (IOException e) {
+            throw new ICUUncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Appends text which was formatted into a separate buffer,
+     * and moves the field position from that buffer to toAppendTo.
+     * @param pos the field position set for formatted; may be null
+     */
+    static StringBuilder appendFormatted(StringBuilder toAppendTo, CharSequence formatted,
+                                         FieldPosition pos) {
+        shiftFieldPosition(pos, toAppendTo.length());
+        return toAppendTo.append(formatted);
+    }
+
+    /**
+     * Appends text which was formatted into a separate buffer,
+     * and moves the field position from that buffer to toAppendTo.
+     * @param pos the field position set for formatted; may be null
+     */
+    static StringBuffer appendFormatted(StringBuffer toAppendTo, CharSequence formatted,
+                                        FieldPosition pos) {
+        shiftFieldPosition(pos, toAppendTo.length());
+        return toAppendTo.append(formatted);
+    }
+
+    /**
+     * Adds the offset to the field position, unless the field was not found.
+     * An unset field position has begin and end indexes of 0.
+     */
+    private static void shiftFieldPosition(FieldPosition pos, int offset) {
+        if (pos != null && offset != 0 && (pos.getBeginIndex() != 0 || pos.getEndIndex() != 0)) {
+            pos.setBeginIndex(pos.getBeginIndex() + offset);
+            pos.setEndIndex(pos.getEndIndex() + offset);
+        }
+    }
+
     /**
      * Returns a Long if possible (e.g., within the range [Long.MIN_VALUE,
      * Long.MAX_VALUE] and with no decimals), otherwise a Double.
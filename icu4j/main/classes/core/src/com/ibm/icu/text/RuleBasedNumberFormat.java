@@ -1163,6 +1163,38 @@ public class RuleBasedNumberFormat extends NumberFormat {
         return toAppendTo;
     }
 
+    /**
+     * {@inheritDoc}
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    @Override
+    public StringBuilder format(double number, StringBuilder toAppendTo, FieldPosition ignore) {
+        if (toAppendTo.length() == 0) {
+            toAppendTo.append(adjustForContext(format(number, defaultRuleSet)));
+        } else {
+            // appending to other text, don't capitalize
+            toAppendTo.append(format(number, defaultRuleSet));
+        }
+        return toAppendTo;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    @Override
+    public StringBuilder format(long number, StringBuilder toAppendTo, FieldPosition ignore) {
+        if (toAppendTo.length() == 0) {
+            toAppendTo.append(adjustForContext(format(number, defaultRuleSet)));
+        } else {
+            // appending to other text, don't capitalize
+            toAppendTo.append(format(number, defaultRuleSet));
+        }
+        return toAppendTo;
+    }
+
     /**
      * <strong><font face=helvetica color=red>NEW</font></strong>
      * Implement com.ibm.icu.text.NumberFormat:
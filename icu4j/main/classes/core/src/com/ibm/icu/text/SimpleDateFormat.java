@@ -908,7 +908,7 @@ public class SimpleDateFormat extends DateFormat {
 
     /**
      * If true, this object supports fast formatting using the
-     * subFormat variant that takes a StringBuffer.
+     * subFormat variants that take a StringBuffer or StringBuilder.
      */
     private transient boolean useFastFormat;
 
@@ -1286,6 +1286,20 @@ public class SimpleDateFormat extends DateFormat {
      */
     public StringBuffer format(Calendar cal, StringBuffer toAppendTo,
                                FieldPosition pos) {
+        return NumberFormat.appendFormatted(toAppendTo, format(cal, new StringBuilder(), pos), pos);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    @Override
+    public StringBuilder format(Calendar cal, StringBuilder toAppendTo,
+                                FieldPosition pos) {
+        if (pos == null) {
+            pos = new FieldPosition(-1);
+        }
         TimeZone backupTZ = null;
         if (cal != calendar && !cal.getType().equals(calendar.getType())) {
             // Different calendar type
@@ -1296,7 +1310,7 @@ public class SimpleDateFormat extends DateFormat {
             calendar.setTimeZone(cal.getTimeZone());
             cal = calendar;
         }
-        StringBuffer result = format(cal, getContext(DisplayContext.Type.CAPITALIZATION), toAppendTo, pos, null);
+        StringBuilder result = format(cal, getContext(DisplayContext.Type.CAPITALIZATION), toAppendTo, pos, null);
         if (backupTZ != null) {
             // Restore the original time zone
             calendar.setTimeZone(backupTZ);
@@ -1306,16 +1320,24 @@ public class SimpleDateFormat extends DateFormat {
 
     // The actual method to format date. If List attributes is not null,
     // then attribute information will be recorded.
-    private StringBuffer format(Calendar cal, DisplayContext capitalizationContext,
-            StringBuffer toAppendTo, FieldPosition pos, List<FieldPosition> attributes) {
+    private StringBuilder format(Calendar cal, DisplayContext capitalizationContext,
+            StringBuilder toAppendTo, FieldPosition pos, List<FieldPosition> attributes) {
         // Initialize
         pos.setBeginIndex(0);
         pos.setEndIndex(0);
 
         // Careful: For best performance, minimize the number of calls
-        // to StringBuffer.append() by consolidating appends when
+        // to StringBuilder.append() by consolidating appends when
         // possible.
 
+        // Subclasses may override the StringBuffer subFormat variant,
+        // so only this class formats fields directly into toAppendTo.
+        boolean directSubFormat = useFastFormat && getClass() == SimpleDateFormat.class;
+        // Numeric fields can bypass subFormat() and the NumberFormat
+        // if they use the default number format with ASCII digits.
+        boolean asciiNumbers = asciiDigits && overrideMap == null;
+        StringBuffer fieldBuf = null;
+
         Object[] items = getPatternItems();
         for (int i = 0; i < items.length; i++) {
             if (items[i] instanceof String) {
@@ -1327,9 +1349,21 @@ public class SimpleDateFormat extends DateFormat {
                     // Save the current length
                     start = toAppendTo.length();
                 }
-                if (useFastFormat) {
-                    subFormat(toAppendTo, item.type, item.length, toAppendTo.length(),
+                if (directSubFormat) {
+                    if (!(item.isAsciiNumber && asciiNumbers &&
+                            formatAsciiNumber(toAppendTo, item, pos, cal))) {
+                        subFormat(toAppendTo, item.type, item.length, toAppendTo.length(),
+                                  i, capitalizationContext, pos, cal);
+                    }
+                } else if (useFastFormat) {
+                    if (fieldBuf == null) {
+                        fieldBuf = new StringBuffer();
+                    } else {
+                        fieldBuf.setLength(0);
+                    }
+                    subFormat(fieldBuf, item.type, item.length, toAppendTo.length(),
                               i, capitalizationContext, pos, cal);
+                    toAppendTo.append(fieldBuf);
                 } else {
                     toAppendTo.append(subFormat(item.type, item.length, toAppendTo.length(),
                                                 i, capitalizationContext, pos, cal));
@@ -1512,12 +1546,35 @@ public class SimpleDateFormat extends DateFormat {
      * @deprecated This API is ICU internal only.
      */
     @Deprecated
-    @SuppressWarnings("fallthrough")
     protected void subFormat(StringBuffer buf,
                              char ch, int count, int beginOffset,
                              int fieldNum, DisplayContext capitalizationContext,
                              FieldPosition pos,
                              Calendar cal) {
+        // Reuse one builder for the field text rather than allocating one per field.
+        StringBuilder sb = subFormatBuf;
+        if (sb == null) {
+            sb = subFormatBuf = new StringBuilder();
+        } else {
+            sb.setLength(0);
+        }
+        subFormat(sb, ch, count, beginOffset, fieldNum, capitalizationContext, pos, cal);
+        buf.append(sb);
+    }
+
+    // Field text buffer for the StringBuffer subFormat variant.
+    private transient StringBuilder subFormatBuf;
+
+    /**
+     * Formats a single field into a StringBuilder.
+     * This is the implementation of the StringBuffer variant above.
+     */
+    @SuppressWarnings({"fallthrough", "deprecation"})
+    private void subFormat(StringBuilder buf,
+                           char ch, int count, int beginOffset,
+                           int fieldNum, DisplayContext capitalizationContext,
+                           FieldPosition pos,
+                           Calendar cal) {
 
         final int maxIntCount = Integer.MAX_VALUE;
         final int bufstart = buf.length();
@@ -1626,7 +1683,7 @@ public class SimpleDateFormat extends DateFormat {
                     capContextUsageType = DateFormatSymbols.CapitalizationContextUsage.MONTH_STANDALONE;
                 }
             } else {
-                StringBuffer monthNumber = new StringBuffer();
+                StringBuilder monthNumber = new StringBuilder();
                 zeroPaddingNumber(currentNumberFormat, monthNumber, value+1, count, maxIntCount);
                 String[] monthNumberStrings = new String[1];
                 monthNumberStrings[0] = monthNumber.toString();
@@ -1907,13 +1964,116 @@ public class SimpleDateFormat extends DateFormat {
         }
     }
 
-    private static void safeAppend(String[] array, int value, StringBuffer appendTo) {
+    /**
+     * Formats a numeric field with ASCII digits, with the same result as subFormat()
+     * but without its per-field lookups and without the NumberFormat.
+     * Requires asciiDigits and no number format overrides.
+     * @return false if the field needs subFormat() after all
+     */
+    private boolean formatAsciiNumber(StringBuilder buf, PatternItem item, FieldPosition pos,
+                                      Calendar cal) {
+        final int patternCharIndex = item.index;
+        final int count = item.length;
+        int value = cal.get(PATTERN_INDEX_TO_CALENDAR_FIELD[patternCharIndex]);
+        int minDigits = count;
+        int maxDigits = Integer.MAX_VALUE;
+        switch (patternCharIndex) {
+        case 1: // 'y' - YEAR
+        case 18: // 'Y' - YEAR_WOY
+            if (override != null) {
+                return false;
+            }
+            if (count == 2) {
+                maxDigits = 2; // clip 1996 to 96
+            }
+            break;
+        case 2: // 'M' - MONTH
+        case 26: // 'L' - STANDALONE MONTH
+            // Other calendars may have leap months or month number adjustments.
+            if (!"gregorian".equals(cal.getType())) {
+                return false;
+            }
+            ++value;
+            break;
+        case 4: // 'k' - HOUR_OF_DAY (1..24)
+            if (value == 0) {
+                value = cal.getMaximum(Calendar.HOUR_OF_DAY) + 1;
+            }
+            break;
+        case 8: // 'S' - FRACTIONAL_SECOND
+            // subFormat() uses the NumberFormat itself, which might group digits.
+            if (!(numberFormat instanceof DateNumberFormat)) {
+                return false;
+            }
+            if (count == 1) {
+                value /= 100;
+            } else if (count == 2) {
+                value /= 10;
+            }
+            minDigits = Math.min(3, count);
+            break;
+        case 15: // 'h' - HOUR (1..12)
+            if (value == 0) {
+                value = cal.getLeastMaximum(Calendar.HOUR) + 1;
+            }
+            break;
+        default:
+            break;
+        }
+        if (value < 0) {
+            return false;
+        }
+        int start = buf.length();
+        appendAsciiNumber(buf, value, minDigits, maxDigits);
+        if (patternCharIndex == 8) {
+            for (int i = count; i > 3; --i) {
+                buf.append('0');
+            }
+        }
+
+        // Set the FieldPosition (for the first occurrence only)
+        if (pos.getBeginIndex() == pos.getEndIndex()) {
+            if (pos.getField() == PATTERN_INDEX_TO_DATE_FORMAT_FIELD[patternCharIndex]) {
+                pos.setBeginIndex(start);
+                pos.setEndIndex(buf.length());
+            } else if (pos.getFieldAttribute() ==
+                       PATTERN_INDEX_TO_DATE_FORMAT_ATTRIBUTE[patternCharIndex]) {
+                pos.setBeginIndex(start);
+                pos.setEndIndex(buf.length());
+            }
+        }
+        return true;
+    }
+
+    private static final int[] POWERS_OF_10 = {
+        1, 10, 100, 1000, 10000, 100000, 1000000, 10000000, 100000000, 1000000000
+    };
+
+    /*
+     * Appends a non-negative number like fastZeroPaddingNumber() does,
+     * but with ASCII digits.
+     */
+    private static void appendAsciiNumber(StringBuilder buf, int value, int minDigits, int maxDigits) {
+        if (maxDigits < POWERS_OF_10.length) {
+            value %= POWERS_OF_10[maxDigits];
+        }
+        int digits = 1;
+        while (digits < POWERS_OF_10.length && value >= POWERS_OF_10[digits]) {
+            ++digits;
+        }
+        for (; digits < minDigits; ++digits) {
+            buf.append('0');
+        }
+        buf.append(value);
+    }
+
+    private static void safeAppend(String[] array, int value, StringBuilder appendTo) {
         if (array != null && value >= 0 && value < array.length) {
             appendTo.append(array[value]);
         }
     }
 
-    private static void safeAppendWithMonthPattern(String[] array, int value, StringBuffer appendTo, String monthPattern) {
+    private static void safeAppendWithMonthPattern(String[] array, int value, StringBuilder appendTo, String monthPattern) {
         if (array != null && value >= 0 && value < array.length) {
             if (monthPattern == null) {
                 appendTo.append(array[value]);
@@ -1930,11 +2090,49 @@ public class SimpleDateFormat extends DateFormat {
         final char type;
         final int length;
         final boolean isNumeric;
+        // pattern character index, or -1 for an unknown pattern character
+        final int index;
+        // true if formatAsciiNumber() may format this field
+        final boolean isAsciiNumber;
 
         PatternItem(char type, int length) {
             this.type = type;
             this.length = length;
             isNumeric = isNumeric(type, length);
+            index = getIndexFromChar(type);
+            isAsciiNumber = isAsciiNumber(index, length);
+        }
+    }
+
+    /*
+     * Returns true for the fields which are plain zero-padded numbers,
+     * or very nearly so; see formatAsciiNumber().
+     */
+    private static boolean isAsciiNumber(int patternCharIndex, int count) {
+        switch (patternCharIndex) {
+        case 1: // 'y' - YEAR
+        case 18: // 'Y' - YEAR_WOY
+        case 3: // 'd' - DATE
+        case 4: // 'k' - HOUR_OF_DAY (1..24)
+        case 5: // 'H' - HOUR_OF_DAY (0..23)
+        case 6: // 'm' - MINUTE
+        case 7: // 's' - SECOND
+        case 8: // 'S' - FRACTIONAL_SECOND
+        case 10: // 'D' - DAY_OF_YEAR
+        case 11: // 'F' - DAY_OF_WEEK_IN_MONTH
+        case 12: // 'w' - WEEK_OF_YEAR
+        case 13: // 'W' - WEEK_OF_MONTH
+        case 15: // 'h' - HOUR (1..12)
+        case 16: // 'K' - HOUR (0..11)
+        case 20: // 'u' - EXTENDED_YEAR
+        case 21: // 'g' - JULIAN_DAY
+        case 22: // 'A' - MILLISECONDS_IN_DAY
+            return true;
+        case 2: // 'M' - MONTH
+        case 26: // 'L' - STANDALONE MONTH
+            return count <= 2;
+        default:
+            return false;
         }
     }
 
@@ -2036,6 +2234,23 @@ public class SimpleDateFormat extends DateFormat {
     @Deprecated
     protected void zeroPaddingNumber(NumberFormat nf,StringBuffer buf, int value,
                                      int minDigits, int maxDigits) {
+        // Same as the StringBuilder variant below.
+        if (useLocalZeroPaddingNumberFormat && value >= 0) {
+            int limit = decimalBuf.length < maxDigits ? decimalBuf.length : maxDigits;
+            int index = fillDecimalBuf(value, minDigits, limit);
+            for (int padding = minDigits - (limit - index); padding > 0; --padding) {
+                buf.append(decDigits[0]);
+            }
+            buf.append(decimalBuf, index, limit - index);
+        } else {
+            nf.setMinimumIntegerDigits(minDigits);
+            nf.setMaximumIntegerDigits(maxDigits);
+            nf.format(value, buf, new FieldPosition(-1));
+        }
+    }
+
+    private void zeroPaddingNumber(NumberFormat nf, StringBuilder buf, int value,
+                                   int minDigits, int maxDigits) {
         // Note: Indian calendar uses negative value for a calendar
         // field. fastZeroPaddingNumber cannot handle negative numbers.
         // BTW, it looks like a design bug in the Indian calendar...
@@ -2044,7 +2259,7 @@ public class SimpleDateFormat extends DateFormat {
         } else {
             nf.setMinimumIntegerDigits(minDigits);
             nf.setMaximumIntegerDigits(maxDigits);
-            nf.format(value, buf, new FieldPosition(-1));
+            nf.format(value, buf, null);
         }
     }
 
@@ -2084,8 +2299,13 @@ public class SimpleDateFormat extends DateFormat {
             useLocalZeroPaddingNumberFormat = false;
         }
 
+        asciiDigits = false;
         if (useLocalZeroPaddingNumberFormat) {
             decimalBuf = new char[DECIMAL_BUF_SIZE];
+            asciiDigits = decDigits.length >= 10;
+            for (int i = 0; i < 10 && asciiDigits; ++i) {
+                asciiDigits = decDigits[i] == '0' + i;
+            }
         }
     }
 
@@ -2093,6 +2313,8 @@ public class SimpleDateFormat extends DateFormat {
     private transient boolean useLocalZeroPaddingNumberFormat;
     private transient char[] decDigits;     // read-only - can be shared by multiple instances
     private transient char[] decimalBuf;    // mutable - one per instance
+    // If true, decDigits are the ASCII digits 0..9, as for the "latn" numbering system
+    private transient boolean asciiDigits;
     private static final int DECIMAL_BUF_SIZE = 10; // sufficient for int numbers
 
     /*
@@ -2106,8 +2328,24 @@ public class SimpleDateFormat extends DateFormat {
      *
      * -Yoshito
      */
-    private void fastZeroPaddingNumber(StringBuffer buf, int value, int minDigits, int maxDigits) {
+    private void fastZeroPaddingNumber(StringBuilder buf, int value, int minDigits, int maxDigits) {
         int limit = decimalBuf.length < maxDigits ? decimalBuf.length : maxDigits;
+        int index = fillDecimalBuf(value, minDigits, limit);
+        for (int padding = minDigits - (limit - index); padding > 0; --padding) {
+            // when pattern width is longer than decimalBuf, need extra
+            // leading zeros - ticke#7595
+            buf.append(decDigits[0]);
+        }
+        buf.append(decimalBuf, index, limit - index);
+    }
+
+    /*
+     * Writes the digits of value, zero-padded to minDigits as far as they fit,
+     * into decimalBuf ending at limit, and returns the start index of the digits.
+     * If minDigits is larger than limit, then the caller appends the remaining
+     * minDigits - (limit - index) zeros before the digits.
+     */
+    private int fillDecimalBuf(int value, int minDigits, int limit) {
         int index = limit - 1;
         while (true) {
             decimalBuf[index] = decDigits[(value % 10)];
@@ -2122,13 +2360,7 @@ public class SimpleDateFormat extends DateFormat {
             decimalBuf[--index] = decDigits[0];
             padding--;
         }
-        while (padding > 0) {
-            // when pattern width is longer than decimalBuf, need extra
-            // leading zeros - ticke#7595
-            buf.append(decDigits[0]);
-            padding--;
-        }
-        buf.append(decimalBuf, index, limit - index);
+        return index;
     }
 
     /**
@@ -3594,6 +3826,7 @@ public class SimpleDateFormat extends DateFormat {
         if (this.decimalBuf != null) {
             other.decimalBuf = new char[DECIMAL_BUF_SIZE];
         }
+        other.subFormatBuf = null;
         return other;
     }
 
@@ -3696,7 +3929,7 @@ public class SimpleDateFormat extends DateFormat {
         } else {
             throw new IllegalArgumentException("Cannot format given Object as a Date");
         }
-        StringBuffer toAppendTo = new StringBuffer();
+        StringBuilder toAppendTo = new StringBuilder();
         FieldPosition pos = new FieldPosition(0);
         List<FieldPosition> attributes = new ArrayList<FieldPosition>();
         format(cal, getContext(DisplayContext.Type.CAPITALIZATION), toAppendTo, pos, attributes);
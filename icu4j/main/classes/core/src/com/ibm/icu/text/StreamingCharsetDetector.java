@@ -0,0 +1,325 @@
+/*
+ *******************************************************************************
+ * Copyright (C) 2015, International Business Machines Corporation and
+ * others. All Rights Reserved.
+ *******************************************************************************
+ */
+package com.ibm.icu.text;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+
+/**
+ * Detects the charset of byte data which arrives in pieces, for example from a
+ * ReadableByteChannel or as a sequence of byte array chunks.
+ * Use it instead of a {@link CharsetDetector} for large documents,
+ * and for classifying many documents in a row.
+ * <p>
+ * The CharsetDetector examines at most the first 8000 bytes of an InputStream.
+ * This class runs the same recognizers over consecutive windows of about that size,
+ * and combines their confidences, weighted by window length.
+ * It stops examining input as soon as the best combined confidence reaches
+ * a threshold, or when a maximum input length has been examined.
+ * For input of up to one window, the results are the same as those of a CharsetDetector.
+ * <p>
+ * The input buffers are reused for the next document after {@link #reset()}.
+ * Therefore, the CharsetMatch objects returned by this class do not retain the input:
+ * Their getReader() and getString() methods return null.
+ * <p>
+ * A StreamingCharsetDetector is not thread-safe.
+ *
+ * @see CharsetDetector
+ * @draft ICU 56
+ * @provisional This API might change or be removed in a future release.
+ */
+public final class StreamingCharsetDetector {
+    /**
+     * The default confidence at which detection stops examining further input.
+     * @see #setConfidenceThreshold(int)
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public static final int DEFAULT_CONFIDENCE_THRESHOLD = 90;
+
+    /**
+     * The default maximum number of bytes examined per document.
+     * @see #setMaxInputLength(long)
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public static final long DEFAULT_MAX_INPUT_LENGTH = 1024 * 1024;
+
+    /**
+     * A window ends after a few plain ASCII bytes if there are any
+     * in this many bytes before the end of the buffer,
+     * so that it does not split a multi-byte character or an escape sequence.
+     */
+    private static final int MAX_CUT_LOOKBACK = 64;
+
+    private final CharsetDetector det = new CharsetDetector();
+    private final byte[] window = new byte[CharsetDetector.kBufSize];
+    private final ByteBuffer windowBuffer = ByteBuffer.wrap(window);
+    private int windowLength;
+
+    private final int recognizerCount = CharsetDetector.getRecognizerCount();
+    private final CharsetMatch[] windowMatches = new CharsetMatch[recognizerCount];
+    /** Sum of confidence*windowLength over the examined windows, per recognizer. */
+    private final long[] weightedConfidences = new long[recognizerCount];
+    /**
+     * Charset name and language of the highest-confidence window match per recognizer,
+     * or null if the recognizer has not matched.
+     */
+    private final String[] bestNames = new String[recognizerCount];
+    private final String[] bestLanguages = new String[recognizerCount];
+    private final int[] bestConfidences = new int[recognizerCount];
+    private long examinedLength;
+    private boolean done;
+
+    private int confidenceThreshold = DEFAULT_CONFIDENCE_THRESHOLD;
+    private long maxInputLength = DEFAULT_MAX_INPUT_LENGTH;
+
+    /**
+     * Constructor.
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public StreamingCharsetDetector() {
+    }
+
+    /**
+     * Sets the confidence at which detection stops examining further input.
+     * A value greater than 100 examines all input up to the maximum input length.
+     * @param threshold the confidence threshold, normally in the range 1..100
+     * @return this
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public StreamingCharsetDetector setConfidenceThreshold(int threshold) {
+        confidenceThreshold = threshold;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of bytes to be examined per document.
+     * @param maxLength the maximum input length; must be positive
+     * @return this
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public StreamingCharsetDetector setMaxInputLength(long maxLength) {
+        if (maxLength <= 0) {
+            throw new IllegalArgumentException("maxLength must be positive: " + maxLength);
+        }
+        maxInputLength = maxLength;
+        return this;
+    }
+
+    /**
+     * Enables or disables filtering of markup, as in {@link CharsetDetector#enableInputFilter(boolean)}.
+     * @param filter <code>true</code> to enable input text filtering.
+     * @return The previous setting.
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public boolean enableInputFilter(boolean filter) {
+        return det.enableInputFilter(filter);
+    }
+
+    /**
+     * Appends a chunk of input data.
+     * The chunk is not retained after this call.
+     * @param chunk contains the next part of the input data
+     * @param start index of the first byte in the array
+     * @param length number of bytes
+     * @return true if more input would be examined,
+     *         false if detection has finished and further input would be ignored
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public boolean append(byte[] chunk, int start, int length) {
+        while (length > 0 && !done) {
+            if (windowLength == window.length) {
+                // There is more input: Examine the full window.
+                nextWindow();
+                continue;
+            }
+            int n = Math.min(length, window.length - windowLength);
+            System.arraycopy(chunk, start, window, windowLength, n);
+            windowLength += n;
+            start += n;
+            length -= n;
+        }
+        return !done;
+    }
+
+    /**
+     * Reads input data from the channel until detection has finished or
+     * the end of the channel has been reached, and returns the results.
+     * Reads directly into the detector's buffer.
+     * The channel must be in blocking mode. It is not closed.
+     * @param channel the source of the input data
+     * @return the same as {@link #detectAll()}
+     * @throws IOException if reading from the channel fails
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public CharsetMatch[] detectAll(ReadableByteChannel channel) throws IOException {
+        while (!done) {
+            if (windowLength == window.length) {
+                nextWindow();
+                continue;
+            }
+            windowBuffer.limit(window.length).position(windowLength);
+            int n = channel.read(windowBuffer);
+            if (n < 0) {
+                break;
+            }
+            windowLength += n;
+        }
+        return detectAll();
+    }
+
+    /**
+     * Ends the input of the current document, and returns all of the charsets
+     * that appear to be plausible matches, best match first,
+     * as in {@link CharsetDetector#detectAll()}.
+     * Further input is ignored until {@link #reset()}.
+     * @return an array of CharsetMatch objects which do not retain the input data
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public CharsetMatch[] detectAll() {
+        if (!done) {
+            if (windowLength > 0 || examinedLength == 0) {
+                examineWindow(windowLength);
+                windowLength = 0;
+            }
+            done = true;
+        }
+        ArrayList<CharsetMatch> matches = new ArrayList<CharsetMatch>();
+        for (int i = 0; i < recognizerCount; ++i) {
+            if (bestNames[i] != null) {
+                int confidence = getConfidence(i);
+                if (confidence > 0) {
+                    matches.add(new CharsetMatch(confidence, bestNames[i], bestLanguages[i]));
+                }
+            }
+        }
+        Collections.sort(matches);      // CharsetMatch compares on confidence
+        Collections.reverse(matches);   //  Put best match first.
+        return matches.toArray(new CharsetMatch[matches.size()]);
+    }
+
+    /**
+     * Ends the input of the current document, and returns the best match.
+     * @return the best match, or null if there are no matches
+     * @see #detectAll()
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public CharsetMatch detect() {
+        CharsetMatch[] matches = detectAll();
+        return matches.length == 0 ? null : matches[0];
+    }
+
+    /**
+     * Returns the number of bytes that have been examined so far for the current document.
+     * @return the number of examined bytes
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public long getExaminedLength() {
+        return examinedLength;
+    }
+
+    /**
+     * Resets this detector for a new document.
+     * Keeps the settings and the buffers.
+     * @return this
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public StreamingCharsetDetector reset() {
+        windowLength = 0;
+        for (int i = 0; i < recognizerCount; ++i) {
+            weightedConfidences[i] = 0;
+            bestNames[i] = null;
+            bestLanguages[i] = null;
+            bestConfidences[i] = 0;
+        }
+        examinedLength = 0;
+        done = false;
+        return this;
+    }
+
+    /**
+     * Examines the full window up to a point which does not split a character,
+     * keeps the rest for the next window,
+     * and decides whether detection has finished.
+     */
+    private void nextWindow() {
+        int cut = findCut();
+        examineWindow(cut);
+        System.arraycopy(window, cut, window, 0, windowLength - cut);
+        windowLength -= cut;
+        if (examinedLength >= maxInputLength) {
+            done = true;
+            return;
+        }
+        for (int i = 0; i < recognizerCount; ++i) {
+            if (bestNames[i] != null && getConfidence(i) >= confidenceThreshold) {
+                done = true;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the length of the window to be examined:
+     * After three plain ASCII bytes (not NUL or ESC) near the end of the window,
+     * at a multiple of 4 so that UTF-16 and UTF-32 code units stay aligned;
+     * otherwise the whole window.
+     */
+    private int findCut() {
+        for (int cut = window.length; cut > window.length - MAX_CUT_LOOKBACK; cut -= 4) {
+            if (isPlain(window[cut - 1]) && isPlain(window[cut - 2]) && isPlain(window[cut - 3])) {
+                return cut;
+            }
+        }
+        return window.length;
+    }
+
+    private static boolean isPlain(byte b) {
+        return (0x20 <= b && b <= 0x7e) || b == 0x0a || b == 0x0d || b == 0x09;
+    }
+
+    private void examineWindow(int length) {
+        det.setWindow(window, length);
+        det.matchAll(windowMatches);
+        for (int i = 0; i < recognizerCount; ++i) {
+            CharsetMatch m = windowMatches[i];
+            if (m != null) {
+                int confidence = m.getConfidence();
+                weightedConfidences[i] += (long)confidence * length;
+                if (bestNames[i] == null || confidence > bestConfidences[i]) {
+                    bestNames[i] = m.getName();
+                    bestLanguages[i] = m.getLanguage();
+                    bestConfidences[i] = confidence;
+                }
+                windowMatches[i] = null;
+            }
+        }
+        examinedLength += length;
+    }
+
+    private int getConfidence(int recognizer) {
+        if (examinedLength == 0) {
+            // Empty input: Use the confidences for it.
+            return bestConfidences[recognizer];
+        }
+        return (int)(weightedConfidences[recognizer] / examinedLength);
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ *******************************************************************************
+ *   Copyright (C) 2015, International Business Machines
+ *   Corporation and others.  All Rights Reserved.
+ *******************************************************************************
+ */
+
+package com.ibm.icu.text;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+
+import com.ibm.icu.util.ICUUncheckedIOException;
+
+/**
+ * Normalizes text which arrives in pieces, for example from a Reader or as a
+ * sequence of CharBuffer chunks, and writes the normalized text to an Appendable
+ * as it goes.
+ * Use it for input that is too large to be normalized as one string.
+ * <p>
+ * The input is split at normalization boundaries as determined by
+ * {@link Normalizer2#hasBoundaryBefore(int)}.
+ * The text before the last boundary in the input so far is normalized and written;
+ * the rest is kept until more input or the end of the input.
+ * Therefore, the memory used is bounded by the length of the longest piece of text
+ * without a boundary, plus the size of each chunk.
+ * The output is the same as that of {@link Normalizer2#normalize(CharSequence, Appendable)}
+ * for the whole input.
+ * <p>
+ * This works with any Normalizer2 instance, including those for NFC, NFD, NFKC,
+ * NFKD, NFKC_Casefold and FCD.
+ * <p>
+ * A StreamingNormalizer is not thread-safe.
+ *
+ * <p>Any {@link java.io.IOException} is wrapped into a {@link com.ibm.icu.util.ICUUncheckedIOException}.
+ *
+ * @see Normalizer2
+ * @draft ICU 56
+ * @provisional This API might change or be removed in a future release.
+ */
+public final class StreamingNormalizer {
+    private final Normalizer2 norm2;
+    private final Appendable dest;
+    /**
+     * Input text starting at the last boundary seen,
+     * not yet normalized.
+     */
+    private final StringBuilder pending = new StringBuilder();
+
+    /**
+     * Constructs a StreamingNormalizer.
+     * @param norm2 the normalizer
+     * @param dest destination Appendable; gets the normalized text appended
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public StreamingNormalizer(Normalizer2 norm2, Appendable dest) {
+        if (norm2 == null || dest == null) {
+            throw new IllegalArgumentException("norm2 and dest must not be null");
+        }
+        this.norm2 = norm2;
+        this.dest = dest;
+    }
+
+    /**
+     * Appends a chunk of input text.
+     * Writes the normalized form of as much of the input so far as possible.
+     * The chunk is not retained after this call, except for some of its
+     * text which is copied. For example, a CharBuffer can be reused for the next chunk.
+     * @param chunk the next part of the input text
+     * @return this
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public StreamingNormalizer append(CharSequence chunk) {
+        int length = chunk.length();
+        if (length == 0) {
+            return this;
+        }
+        int boundary = lastBoundary(chunk);
+        if (boundary < 0) {
+            // No boundary: Keep all of the text.
+            pending.append(chunk);
+        } else if (pending.length() == 0) {
+            if (boundary > 0) {
+                norm2.normalize(chunk.subSequence(0, boundary), dest);
+            }
+            pending.append(chunk, boundary, length);
+        } else {
+            pending.append(chunk, 0, boundary);
+            norm2.normalize(pending, dest);
+            pending.setLength(0);
+            pending.append(chunk, boundary, length);
+        }
+        return this;
+    }
+
+    /**
+     * Appends the chunk of input text in the array.
+     * @param chunk contains the next part of the input text
+     * @param start index of the first char in the array
+     * @param length number of chars
+     * @return this
+     * @see #append(CharSequence)
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public StreamingNormalizer append(char[] chunk, int start, int length) {
+        return append(CharBuffer.wrap(chunk, start, length));
+    }
+
+    /**
+     * Ends the input: Writes the normalized form of the remaining input text.
+     * After this, the StreamingNormalizer can be used for a new input text.
+     * @return the destination Appendable
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public Appendable finish() {
+        if (pending.length() != 0) {
+            norm2.normalize(pending, dest);
+            pending.setLength(0);
+        }
+        return dest;
+    }
+
+    /**
+     * Reads all of the text from the Reader, writes its normalized form,
+     * and ends the input as with {@link #finish()}.
+     * Does not close the Reader.
+     * @param src the input text
+     * @return the destination Appendable
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public Appendable normalize(Reader src) {
+        char[] buffer = new char[BUFFER_SIZE];
+        CharBuffer chunk = CharBuffer.wrap(buffer);
+        try {
+            int length;
+            while ((length = src.read(buffer)) >= 0) {
+                chunk.limit(length);
+                append(chunk);
+            }
+        } catch (IOException e) {
+            throw new ICUUncheckedIOException(e);
+        }
+        return finish();
+    }
+
+    /**
+     * Returns the length of the text which is being kept until more input
+     * or the end of the input.
+     * @return the number of chars not yet normalized
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public int getPendingLength() {
+        return pending.length();
+    }
+
+    /**
+     * Returns the index of the last normalization boundary in the chunk,
+     * or -1 if there is none.
+     * Does not split surrogate pairs, including one whose lead surrogate
+     * ends the pending text or the chunk.
+     */
+    private int lastBoundary(CharSequence chunk) {
+        int length = chunk.length();
+        int i = length;
+        while (i > 0) {
+            int c = Character.codePointBefore(chunk, i);
+            i -= Character.charCount(c);
+            if (i == length - 1 && c <= 0xffff && Character.isHighSurrogate((char)c)) {
+                // The rest of the code point is in the next chunk.
+                continue;
+            }
+            if (norm2.hasBoundaryBefore(c)) {
+                if (i == 0 && c <= 0xffff && Character.isLowSurrogate((char)c) &&
+                        pending.length() != 0 &&
+                        Character.isHighSurrogate(pending.charAt(pending.length() - 1))) {
+                    // The code point started in the previous chunk.
+                    return -1;
+                }
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static final int BUFFER_SIZE = 8192;
+}
@@ -1,6 +1,6 @@
 /*
  *******************************************************************************
- * Copyright (C) 2011-2014, International Business Machines Corporation and    *
+ * Copyright (C) 2011-2015, International Business Machines Corporation and    *
  * others. All Rights Reserved.                                                *
  *******************************************************************************
  */
@@ -329,6 +329,17 @@ public abstract class TimeZoneNames implements Serializable {
         return TimeZoneNamesImpl.getDefaultExemplarLocationName(tzID);
     }
 
+    /**
+     * Loads all of the display names for this object's locale, so that later lookups
+     * and {@link #find(CharSequence, int, EnumSet)} do not need to load any more data.
+     * The default implementation does nothing.
+     *
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public void loadAllDisplayNames() {
+    }
+
     /**
      * Finds time zone name prefix matches for the input text at the
      * given offset and returns a collection of the matches.
@@ -0,0 +1,283 @@
+/*
+ *******************************************************************************
+ * Copyright (C) 2015, International Business Machines Corporation and
+ * others. All Rights Reserved.
+ *******************************************************************************
+ */
+package com.ibm.icu.util;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+import com.ibm.icu.impl.ConcurrencyUtil;
+import com.ibm.icu.text.BreakIterator;
+import com.ibm.icu.text.DateFormat;
+import com.ibm.icu.text.DateFormatSymbols;
+import com.ibm.icu.text.DateTimePatternGenerator;
+import com.ibm.icu.text.DecimalFormatSymbols;
+import com.ibm.icu.text.NumberFormat;
+import com.ibm.icu.text.PluralRules;
+import com.ibm.icu.text.PluralRules.PluralType;
+import com.ibm.icu.text.TimeZoneFormat;
+import com.ibm.icu.text.TimeZoneNames;
+
+/**
+ * Loads locale data ahead of time, so that the first uses of formatting and
+ * other services for those locales do not have to wait for it.
+ * ICU normally loads resource bundles, symbols, names and collation tailorings lazily,
+ * and caches them. Preloading creates service instances for each requested
+ * locale and kind of service, which fills these caches.
+ * <p>
+ * The loaded data is held in ICU's normal caches, which may release it
+ * when memory runs low.
+ * <p>
+ * For example:
+ * <pre>
+ * List&lt;LocaleDataPreloader.Result&gt; results = LocaleDataPreloader.preload(
+ *         Arrays.asList(ULocale.JAPAN, ULocale.GERMANY),
+ *         EnumSet.allOf(LocaleDataPreloader.Kind.class),
+ *         executor);
+ * </pre>
+ *
+ * @draft ICU 56
+ * @provisional This API might change or be removed in a future release.
+ */
+public final class LocaleDataPreloader {
+    /**
+     * Kinds of locale-dependent services whose data can be preloaded.
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public enum Kind {
+        /**
+         * Number formats and DecimalFormatSymbols.
+         * @draft ICU 56
+         * @provisional This API might change or be removed in a future release.
+         */
+        NUMBER,
+        /**
+         * Date formats, DateFormatSymbols and the DateTimePatternGenerator.
+         * @draft ICU 56
+         * @provisional This API might change or be removed in a future release.
+         */
+        DATE,
+        /**
+         * The Collator. This requires the ICU collation classes on the class path.
+         * @draft ICU 56
+         * @provisional This API might change or be removed in a future release.
+         */
+        COLLATION,
+        /**
+         * Character, word, line and sentence BreakIterators.
+         * @draft ICU 56
+         * @provisional This API might change or be removed in a future release.
+         */
+        BREAK,
+        /**
+         * All of the TimeZoneNames, and the TimeZoneFormat.
+         * @draft ICU 56
+         * @provisional This API might change or be removed in a future release.
+         */
+        TIME_ZONE_NAMES,
+        /**
+         * Cardinal and ordinal PluralRules.
+         * @draft ICU 56
+         * @provisional This API might change or be removed in a future release.
+         */
+        PLURAL_RULES
+    }
+
+    /**
+     * The outcome of preloading one kind of data for one locale.
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public static final class Result {
+        private final ULocale locale;
+        private final Kind kind;
+        private final long nanos;
+        private final Throwable error;
+
+        private Result(ULocale locale, Kind kind, long nanos, Throwable error) {
+            this.locale = locale;
+            this.kind = kind;
+            this.nanos = nanos;
+            this.error = error;
+        }
+
+        /**
+         * @return the requested locale
+         * @draft ICU 56
+         * @provisional This API might change or be removed in a future release.
+         */
+        public ULocale getLocale() {
+            return locale;
+        }
+
+        /**
+         * @return the kind of data
+         * @draft ICU 56
+         * @provisional This API might change or be removed in a future release.
+         */
+        public Kind getKind() {
+            return kind;
+        }
+
+        /**
+         * @return the time spent loading, in nanoseconds
+         * @draft ICU 56
+         * @provisional This API might change or be removed in a future release.
+         */
+        public long getNanos() {
+            return nanos;
+        }
+
+        /**
+         * @return true if the data was loaded
+         * @draft ICU 56
+         * @provisional This API might change or be removed in a future release.
+         */
+        public boolean isLoaded() {
+            return error == null;
+        }
+
+        /**
+         * @return the exception that prevented loading, or null if the data was loaded
+         * @draft ICU 56
+         * @provisional This API might change or be removed in a future release.
+         */
+        public Throwable getError() {
+            return error;
+        }
+
+        /**
+         * {@inheritDoc}
+         * @draft ICU 56
+         * @provisional This API might change or be removed in a future release.
+         */
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(locale).append(' ').append(kind).append(' ');
+            sb.append(nanos / 1000000).append('.');
+            int micros = (int)(nanos / 1000 % 1000);
+            if (micros < 100) {
+                sb.append('0');
+                if (micros < 10) {
+                    sb.append('0');
+                }
+            }
+            sb.append(micros).append(" ms");
+            if (error != null) {
+                sb.append(" failed: ").append(error);
+            }
+            return sb.toString();
+        }
+    }
+
+    private static final String COLLATOR_CLASS_NAME = "com.ibm.icu.text.Collator";
+
+    private LocaleDataPreloader() {}
+
+    /**
+     * Loads the data for each of the locales and each of the kinds of services.
+     * Failures are reported in the results rather than thrown.
+     *
+     * @param locales the locales
+     * @param kinds the kinds of services
+     * @param executor if not null, then the data is loaded by tasks on this executor,
+     *        and this method waits for them to finish;
+     *        otherwise the data is loaded one after the other in the calling thread
+     * @return the results, one per locale and kind, in the order of the locales
+     *         and then in the order of the kinds
+     * @draft ICU 56
+     * @provisional This API might change or be removed in a future release.
+     */
+    public static List<Result> preload(Collection<ULocale> locales, Set<Kind> kinds,
+            ExecutorService executor) {
+        List<Result> results = new ArrayList<Result>(locales.size() * kinds.size());
+        if (executor == null) {
+            for (ULocale locale : locales) {
+                for (Kind kind : kinds) {
+                    results.add(load(locale, kind));
+                }
+            }
+            return Collections.unmodifiableList(results);
+        }
+        List<Callable<Result>> tasks = new ArrayList<Callable<Result>>(locales.size() * kinds.size());
+        for (final ULocale locale : locales) {
+            for (final Kind kind : kinds) {
+                tasks.add(new Callable<Result>() {
+                    public Result call() {
+                        return load(locale, kind);
+                    }
+                });
+            }
+        }
+        results.addAll(ConcurrencyUtil.invokeAll(executor, tasks, "preloading"));
+        return Collections.unmodifiableList(results);
+    }
+
+    private static Result load(ULocale locale, Kind kind) {
+        long start = System.nanoTime();
+        Throwable error = null;
+        try {
+            switch (kind) {
+            case NUMBER:
+                DecimalFormatSymbols.getInstance(locale);
+                NumberFormat.getInstance(locale);
+                NumberFormat.getCurrencyInstance(locale);
+                break;
+            case DATE:
+                DateFormatSymbols.getInstance(locale);
+                DateFormat.getDateTimeInstance(DateFormat.FULL, DateFormat.FULL, locale);
+                DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale);
+                DateTimePatternGenerator.getInstance(locale);
+                break;
+            case COLLATION:
+                loadCollator(locale);
+                break;
+            case BREAK:
+                BreakIterator.getCharacterInstance(locale);
+                BreakIterator.getWordInstance(locale);
+                BreakIterator.getLineInstance(locale);
+                BreakIterator.getSentenceInstance(locale);
+                break;
+            case TIME_ZONE_NAMES:
+                TimeZoneNames.getInstance(locale).loadAllDisplayNames();
+                TimeZoneFormat.getInstance(locale);
+                break;
+            case PLURAL_RULES:
+                PluralRules.forLocale(locale, PluralType.CARDINAL);
+                PluralRules.forLocale(locale, PluralType.ORDINAL);
+                break;
+            }
+        } catch (RuntimeException e) {
+            error = e;
+        }
+        return new Result(locale, kind, System.nanoTime() - start, error);
+    }
+
+    /**
+     * The Collator is not in the core module, so it is loaded via reflection.
+     */
+    private static void loadCollator(ULocale locale) {
+        try {
+            Class<?> cls = Class.forName(COLLATOR_CLASS_NAME);
+            Method getInstance = cls.getMethod("getInstance", ULocale.class);
+            getInstance.invoke(null, locale);
+        } catch (InvocationTargetException e) {
+            throw ConcurrencyUtil.unchecked(e.getCause());
+        } catch (Exception e) {
+            // ClassNotFoundException etc.
+            throw new IllegalStateException("unable to load a " + COLLATOR_CLASS_NAME, e);
+        }
+    }
+}
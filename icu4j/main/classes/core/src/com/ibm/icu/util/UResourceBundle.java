@@ -1,6 +1,6 @@
 /*
  *******************************************************************************
- * Copyright (C) 2004-2014, International Business Machines Corporation and    *
+ * Copyright (C) 2004-2015, International Business Machines Corporation and    *
  * others. All Rights Reserved.                                                *
  *******************************************************************************
  */
@@ -316,8 +316,9 @@ public abstract class UResourceBundle extends ResourceBundle {
         return getULocale().toLocale();
     }
 
-    // Cache for ResourceBundle instantiation
-    private static ICUCache<ResourceCacheKey, UResourceBundle> BUNDLE_CACHE =
+    // Cache for ResourceBundle instantiation.
+    // Lookups do not lock, so that cache hits never block.
+    private static volatile ICUCache<ResourceCacheKey, UResourceBundle> BUNDLE_CACHE =
         new SimpleCache<ResourceCacheKey, UResourceBundle>();
 
     /**
@@ -350,13 +351,15 @@ public abstract class UResourceBundle extends ResourceBundle {
     @Deprecated
     protected static UResourceBundle addToCache(ClassLoader cl, String fullName,
                                                 ULocale defaultLocale, UResourceBundle b) {
-        synchronized(cacheKey){
-            cacheKey.setKeyValues(cl, fullName, defaultLocale);
-            UResourceBundle cachedBundle = BUNDLE_CACHE.get(cacheKey);
+        ResourceCacheKey cacheKey = new ResourceCacheKey(cl, fullName, defaultLocale);
+        ICUCache<ResourceCacheKey, UResourceBundle> cache = BUNDLE_CACHE;
+        // Serialize insertions so that all callers agree on the cached bundle.
+        synchronized(cache){
+            UResourceBundle cachedBundle = cache.get(cacheKey);
             if (cachedBundle != null) {
                 return cachedBundle;
             }
-            BUNDLE_CACHE.put((ResourceCacheKey)cacheKey.clone(), b);
+            cache.put(cacheKey.toStoredKey(), b);
             return b;
         }
     }
@@ -369,10 +372,7 @@ public abstract class UResourceBundle extends ResourceBundle {
     @Deprecated
     protected static UResourceBundle loadFromCache(ClassLoader cl, String fullName, 
                                                    ULocale defaultLocale){
-        synchronized(cacheKey){
-            cacheKey.setKeyValues(cl, fullName, defaultLocale);
-            return BUNDLE_CACHE.get(cacheKey);
-        }
+        return BUNDLE_CACHE.get(new ResourceCacheKey(cl, fullName, defaultLocale));
     }
 
     /**
@@ -386,7 +386,15 @@ public abstract class UResourceBundle extends ResourceBundle {
      * locale (if at all).
      */
     private static final class ResourceCacheKey implements Cloneable {
+        ResourceCacheKey(ClassLoader root, String searchName, ULocale defaultLocale) {
+            setKeyValues(root, searchName, defaultLocale);
+        }
+        // A lookup key references the class root directly, without allocating a reference.
+        // A key stored in the cache references it via loaderRef,
+        // so that the cache does not keep the class root alive.
+        private ClassLoader loader;
         private SoftReference<ClassLoader> loaderRef;
+        private boolean hasLoader;
         private String searchName;
         private ULocale defaultLocale;
         private int hashCodeCache;
@@ -418,12 +426,12 @@ public abstract class UResourceBundle extends ResourceBundle {
                         return false;
                     }
                 }
-                //are refs (both non-null) or (both null)?
-                if (loaderRef == null) {
-                    return otherEntry.loaderRef == null;
+                //are roots (both non-null) or (both null)?
+                if (!hasLoader) {
+                    return !otherEntry.hasLoader;
                 } else {
-                    return (otherEntry.loaderRef != null)
-                            && (loaderRef.get() == otherEntry.loaderRef.get());
+                    return otherEntry.hasLoader
+                            && (getLoader() == otherEntry.getLoader());
                 }
             } catch (NullPointerException e) {
                 return false;
@@ -446,7 +454,23 @@ public abstract class UResourceBundle extends ResourceBundle {
         }
 
         ///CLOVER:ON
-        private synchronized void setKeyValues(ClassLoader root, String searchName, 
+        private ClassLoader getLoader() {
+            return loader != null ? loader : loaderRef.get();
+        }
+
+        /**
+         * Returns a copy of this lookup key for storing in the cache.
+         */
+        ResourceCacheKey toStoredKey() {
+            ResourceCacheKey stored = (ResourceCacheKey)clone();
+            if (hasLoader) {
+                stored.loaderRef = new SoftReference<ClassLoader>(loader);
+                stored.loader = null;
+            }
+            return stored;
+        }
+
+        private void setKeyValues(ClassLoader root, String searchName, 
                                                ULocale defaultLocale) {
             this.searchName = searchName;
             hashCodeCache = searchName.hashCode();
@@ -454,10 +478,10 @@ public abstract class UResourceBundle extends ResourceBundle {
             if (defaultLocale != null) {
                 hashCodeCache ^= defaultLocale.hashCode();
             }
-            if (root == null) {
-                this.loaderRef = null;
-            } else {
-                loaderRef = new SoftReference<ClassLoader>(root);
+            this.loader = root;
+            this.loaderRef = null;
+            hasLoader = root != null;
+            if (hasLoader) {
                 hashCodeCache ^= root.hashCode();
             }
         }
@@ -466,8 +490,6 @@ public abstract class UResourceBundle extends ResourceBundle {
         }*/
     }
 
-    private static final ResourceCacheKey cacheKey = new ResourceCacheKey();
-
     private static final int ROOT_MISSING = 0;
     private static final int ROOT_ICU = 1;
     private static final int ROOT_JAVA = 2;
@@ -19,6 +19,7 @@ import java.nio.charset.CodingErrorAction;
 import java.nio.charset.UnsupportedCharsetException;
 import java.nio.charset.spi.CharsetProvider;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.MissingResourceException;
 import java.util.Set;
@@ -5787,4 +5788,259 @@ public class TestCharset extends TestFmwk {
             }
         }
     }
+
+    /*
+     * Conversion tables are loaded once and shared among converters.
+     * Converters which modify values of their tables, like the ISO-2022 ones,
+     * or which build additional data on demand, like swaplfnl converters,
+     * must not change the results of others.
+     */
+    public void TestSharedConverterTables() {
+        final String[] names = {
+            "Shift_JIS", "ibm-943_P15A-2003", "ibm-943_P130-1999", "softbank-shift_jis-2012",
+            "jisx-212", "ibm-5478", "cns-11643-1992", "ksc_5601", "ibm-949", "EUC-JP",
+            "ibm-1047", "ibm-1047,swaplfnl", "ibm-37", "ibm-37,swaplfnl",
+            "ISO-2022-JP-2", "ISO-2022-CN-EXT", "ISO-2022-KR", "x-iscii-de", "GB18030"
+        };
+        final String text = "abc\n\u0085\u00e9\u65e5\u672c\u8a9e\u4e2d\u6587\ud55c\uad6d\uc5b4" +
+                "\u3042\uff76\u0391\u0939\u093f\u20ac xyz\r\n";
+        final byte[][] expected = new byte[names.length][];
+        for (int i = 0; i < names.length; ++i) {
+            expected[i] = encodeWithNewCharset(names[i], text);
+        }
+        // Again, in reverse order and concurrently.
+        Thread[] threads = new Thread[4];
+        final int[] errors = new int[threads.length];
+        for (int t = 0; t < threads.length; ++t) {
+            final int threadIndex = t;
+            threads[t] = new Thread() {
+                @Override
+                public void run() {
+                    for (int i = names.length; i > 0;) {
+                        --i;
+                        if (!Arrays.equals(expected[i], encodeWithNewCharset(names[i], text))) {
+                            ++errors[threadIndex];
+                        }
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        try {
+            for (int t = 0; t < threads.length; ++t) {
+                threads[t].join();
+            }
+        } catch (InterruptedException e) {
+            errln("interrupted: " + e);
+        }
+        for (int t = 0; t < threads.length; ++t) {
+            if (errors[t] != 0) {
+                errln("thread " + t + " got " + errors[t] + " different conversion results");
+            }
+        }
+        for (int i = 0; i < names.length; ++i) {
+            byte[] bytes = encodeWithNewCharset(names[i], text);
+            if (!Arrays.equals(expected[i], bytes)) {
+                errln(names[i] + " converts differently after other converters were used");
+            }
+        }
+    }
+
+    private static byte[] encodeWithNewCharset(String name, String text) {
+        CharsetEncoder encoder = new CharsetProviderICU().charsetForName(name).newEncoder();
+        encoder.onUnmappableCharacter(CodingErrorAction.REPLACE);
+        encoder.onMalformedInput(CodingErrorAction.REPLACE);
+        try {
+            ByteBuffer bytes = encoder.encode(CharBuffer.wrap(text));
+            byte[] result = new byte[bytes.remaining()];
+            bytes.get(result);
+            return result;
+        } catch (CharacterCodingException e) {
+            throw new IllegalStateException(name + ": " + e);
+        }
+    }
+
+    /*
+     * The converters have bulk conversion loops for array-backed and for direct buffers.
+     * Their results must be the same as when converting one unit at a time.
+     */
+    public void TestDirectAndArrayBuffers() {
+        String[] names = {
+            "UTF-16", "UTF-16BE", "UTF-16LE", "UTF-16BE,version=1", "UTF-32", "UTF-32BE", "UTF-32LE",
+            "ibm-37", "ibm-1047,swaplfnl", "windows-1252", "ISO-8859-7", "Shift_JIS",
+            "EUC-JP", "GB18030", "windows-949", "ibm-930"
+        };
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 300; ++i) {
+            sb.append("abc \u00e9\u00fc\u03b1\u20ac\u65e5\u672c\uac00\n");
+            if (i % 50 == 7) {
+                sb.append("\ud83d\ude00\u4e00\ufffe\ufeff\u0085");
+            }
+        }
+        String text = sb.toString();
+        for (String name : names) {
+            Charset cs = new CharsetProviderICU().charsetForName(name);
+            byte[] expectedBytes = encodeInSteps(cs, text, false, 1);
+            for (int chunk = 3; chunk <= 1000; chunk *= 7) {
+                for (int direct = 0; direct <= 1; ++direct) {
+                    byte[] bytes = encodeInSteps(cs, text, direct != 0, chunk);
+                    if (!Arrays.equals(expectedBytes, bytes)) {
+                        errln(name + " encodes differently with " + (direct != 0 ? "direct" : "heap") +
+                                " buffers and chunk size " + chunk);
+                    }
+                }
+            }
+            String expectedText = decodeInSteps(cs, expectedBytes, false, 1);
+            for (int chunk = 3; chunk <= 1000; chunk *= 7) {
+                for (int direct = 0; direct <= 1; ++direct) {
+                    String s = decodeInSteps(cs, expectedBytes, direct != 0, chunk);
+                    if (!expectedText.equals(s)) {
+                        errln(name + " decodes differently with " + (direct != 0 ? "direct" : "heap") +
+                                " buffers and chunk size " + chunk);
+                    }
+                }
+            }
+        }
+    }
+
+    /* Encodes with input and output buffers of at most chunk units. */
+    private static byte[] encodeInSteps(Charset cs, String text, boolean direct, int chunk) {
+        CharsetEncoder encoder = cs.newEncoder();
+        encoder.onUnmappableCharacter(CodingErrorAction.REPLACE);
+        encoder.onMalformedInput(CodingErrorAction.REPLACE);
+        CharBuffer in = direct ?
+                ByteBuffer.allocateDirect(2 * text.length()).asCharBuffer().put(text) : CharBuffer.allocate(text.length()).put(text);
+        in.flip();
+        ByteBuffer out = direct ? ByteBuffer.allocateDirect(chunk + 8) : ByteBuffer.allocate(chunk + 8);
+        java.io.ByteArrayOutputStream result = new java.io.ByteArrayOutputStream();
+        int limit = in.limit();
+        boolean endOfInput;
+        CoderResult cr;
+        int fed = 0;
+        do {
+            // Make more input available even if the converter left some unconsumed.
+            fed = Math.min(fed + chunk, limit);
+            in.limit(fed);
+            endOfInput = fed == limit;
+            out.limit(chunk);
+            cr = encoder.encode(in, out, endOfInput);
+            out.flip();
+            while (out.hasRemaining()) {
+                result.write(out.get());
+            }
+            out.clear();
+        } while (!endOfInput || in.hasRemaining() || cr.isOverflow());
+        while (encoder.flush(out).isOverflow()) {
+            out.flip();
+            while (out.hasRemaining()) {
+                result.write(out.get());
+            }
+            out.clear();
+        }
+        out.flip();
+        while (out.hasRemaining()) {
+            result.write(out.get());
+        }
+        return result.toByteArray();
+    }
+
+    /* Decodes with input and output buffers of at most chunk units. */
+    private static String decodeInSteps(Charset cs, byte[] bytes, boolean direct, int chunk) {
+        CharsetDecoder decoder = cs.newDecoder();
+        decoder.onUnmappableCharacter(CodingErrorAction.REPLACE);
+        decoder.onMalformedInput(CodingErrorAction.REPLACE);
+        ByteBuffer in = direct ? ByteBuffer.allocateDirect(bytes.length) : ByteBuffer.allocate(bytes.length);
+        in.put(bytes).flip();
+        CharBuffer out = direct ?
+                ByteBuffer.allocateDirect(2 * chunk + 16).asCharBuffer() : CharBuffer.allocate(chunk + 8);
+        StringBuilder result = new StringBuilder();
+        int limit = in.limit();
+        boolean endOfInput;
+        CoderResult cr;
+        int fed = 0;
+        do {
+            // Make more input available even if the converter left some unconsumed.
+            fed = Math.min(fed + chunk, limit);
+            in.limit(fed);
+            endOfInput = fed == limit;
+            out.limit(chunk);
+            cr = decoder.decode(in, out, endOfInput);
+            out.flip();
+            result.append(out);
+            out.clear();
+        } while (!endOfInput || in.hasRemaining() || cr.isOverflow());
+        decoder.flush(out);
+        out.flip();
+        result.append(out);
+        return result.toString();
+    }
+
+    public void TestOneShotConversion() throws Exception {
+        String[] names = {
+            "UTF-8", "UTF-16", "UTF-32LE", "US-ASCII", "ISO-8859-1", "ibm-37", "windows-1252",
+            "Shift_JIS", "GB18030", "ISO-2022-JP", "SCSU", "BOCU-1", "UTF-7"
+        };
+        String text = "abc\u00e9\u03b1\u4e00\u3042 \ud83d\ude00\u20ac xyz\r\n";
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 200; ++i) {
+            sb.append(text);
+        }
+        text = sb.toString();
+        char[] chars = ("##" + text + "##").toCharArray();
+        for (String name : names) {
+            CharsetICU cs = (CharsetICU)new CharsetProviderICU().charsetForName(name);
+            CharsetEncoder encoder = cs.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+            ByteBuffer expectedBuffer = encoder.encode(CharBuffer.wrap(text));
+            byte[] expectedBytes = new byte[expectedBuffer.remaining()];
+            expectedBuffer.get(expectedBytes);
+            // Twice, to reuse the cached converters.
+            for (int i = 0; i < 2; ++i) {
+                byte[] bytes = cs.encodeToBytes(text, CodingErrorAction.REPLACE);
+                if (!Arrays.equals(expectedBytes, bytes)) {
+                    errln(name + ".encodeToBytes(String) differs from CharsetEncoder.encode()");
+                }
+                bytes = cs.encodeToBytes(chars, 2, text.length(), CodingErrorAction.REPLACE);
+                if (!Arrays.equals(expectedBytes, bytes)) {
+                    errln(name + ".encodeToBytes(char[]) differs from CharsetEncoder.encode()");
+                }
+            }
+            CharsetDecoder decoder = cs.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+            String expectedText = decoder.decode(ByteBuffer.wrap(expectedBytes)).toString();
+            byte[] padded = new byte[expectedBytes.length + 5];
+            System.arraycopy(expectedBytes, 0, padded, 3, expectedBytes.length);
+            for (int i = 0; i < 2; ++i) {
+                String s = cs.decodeToString(padded, 3, expectedBytes.length, CodingErrorAction.REPLACE);
+                if (!expectedText.equals(s)) {
+                    errln(name + ".decodeToString() differs from CharsetDecoder.decode()");
+                }
+                s = new String(cs.decodeToChars(expectedBytes, 0, expectedBytes.length, CodingErrorAction.REPLACE));
+                if (!expectedText.equals(s)) {
+                    errln(name + ".decodeToChars() differs from CharsetDecoder.decode()");
+                }
+            }
+        }
+
+        CharsetICU utf8 = (CharsetICU)new CharsetProviderICU().charsetForName("UTF-8");
+        byte[] bad = { 0x61, (byte)0xff, 0x62, (byte)0xe4 };
+        assertEquals("UTF-8 REPLACE", "a\ufffdb\ufffd", utf8.decodeToString(bad, 0, bad.length, CodingErrorAction.REPLACE));
+        assertEquals("UTF-8 IGNORE", "ab", utf8.decodeToString(bad, 0, bad.length, CodingErrorAction.IGNORE));
+        try {
+            utf8.decodeToString(bad, 0, bad.length, CodingErrorAction.REPORT);
+            errln("UTF-8 decodeToString(REPORT) did not throw for malformed input");
+        } catch (CharacterCodingException expected) {
+        }
+        // The decoder must be usable again after an error.
+        assertEquals("UTF-8 after error", "b", utf8.decodeToString(bad, 2, 1, CodingErrorAction.REPORT));
+        CharsetICU ibm37 = (CharsetICU)new CharsetProviderICU().charsetForName("ibm-37");
+        try {
+            ibm37.encodeToBytes("a\u4e00", CodingErrorAction.REPORT);
+            errln("ibm-37 encodeToBytes(REPORT) did not throw for an unmappable character");
+        } catch (CharacterCodingException expected) {
+        }
+        if (!Arrays.equals(new byte[] { (byte)0x81, 0x3f }, ibm37.encodeToBytes("a\u4e00", CodingErrorAction.REPLACE))) {
+            errln("ibm-37 encodeToBytes(REPLACE) did not substitute 3F for an unmappable character");
+        }
+    }
 }
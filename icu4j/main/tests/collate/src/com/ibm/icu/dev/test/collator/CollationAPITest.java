@@ -1,6 +1,6 @@
 /*
  *******************************************************************************
- * Copyright (C) 2002-2014, International Business Machines Corporation and
+ * Copyright (C) 2002-2015, International Business Machines Corporation and
  * others. All Rights Reserved.
  *******************************************************************************
  */
@@ -12,13 +12,18 @@
  
 package com.ibm.icu.dev.test.collator;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.text.CharacterIterator;
 import java.text.StringCharacterIterator;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Locale;
 import java.util.MissingResourceException;
+import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import com.ibm.icu.dev.test.TestFmwk;
 import com.ibm.icu.impl.Utility;
@@ -31,6 +36,7 @@ import com.ibm.icu.text.RawCollationKey;
 import com.ibm.icu.text.RuleBasedCollator;
 import com.ibm.icu.text.UCharacterIterator;
 import com.ibm.icu.text.UnicodeSet;
+import com.ibm.icu.util.ByteArrayWrapper;
 import com.ibm.icu.util.ULocale;
 import com.ibm.icu.util.VersionInfo;
 
@@ -177,6 +183,132 @@ public class CollationAPITest extends TestFmwk {
         }
     }
     
+    public void TestGetRawCollationKeys() {
+        String[] sources = {
+            "", "abc", "ABC", "\u00E4b", "a\u0308b", "\u4E00\u4E8C", "x\uD800\uDC00y", "Zz 12"
+        };
+        int[] strengths = { Collator.PRIMARY, Collator.TERTIARY, Collator.IDENTICAL };
+        RuleBasedCollator coll = (RuleBasedCollator)Collator.getInstance(ULocale.GERMAN);
+        // Start with a tiny array to exercise growing the output.
+        ByteArrayWrapper arena = new ByteArrayWrapper(new byte[3], 0);
+        int[] offsets = new int[sources.length + 1];
+        for (int strength : strengths) {
+            coll.setStrength(strength);
+            arena = coll.getRawCollationKeys(sources, offsets, arena);
+            if (offsets[sources.length] != arena.size) {
+                errln("strength " + strength + ": total key length " + offsets[sources.length] +
+                        " != arena size " + arena.size);
+            }
+            for (int i = 0; i < sources.length; ++i) {
+                RawCollationKey key = coll.getRawCollationKey(sources[i], null);
+                byte[] expected = new byte[key.size];
+                System.arraycopy(key.bytes, 0, expected, 0, key.size);
+                byte[] batchKey = new byte[offsets[i + 1] - offsets[i]];
+                System.arraycopy(arena.bytes, offsets[i], batchKey, 0, batchKey.length);
+                if (!Arrays.equals(expected, batchKey)) {
+                    errln("strength " + strength + ": batch sort key differs for " +
+                            Utility.hex(sources[i]));
+                }
+            }
+        }
+        try {
+            coll.getRawCollationKeys(sources, new int[sources.length], null);
+            errln("getRawCollationKeys() with a short offsets array did not fail as expected");
+        } catch (IllegalArgumentException expected) {
+        }
+        coll.freeze();
+        ByteArrayWrapper empty = coll.getRawCollationKeys(new String[0], offsets, null);
+        if (empty.size != 0 || offsets[0] != 0) {
+            errln("getRawCollationKeys() of no strings should be empty");
+        }
+    }
+
+    public void TestGetSortKeyPrefix() {
+        String[] sources = {
+            "", "abc", "ABC", "\u00E4b", "a\u0308b", "\u4E00\u4E8C", "x\uD800\uDC00y", "Zz 12",
+            "a longer string with more than twenty-four primary weight bytes"
+        };
+        int[] strengths = {
+            Collator.PRIMARY, Collator.SECONDARY, Collator.TERTIARY, Collator.QUATERNARY, Collator.IDENTICAL
+        };
+        RuleBasedCollator coll = (RuleBasedCollator)Collator.getInstance(ULocale.GERMAN);
+        coll.setStrength(Collator.IDENTICAL);
+        coll.freeze();
+        for (int strength : strengths) {
+            RuleBasedCollator levelColl = coll.cloneAsThawed();
+            levelColl.setStrength(strength);
+            for (String source : sources) {
+                RawCollationKey key = levelColl.getRawCollationKey(source, null);
+                for (int capacity : new int[] { 0, 1, 4, 8, 24, 200 }) {
+                    byte[] prefix = new byte[capacity];
+                    int length = coll.getSortKeyPrefix(source, strength, prefix);
+                    int expectedLength = Math.min(capacity, key.size);
+                    boolean same = length == expectedLength;
+                    for (int i = 0; same && i < length; ++i) {
+                        same = prefix[i] == key.bytes[i];
+                    }
+                    if (!same) {
+                        errln("getSortKeyPrefix(" + Utility.hex(source) + ", strength " + strength +
+                                ", capacity " + capacity + ") is not a prefix of the sort key");
+                    }
+                }
+            }
+        }
+        try {
+            coll.getSortKeyPrefix("abc", 99, new byte[8]);
+            errln("getSortKeyPrefix() with an illegal strength did not fail as expected");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    public void TestSort() {
+        String latin = "aAbBcCdDeE\u00E4\u00C4\u00E9\u0142 -.";
+        String mixed = latin + "\u03B1\u0416\u4E00\u0308\uD800\uDC00";
+        RuleBasedCollator coll = (RuleBasedCollator)Collator.getInstance(ULocale.GERMAN);
+        Random random = createRandom();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (String alphabet : new String[] { latin, mixed }) {
+                for (int count : new int[] { 0, 1, 100, 20000 }) {
+                    String[] items = new String[count];
+                    for (int i = 0; i < count; ++i) {
+                        StringBuilder sb = new StringBuilder();
+                        int length = random.nextInt(8);
+                        for (int j = 0; j < length; ++j) {
+                            sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                        }
+                        items[i] = sb.toString();
+                    }
+                    String[] expected = items.clone();
+                    Arrays.sort(expected, coll);
+                    String[] actual = items.clone();
+                    coll.sort(actual, null);
+                    checkSorted(coll, expected, actual, "sequential, " + count + " items");
+                    actual = items.clone();
+                    coll.sort(actual, executor);
+                    checkSorted(coll, expected, actual, "parallel, " + count + " items");
+                    if (coll.isFrozen()) {
+                        errln("sort() with an executor froze the collator");
+                    }
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void checkSorted(Collator coll, String[] expected, String[] actual, String message) {
+        for (int i = 0; i < expected.length; ++i) {
+            // Strings that compare equal may be distinct;
+            // both sorts are stable, so they must nevertheless be in the same order.
+            if (!expected[i].equals(actual[i])) {
+                errln("RuleBasedCollator.sort() " + message + ": mismatch at index " + i + ": " +
+                        Utility.hex(expected[i]) + " vs. " + Utility.hex(actual[i]));
+                return;
+            }
+        }
+    }
+
     void doAssert(boolean conditions, String message) {
         if (!conditions) {
             errln(message);
@@ -1547,4 +1679,63 @@ public class CollationAPITest extends TestFmwk {
             errln("Collator.getInstance(" + localeID + ") did not fail as expected - " + other);
         }
     }
+
+    public void TestCloneBinary() throws Exception {
+        String[] strings = {
+            "", "a", "A", "ab", "abc", "ch", "cz", "d", "\u00e4", "ae", "\u00e4b", "\u03b1", "\u0430",
+            "\u1100\u1161", "\uac00", "\u30ab", "\u30fc", "1", "10", "9", "a b", "a-b",
+            "\u0e40\u0e01", "\ud835\udc00", "\u4e00", "\u4e01", "\uffff"
+        };
+        // Contractions, prefixes, reordering, Jamo tailoring, and a changed attribute.
+        RuleBasedCollator coll = new RuleBasedCollator(
+                "&c<ch<<<cH<<<Ch<<<CH &a<\u30fc|\u30ab &\u1100<<<x " +
+                "[reorder Grek Cyrl] [caseFirst upper]");
+        coll.setNumericCollation(true);
+        checkCloneBinary(coll, strings);
+        checkCloneBinary(new RuleBasedCollator("[strength 1]"), strings);
+
+        String[] localeIDs = { "root", "de@collation=phonebook", "ja", "ko", "th", "zh", "sv" };
+        for (String localeID : localeIDs) {
+            coll = (RuleBasedCollator)Collator.getInstance(new ULocale(localeID));
+            checkCloneBinary(coll, strings);
+            coll = coll.cloneAsThawed();
+            coll.setStrength(Collator.SECONDARY);
+            coll.setAlternateHandlingShifted(true);
+            checkCloneBinary(coll, strings);
+        }
+
+        try {
+            new RuleBasedCollator(ByteBuffer.wrap(new byte[64]));
+            errln("RuleBasedCollator(invalid binary) did not fail");
+        } catch(IOException expected) {
+        }
+    }
+
+    private void checkCloneBinary(RuleBasedCollator coll, String[] strings) throws IOException {
+        byte[] bin = coll.cloneBinary();
+        // Read from an offset in the buffer, as from part of a mapped file.
+        ByteBuffer bytes = ByteBuffer.allocate(bin.length + 4);
+        bytes.position(4);
+        bytes.put(bin);
+        bytes.position(4);
+        RuleBasedCollator clone = new RuleBasedCollator(bytes);
+        assertEquals("buffer position unchanged", 4, bytes.position());
+        assertEquals("empty rules", "", clone.getRules());
+        assertEquals("strength", coll.getStrength(), clone.getStrength());
+        assertEquals("tailored set", coll.getTailoredSet(), clone.getTailoredSet());
+        for (int i = 0; i < strings.length; ++i) {
+            assertTrue("sort key of " + Utility.escape(strings[i]),
+                    coll.getCollationKey(strings[i]).equals(clone.getCollationKey(strings[i])));
+            for (int j = 0; j < strings.length; ++j) {
+                int expected = coll.compare(strings[i], strings[j]);
+                int actual = clone.compare(strings[i], strings[j]);
+                if (expected != actual) {
+                    errln("cloneBinary() of " + coll.getLocale(ULocale.ACTUAL_LOCALE) +
+                            ": compare(" + Utility.escape(strings[i]) + ", " +
+                            Utility.escape(strings[j]) + ") = " + actual + " != " + expected);
+                }
+            }
+        }
+        logln("cloneBinary(): " + bin.length + " bytes");
+    }
 }
@@ -1,6 +1,6 @@
 /*
  *******************************************************************************
- * Copyright (C) 2007-2014, International Business Machines Corporation and    *
+ * Copyright (C) 2007-2015, International Business Machines Corporation and    *
  * others. All Rights Reserved.                                                *
  *******************************************************************************
  */
@@ -13,6 +13,7 @@ import java.util.Random;
 
 import com.ibm.icu.dev.test.TestFmwk;
 import com.ibm.icu.text.Collator;
+import com.ibm.icu.text.RawCollationKey;
 
 public class CollationThreadTest extends TestFmwk {
     public static void main(String[] args) throws Exception {
@@ -159,7 +160,7 @@ public class CollationThreadTest extends TestFmwk {
     }
 
     private static class Control {
-        private boolean go;
+        private volatile boolean go;
         private String fail;
 
         synchronized void start() {
@@ -285,4 +286,80 @@ public class CollationThreadTest extends TestFmwk {
 
         runThreads(threads, control);
     }
+
+    private static class KeyBenchmark implements Runnable {
+        private Collator collator;
+        private Control control;
+        private long count;
+
+        KeyBenchmark(Collator collator, Control control) {
+            this.collator = collator;
+            this.control = control;
+        }
+
+        public void run() {
+            try {
+                synchronized (control) {
+                    while (!control.go()) {
+                        control.wait();
+                    }
+                }
+
+                RawCollationKey key = new RawCollationKey();
+                while (control.go()) {
+                    for (int i = 0; i < threadTestData.length; ++i) {
+                        collator.getRawCollationKey(threadTestData[i], key);
+                    }
+                    count += threadTestData.length;
+                }
+            } catch (InterruptedException e) {
+                // die
+            }
+        }
+    }
+
+    /**
+     * Measures sort key throughput on one frozen collator shared by
+     * increasing numbers of threads. The frozen collator should not serialize
+     * its callers, so the throughput should grow with the number of cores.
+     */
+    public void testFrozenScaling() {
+        final Collator theCollator = Collator.getInstance(new Locale("pl", "", ""));
+        theCollator.freeze();
+        int maxThreads = Runtime.getRuntime().availableProcessors();
+        long millis = isQuick() ? 200 : 1000;
+        double singleThreadRate = 0;
+        for (int numThreads = 1; numThreads <= maxThreads; numThreads *= 2) {
+            Control control = new Control();
+            KeyBenchmark[] benchmarks = new KeyBenchmark[numThreads];
+            Thread[] threads = new Thread[numThreads];
+            for (int i = 0; i < numThreads; ++i) {
+                benchmarks[i] = new KeyBenchmark(theCollator, control);
+                threads[i] = new Thread(benchmarks[i]);
+                threads[i].start();
+            }
+            long start = System.nanoTime();
+            control.start();
+            try {
+                Thread.sleep(millis);
+                control.stop();
+                for (int i = 0; i < numThreads; ++i) {
+                    threads[i].join();
+                }
+            } catch (InterruptedException e) {
+                // die
+            }
+            long elapsed = System.nanoTime() - start;
+            long total = 0;
+            for (int i = 0; i < numThreads; ++i) {
+                total += benchmarks[i].count;
+            }
+            double rate = total * 1e9 / elapsed;
+            if (numThreads == 1) {
+                singleThreadRate = rate;
+            }
+            logln(numThreads + " thread(s): " + (long)rate + " keys/s, speedup " +
+                    (singleThreadRate > 0 ? rate / singleThreadRate : 0));
+        }
+    }
 }
@@ -11,9 +11,12 @@ import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.Reader;
 import java.io.UnsupportedEncodingException;
+import java.nio.channels.Channels;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -28,6 +31,7 @@ import com.ibm.icu.dev.test.TestFmwk;
 import com.ibm.icu.impl.Utility;
 import com.ibm.icu.text.CharsetDetector;
 import com.ibm.icu.text.CharsetMatch;
+import com.ibm.icu.text.StreamingCharsetDetector;
 
 
 /**
@@ -1233,4 +1237,166 @@ public class TestCharsetDetector extends TestFmwk
     }
 
       
+
+    public void TestStreamingDetector() throws Exception {
+        // Input of up to one window gives the same results as the CharsetDetector.
+        String[] texts = {
+            "This is a small sample of some English text. Just enough to be sure that it detects correctly.",
+            "This is another small sample of some English text. Just enough to be sure that it detects correctly. " +
+                "It also includes some \u201CC1\u201D bytes.",
+            "\u0623\u0648\u0631\u0648\u0628\u0627, \u0628\u0631\u0645\u062c\u064a\u0627\u062a " +
+                "\u0627\u0644\u062d\u0627\u0633\u0648\u0628 \u002b\u0020\u0627\u0646\u062a\u0631\u0646\u064a\u062a",
+            ""
+        };
+        String[] charsets = { "ISO-8859-1", "windows-1252", "UTF-8", "UnicodeBig", "UTF-16LE" };
+        CharsetDetector det = new CharsetDetector();
+        StreamingCharsetDetector sdet = new StreamingCharsetDetector();
+        for (String text : texts) {
+            for (String charset : charsets) {
+                byte[] bytes;
+                try {
+                    bytes = text.getBytes(charset);
+                } catch (UnsupportedEncodingException e) {
+                    continue;
+                }
+                if (!new String(bytes, charset).equals(text)) {
+                    continue;  // not representable
+                }
+                CharsetMatch[] expected = det.setText(bytes).detectAll();
+                for (int chunk = 1; chunk <= 64; chunk *= 4) {
+                    sdet.reset();
+                    for (int start = 0; start < bytes.length; start += chunk) {
+                        sdet.append(bytes, start, Math.min(chunk, bytes.length - start));
+                    }
+                    CharsetMatch[] actual = sdet.detectAll();
+                    String name = charset + " text " + text.length() + " chunk " + chunk;
+                    assertEquals(name + ": number of matches", expected.length, actual.length);
+                    for (int i = 0; i < Math.min(expected.length, actual.length); ++i) {
+                        assertEquals(name + ": name[" + i + "]", expected[i].getName(), actual[i].getName());
+                        assertEquals(name + ": confidence[" + i + "]",
+                                expected[i].getConfidence(), actual[i].getConfidence());
+                    }
+                }
+            }
+        }
+
+        // A long document which is plain ASCII at the start.
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < 10000) {
+            sb.append("This is some plain English text which does not tell the encoding. ");
+        }
+        while (sb.length() < 60000) {
+            sb.append("\u0391\u03c5\u03c4\u03cc \u03b5\u03af\u03bd\u03b1\u03b9 " +
+                    "\u03b5\u03bb\u03bb\u03b7\u03bd\u03b9\u03ba\u03cc \u03ba\u03b5\u03af\u03bc\u03b5\u03bd\u03bf. ");
+        }
+        byte[] bytes = sb.toString().getBytes("UTF-8");
+        CharsetMatch m = det.setText(new ByteArrayInputStream(bytes)).detect();
+        logln("CharsetDetector on the start of the stream: " + m.getName() + " " + m.getConfidence());
+        sdet.reset().setConfidenceThreshold(101);
+        m = sdet.detectAll(Channels.newChannel(new ByteArrayInputStream(bytes)))[0];
+        assertEquals("streaming detection of the whole document", "UTF-8", m.getName());
+        assertEquals("examined length", bytes.length, sdet.getExaminedLength());
+        assertNull("streaming matches do not retain the input", m.getString());
+        // Chunks give the same result as the channel.
+        sdet.reset();
+        for (int start = 0; start < bytes.length; start += 1000) {
+            assertTrue("more input wanted", sdet.append(bytes, start, Math.min(1000, bytes.length - start)));
+        }
+        CharsetMatch m2 = sdet.detect();
+        assertEquals("chunks vs. channel: name", m.getName(), m2.getName());
+        assertEquals("chunks vs. channel: confidence", m.getConfidence(), m2.getConfidence());
+
+        // With the default threshold, UTF-8 text with non-ASCII characters near the start
+        // is detected from its first window.
+        sdet.reset().setConfidenceThreshold(StreamingCharsetDetector.DEFAULT_CONFIDENCE_THRESHOLD);
+        byte[] greek = sb.substring(10000).getBytes("UTF-8");
+        int start = 0;
+        while (start < greek.length && sdet.append(greek, start, Math.min(1000, greek.length - start))) {
+            start += 1000;
+        }
+        assertTrue("stopped early", start < greek.length);
+        m = sdet.detect();
+        assertEquals("early detection", "UTF-8", m.getName());
+        assertTrue("examined length " + sdet.getExaminedLength(), sdet.getExaminedLength() <= 8000);
+    }
+
+    public void TestShortCircuitAndParallel() throws Exception {
+        String[] texts = {
+            "This is a small sample of some English text. Just enough to be sure that it detects correctly.",
+            "\u0391\u03c5\u03c4\u03cc \u03b5\u03af\u03bd\u03b1\u03b9 \u03ad\u03bd\u03b1 " +
+                "\u03b5\u03bb\u03bb\u03b7\u03bd\u03b9\u03ba\u03cc \u03ba\u03b5\u03af\u03bc\u03b5\u03bd\u03bf " +
+                "\u03b3\u03b9\u03b1 \u03c4\u03b7\u03bd \u03b1\u03bd\u03af\u03c7\u03bd\u03b5\u03c5\u03c3\u03b7.",
+            "\u042d\u0442\u043e \u043d\u0435\u0431\u043e\u043b\u044c\u0448\u043e\u0439 " +
+                "\u0440\u0443\u0441\u0441\u043a\u0438\u0439 \u0442\u0435\u043a\u0441\u0442 " +
+                "\u0434\u043b\u044f \u043f\u0440\u043e\u0432\u0435\u0440\u043a\u0438 " +
+                "\u043a\u043e\u0434\u0438\u0440\u043e\u0432\u043a\u0438.",
+            "\u0623\u0648\u0631\u0648\u0628\u0627, \u0628\u0631\u0645\u062c\u064a\u0627\u062a " +
+                "\u0627\u0644\u062d\u0627\u0633\u0648\u0628 \u002b\u0020\u0627\u0646\u062a\u0631\u0646\u064a\u062a",
+            ""
+        };
+        String[] charsets = {
+            "ISO-8859-1", "ISO-8859-7", "windows-1251", "KOI8-R", "windows-1256",
+            "UTF-8", "UTF-16", "UTF-16LE"
+        };
+        CharsetDetector det = new CharsetDetector();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (String text : texts) {
+                for (String charset : charsets) {
+                    byte[] bytes;
+                    try {
+                        bytes = text.getBytes(charset);
+                    } catch (UnsupportedEncodingException e) {
+                        continue;
+                    }
+                    if (!new String(bytes, charset).equals(text)) {
+                        continue;  // not representable
+                    }
+                    String name = charset + " text " + text.length();
+                    det.setText(bytes);
+                    det.enableShortCircuit(false);
+                    CharsetMatch[] expected = det.detectAll();
+                    checkSameMatches(name + " parallel", expected, det.detectAll(executor));
+
+                    // Short-circuiting returns matches in the same order,
+                    // but possibly only some of them.
+                    assertFalse("short-circuit was disabled", det.enableShortCircuit(true));
+                    CharsetMatch[] actual = det.detectAll();
+                    checkSameMatches(name + " short-circuit + parallel", actual, det.detectAll(executor));
+                    int e = 0;
+                    for (CharsetMatch m : actual) {
+                        while (e < expected.length && !expected[e].getName().equals(m.getName())) {
+                            ++e;
+                        }
+                        if (e == expected.length) {
+                            errln(name + " short-circuit: unexpected or misplaced match " + m.getName());
+                            break;
+                        }
+                        assertEquals(name + " short-circuit: confidence of " + m.getName(),
+                                expected[e].getConfidence(), m.getConfidence());
+                    }
+                    if (actual.length < expected.length) {
+                        assertEquals(name + " short-circuit: decisive confidence", 100, actual[0].getConfidence());
+                    }
+                    if (charset.equals("UTF-16") && text.length() > 0) {
+                        // Java's UTF-16 encoder writes a big-endian byte order mark.
+                        assertEquals(name + " short-circuit: BOM", "UTF-16BE", actual[0].getName());
+                        assertTrue(name + " short-circuit: fewer matches", actual.length < expected.length);
+                    }
+                    det.enableShortCircuit(false);
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void checkSameMatches(String name, CharsetMatch[] expected, CharsetMatch[] actual) {
+        assertEquals(name + ": number of matches", expected.length, actual.length);
+        for (int i = 0; i < Math.min(expected.length, actual.length); ++i) {
+            assertEquals(name + ": name[" + i + "]", expected[i].getName(), actual[i].getName());
+            assertEquals(name + ": confidence[" + i + "]",
+                    expected[i].getConfidence(), actual[i].getConfidence());
+        }
+    }
 }
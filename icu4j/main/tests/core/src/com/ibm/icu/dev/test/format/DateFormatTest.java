@@ -4782,4 +4782,85 @@ public class DateFormatTest extends com.ibm.icu.dev.test.TestFmwk {
         assertTrue("ALLOW_NUMERIC after setLenient(TRUE)", fmt.getBooleanAttribute(BooleanAttribute.PARSE_ALLOW_NUMERIC));
 
     }
+
+    public void TestStringBuilderFormat() {
+        SimpleDateFormat fmt = new SimpleDateFormat("yyyy-MM-dd HH:mm", ULocale.US);
+        fmt.setTimeZone(TimeZone.getTimeZone("GMT"));
+        Date date = new Date(0);
+        StringBuilder sb = new StringBuilder("at ");
+        FieldPosition pos = new FieldPosition(DateFormat.MONTH_FIELD);
+        assertTrue("returns its argument", fmt.format(date, sb, pos) == sb);
+        assertEquals("Date into StringBuilder", "at 1970-01-01 00:00", sb.toString());
+        assertEquals("month begin", 8, pos.getBeginIndex());
+        assertEquals("month end", 10, pos.getEndIndex());
+
+        StringBuffer buf = new StringBuffer("at ");
+        FieldPosition bufPos = new FieldPosition(DateFormat.MONTH_FIELD);
+        fmt.format(date, buf, bufPos);
+        assertEquals("Date into StringBuffer", "at 1970-01-01 00:00", buf.toString());
+        assertEquals("StringBuffer month begin", 8, bufPos.getBeginIndex());
+        assertEquals("StringBuffer month end", 10, bufPos.getEndIndex());
+
+        assertEquals("null position", "1970-01-01 00:00",
+                fmt.format(date, new StringBuilder(), null).toString());
+        assertEquals("formatTo(StringWriter)", "1970-01-01 00:00",
+                fmt.formatTo(date, new java.io.StringWriter()).toString());
+
+        // A calendar of another type is converted as with StringBuffer.
+        Calendar buddhist = Calendar.getInstance(TimeZone.getTimeZone("GMT"), new ULocale("th_TH@calendar=buddhist"));
+        buddhist.setTime(date);
+        assertEquals("other calendar type", fmt.format(buddhist, new StringBuffer(), new FieldPosition(0)).toString(),
+                fmt.format(buddhist, new StringBuilder(), null).toString());
+
+        // Subclasses which override the StringBuffer subFormat are still used.
+        DateFormat chinese = DateFormat.getDateInstance(new ChineseCalendar(), DateFormat.FULL, ULocale.CHINA);
+        assertEquals("ChineseDateFormat", chinese.format(date),
+                chinese.format(date, new StringBuilder(), null).toString());
+        DateFormat relative = DateFormat.getDateInstance(DateFormat.RELATIVE_LONG, ULocale.US);
+        assertEquals("RelativeDateFormat", relative.format(date),
+                relative.format(date, new StringBuilder(), null).toString());
+    }
+
+    public void TestAsciiNumberFields() {
+        // The numeric fields of a plain SimpleDateFormat with ASCII digits are
+        // formatted without subFormat(); compare with a subclass, which uses it.
+        String[] patterns = {
+            "yyyy-MM-dd HH:mm:ss.SSS",
+            "y yy yyyyy M MM L LL d dd",
+            "k kk h hh K KK H HH m s S SS SSSS SSSSSS",
+            "D DDD F w ww W u uuuuu g A Y YY",
+            "yyyy-MM-dd'T'HH:mm:ss.SSSZ",
+        };
+        String[] locales = { "en_US", "de", "ar", "th_TH@calendar=buddhist", "he@calendar=hebrew" };
+        long[] times = {
+            0L, 1234567890123L, -1234567890123L, 946684799999L, 1435708800000L,
+            -62198755200000L, // year 0
+            -65000000000000L, // year -90
+        };
+        for (String loc : locales) {
+            ULocale locale = new ULocale(loc);
+            for (String pattern : patterns) {
+                SimpleDateFormat fmt = new SimpleDateFormat(pattern, locale);
+                SimpleDateFormat ref = new SimpleDateFormat(pattern, locale) {
+                    private static final long serialVersionUID = 1L;
+                };
+                fmt.setTimeZone(TimeZone.getTimeZone("America/Los_Angeles"));
+                ref.setTimeZone(TimeZone.getTimeZone("America/Los_Angeles"));
+                for (long time : times) {
+                    Date date = new Date(time);
+                    FieldPosition pos = new FieldPosition(DateFormat.MINUTE_FIELD);
+                    FieldPosition refPos = new FieldPosition(DateFormat.MINUTE_FIELD);
+                    String actual = fmt.format(date, new StringBuffer("> "), pos).toString();
+                    String expected = ref.format(date, new StringBuffer("> "), refPos).toString();
+                    if (!actual.equals(expected) || pos.getBeginIndex() != refPos.getBeginIndex()
+                            || pos.getEndIndex() != refPos.getEndIndex()) {
+                        errln("FAIL: " + loc + " \"" + pattern + "\" " + time + ": got " + actual
+                                + " [" + pos.getBeginIndex() + ", " + pos.getEndIndex() + "]"
+                                + " expected " + expected
+                                + " [" + refPos.getBeginIndex() + ", " + refPos.getEndIndex() + "]");
+                    }
+                }
+            }
+        }
+    }
 }
@@ -29,6 +29,7 @@ import com.ibm.icu.impl.data.ResourceReader;
 import com.ibm.icu.impl.data.TokenIterator;
 import com.ibm.icu.math.BigDecimal;
 import com.ibm.icu.math.MathContext;
+import com.ibm.icu.text.CompactDecimalFormat;
 import com.ibm.icu.text.DecimalFormat;
 import com.ibm.icu.text.DecimalFormatSymbols;
 import com.ibm.icu.text.DisplayContext;
@@ -36,6 +37,7 @@ import com.ibm.icu.text.MeasureFormat;
 import com.ibm.icu.text.NumberFormat;
 import com.ibm.icu.text.NumberFormat.NumberFormatFactory;
 import com.ibm.icu.text.NumberFormat.SimpleNumberFormatFactory;
+import com.ibm.icu.text.RuleBasedNumberFormat;
 import com.ibm.icu.util.Currency;
 import com.ibm.icu.util.CurrencyAmount;
 import com.ibm.icu.util.ULocale;
@@ -3738,4 +3740,186 @@ public class NumberFormatTest extends com.ibm.icu.dev.test.TestFmwk {
         }
     }
 
+    public void TestShortestDoubleDigits() {
+        // Formatting with more digits than a double has shows exactly the digits
+        // of the shortest representation which round-trips.
+        DecimalFormat fmt = new DecimalFormat("0.0################E0",
+                DecimalFormatSymbols.getInstance(Locale.US));
+        double[] values = {
+            1, 0.1, 0.3, 2.675, 123.456, 1e-7, 5e-324, 1.7976931348623157e308,
+            4.35, 0.1 + 0.2, 1e23, 9007199254740993.0, 2251799813685248.5, 3.0e-22
+        };
+        java.util.Random random = new java.util.Random(20150521);
+        for (int i = 0; i < values.length + 2000; ++i) {
+            double x;
+            if (i < values.length) {
+                x = values[i];
+            } else if ((i & 1) == 0) {
+                x = random.nextInt(10000000) / Math.pow(10, random.nextInt(10));
+            } else {
+                x = Double.longBitsToDouble(random.nextLong() & 0x7fefffffffffffffL);
+            }
+            if (x == 0) {
+                continue;
+            }
+            java.math.BigDecimal exact =
+                new java.math.BigDecimal(Double.toString(x)).stripTrailingZeros();
+            String digits = exact.unscaledValue().toString();
+            String expected = digits.substring(0, 1) + '.' +
+                (digits.length() > 1 ? digits.substring(1) : "0") +
+                'E' + (exact.precision() - exact.scale() - 1);
+            assertEquals("format(" + x + ")", expected, fmt.format(x));
+        }
+    }
+
+    public void TestConcurrentFormat() {
+        checkConcurrentFormat(new DecimalFormat("#,##0.0##",
+                DecimalFormatSymbols.getInstance(Locale.US)));
+    }
+
+    private void checkConcurrentFormat(final DecimalFormat shared) {
+        final int threadCount = 4;
+        final int count = 2000;
+        final String[][] expected = new String[threadCount][count];
+        DecimalFormat reference = (DecimalFormat) shared.clone();
+        for (int t = 0; t < threadCount; ++t) {
+            for (int i = 0; i < count; ++i) {
+                expected[t][i] = reference.format(t * 1000003.125 + i / 8.0);
+            }
+        }
+        final ArrayList<String> errors = new ArrayList<String>();
+        Thread[] threads = new Thread[threadCount];
+        for (int t = 0; t < threadCount; ++t) {
+            final int threadIndex = t;
+            threads[t] = new Thread() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < count; ++i) {
+                        String s = shared.format(threadIndex * 1000003.125 + i / 8.0);
+                        if (!s.equals(expected[threadIndex][i])) {
+                            synchronized (errors) {
+                                errors.add("expected " + expected[threadIndex][i] + " got " + s);
+                            }
+                        }
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        for (int t = 0; t < threadCount; ++t) {
+            try {
+                threads[t].join();
+            } catch (InterruptedException e) {
+                errln("interrupted");
+            }
+        }
+        for (String error : errors) {
+            errln("concurrent format(): " + error);
+        }
+    }
+
+    public void TestFreeze() {
+        DecimalFormat fmt = (DecimalFormat) NumberFormat.getInstance(ULocale.US);
+        assertFalse("new format is not frozen", fmt.isFrozen());
+        assertTrue("freeze() returns this", fmt.freeze() == fmt);
+        assertTrue("frozen", fmt.isFrozen());
+        try {
+            fmt.setMaximumFractionDigits(5);
+            errln("setMaximumFractionDigits() on a frozen format did not fail");
+        } catch (UnsupportedOperationException expected) {
+        }
+        try {
+            fmt.setGroupingUsed(false);
+            errln("setGroupingUsed() on a frozen format did not fail");
+        } catch (UnsupportedOperationException expected) {
+        }
+        try {
+            fmt.applyPattern("0.00");
+            errln("applyPattern() on a frozen format did not fail");
+        } catch (UnsupportedOperationException expected) {
+        }
+        assertEquals("frozen format()", "1,234.568", fmt.format(1234.5678));
+        assertEquals("frozen parse()", 1234.5, fmt.parse("1,234.5", new ParsePosition(0)).doubleValue());
+
+        DecimalFormat thawed = fmt.cloneAsThawed();
+        assertFalse("cloneAsThawed() is not frozen", thawed.isFrozen());
+        assertFalse("clone() is not frozen", ((DecimalFormat) fmt.clone()).isFrozen());
+        assertEquals("thawed equals frozen", fmt, thawed);
+        thawed.setMaximumFractionDigits(1);
+        assertEquals("thawed format()", "1,234.6", thawed.format(1234.5678));
+        assertEquals("frozen format() unchanged", "1,234.568", fmt.format(1234.5678));
+
+        // Operations which temporarily change settings work on a private copy.
+        DecimalFormat currFmt = (DecimalFormat) NumberFormat.getInstance(
+                ULocale.US, NumberFormat.CURRENCYSTYLE);
+        currFmt.setCurrency(Currency.getInstance("USD"));
+        currFmt.freeze();
+        assertEquals("frozen format(CurrencyAmount)", "\u20AC1.50",
+                currFmt.format(new CurrencyAmount(1.5, Currency.getInstance("EUR"))));
+        assertEquals("frozen currency unchanged", "$1.50", currFmt.format(1.5));
+        DecimalFormat pluralFmt = (DecimalFormat) NumberFormat.getInstance(
+                ULocale.US, NumberFormat.PLURALCURRENCYSTYLE);
+        pluralFmt.setCurrency(Currency.getInstance("USD"));
+        pluralFmt.freeze();
+        assertEquals("frozen plural currency one", "1.00 US dollars", pluralFmt.format(1));
+        assertEquals("frozen plural currency other", "2.00 US dollars", pluralFmt.format(2));
+        if (fmt.formatToCharacterIterator(1234.5).getRunLimit() <= 0) {
+            errln("frozen formatToCharacterIterator() returned no attributes");
+        }
+    }
+
+    public void TestConcurrentFrozenFormat() {
+        DecimalFormat fmt = new DecimalFormat("#,##0.0##",
+                DecimalFormatSymbols.getInstance(Locale.US));
+        checkConcurrentFormat(fmt.freeze());
+        DecimalFormat pluralFmt = (DecimalFormat) NumberFormat.getInstance(
+                ULocale.US, NumberFormat.PLURALCURRENCYSTYLE);
+        checkConcurrentFormat(pluralFmt.freeze());
+    }
+
+    public void TestStringBuilderFormat() {
+        DecimalFormat fmt = new DecimalFormat("#,##0.00",
+                DecimalFormatSymbols.getInstance(Locale.US));
+        StringBuilder sb = new StringBuilder("x=");
+        FieldPosition pos = new FieldPosition(NumberFormat.INTEGER_FIELD);
+        assertTrue("returns its argument", fmt.format(1234.5, sb, pos) == sb);
+        assertEquals("double into StringBuilder", "x=1,234.50", sb.toString());
+        assertEquals("integer begin", 2, pos.getBeginIndex());
+        assertEquals("integer end", 7, pos.getEndIndex());
+
+        StringBuffer buf = new StringBuffer("x=");
+        FieldPosition bufPos = new FieldPosition(NumberFormat.INTEGER_FIELD);
+        fmt.format(1234.5, buf, bufPos);
+        assertEquals("double into StringBuffer", "x=1,234.50", buf.toString());
+        assertEquals("StringBuffer integer begin", 2, bufPos.getBeginIndex());
+        assertEquals("StringBuffer integer end", 7, bufPos.getEndIndex());
+
+        assertEquals("long, null position", "-5.00",
+                fmt.format(-5L, new StringBuilder(), null).toString());
+        assertEquals("formatTo(StringWriter)", "-5.00",
+                fmt.formatTo(-5L, new java.io.StringWriter()).toString());
+        assertEquals("formatTo(StringBuilder)", "y0.25",
+                fmt.formatTo(0.25, new StringBuilder("y")).toString());
+
+        // Padding applies to the formatted number, not to the text before it.
+        DecimalFormat padded = new DecimalFormat("0",
+                DecimalFormatSymbols.getInstance(Locale.US));
+        padded.setFormatWidth(6);
+        padded.setPadCharacter('*');
+        assertEquals("padding into StringBuilder", "ab****12",
+                padded.format(12, new StringBuilder("ab"), null).toString());
+        assertEquals("padding into StringBuffer", "ab****12",
+                padded.format(12, new StringBuffer("ab"), new FieldPosition(0)).toString());
+
+        // Subclasses and other NumberFormats keep their own formatting.
+        NumberFormat compact = CompactDecimalFormat.getInstance(ULocale.ENGLISH,
+                CompactDecimalFormat.CompactStyle.SHORT);
+        assertEquals("compact double", compact.format(1234567.0),
+                compact.format(1234567.0, new StringBuilder(), null).toString());
+        assertEquals("compact long", compact.format(98765L),
+                compact.format(98765L, new StringBuilder(), null).toString());
+        NumberFormat spellout = new RuleBasedNumberFormat(ULocale.US, RuleBasedNumberFormat.SPELLOUT);
+        assertEquals("spellout", "three",
+                spellout.format(3L, new StringBuilder(), null).toString());
+    }
 }
@@ -1,14 +1,19 @@
 /*
  *******************************************************************************
- * Copyright (C) 1996-2012, International Business Machines Corporation and
+ * Copyright (C) 1996-2015, International Business Machines Corporation and
  * others. All Rights Reserved.
  *******************************************************************************
  */
 
 package com.ibm.icu.dev.test.normalizer;
 
+import java.io.StringReader;
+import java.nio.CharBuffer;
 import java.text.StringCharacterIterator;
+import java.util.Arrays;
 import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import com.ibm.icu.dev.test.TestFmwk;
 import com.ibm.icu.impl.Norm2AllModes;
@@ -21,6 +26,7 @@ import com.ibm.icu.lang.UProperty;
 import com.ibm.icu.text.FilteredNormalizer2;
 import com.ibm.icu.text.Normalizer;
 import com.ibm.icu.text.Normalizer2;
+import com.ibm.icu.text.StreamingNormalizer;
 import com.ibm.icu.text.UCharacterIterator;
 import com.ibm.icu.text.UTF16;
 import com.ibm.icu.text.UnicodeSet;
@@ -2711,4 +2717,158 @@ public class BasicTest extends TestFmwk {
                 "(normalizes to " + prettify(out) + ')',
                 " \u1E09", out);
     }
+
+    public void TestStreamingNormalizer() {
+        // Characters which interact in normalization, including surrogate pairs
+        // and unpaired surrogates, so that chunk splits fall in interesting places.
+        String[] pieces = {
+            "a", "A", "\u0301", "\u0327", "\u00C7", "\u1E08", "\u00A0", "\u1100", "\u1161",
+            "\u11A8", "\uAC00", "\u0F73", "\u0F71", "\u0F72", "\u0344", "\u00DF", " ",
+            "\uD834\uDD5E", "\uD834\uDD65", "\uD834\uDD6E", "\uD834", "\uDD65", "\u30AB\u3099",
+            "\uFB2C", "\u05B7", "\u05BC", "\uD834\uDD5E",
+        };
+        Normalizer2[] norms = {
+            Normalizer2.getNFCInstance(), Normalizer2.getNFDInstance(),
+            Normalizer2.getNFKCInstance(), Normalizer2.getNFKDInstance(),
+            Normalizer2.getNFKCCasefoldInstance(), Norm2AllModes.getFCDNormalizer2(),
+        };
+        String[] names = { "NFC", "NFD", "NFKC", "NFKD", "NFKC_CF", "FCD" };
+        Random random = new Random(20150701);
+        for (int iter = 0; iter < 500; ++iter) {
+            StringBuilder input = new StringBuilder();
+            int count = random.nextInt(60);
+            for (int i = 0; i < count; ++i) {
+                input.append(pieces[random.nextInt(pieces.length)]);
+            }
+            String in = input.toString();
+            for (int n = 0; n < norms.length; ++n) {
+                String expected = norms[n].normalize(in);
+                StringBuilder out = new StringBuilder();
+                StreamingNormalizer sn = new StreamingNormalizer(norms[n], out);
+                for (int start = 0; start < in.length();) {
+                    int limit = Math.min(in.length(), start + 1 + random.nextInt(6));
+                    if ((start & 1) == 0) {
+                        sn.append(in.subSequence(start, limit));
+                    } else {
+                        sn.append(CharBuffer.wrap(in.toCharArray(), start, limit - start));
+                    }
+                    start = limit;
+                }
+                sn.finish();
+                if (!expected.equals(out.toString())) {
+                    errln(names[n] + " streaming of " + prettify(in) + " = " +
+                          prettify(out.toString()) + " but expected " + prettify(expected));
+                }
+                out.setLength(0);
+                sn.normalize(new StringReader(in));
+                assertEquals(names[n] + " from Reader", expected, out.toString());
+            }
+        }
+
+        // Only the text after the last boundary is kept.
+        StringBuilder out = new StringBuilder();
+        StreamingNormalizer sn = new StreamingNormalizer(Normalizer2.getNFCInstance(), out);
+        for (int i = 0; i < 1000; ++i) {
+            sn.append("xyz A\u0301");
+            if (sn.getPendingLength() > 2) {
+                errln("StreamingNormalizer keeps " + sn.getPendingLength() + " chars");
+                break;
+            }
+        }
+        sn.finish();
+        assertEquals("streamed length", 1000 * 5, out.length());
+    }
+
+    public void TestArrayQuickCheck() {
+        String[] pieces = {
+            "abc", "Hello, world! ", "A", "\u00E9", "\u00DF", "\u00A0", "\u0301", "\u0327",
+            "\u00C7", "\u1E08", "\u1100", "\u1161", "\uAC00", "\u0F73", "\u0344",
+            "\uD834\uDD5E", "\uD834\uDD65", "\uD834", "\uDD65", "\u30AB\u3099", "\uFB2C",
+            "\u02DC", "\u0300",
+        };
+        Normalizer2[] norms = {
+            Normalizer2.getNFCInstance(), Normalizer2.getNFDInstance(),
+            Normalizer2.getNFKCInstance(), Normalizer2.getNFKDInstance(),
+            Normalizer2.getNFKCCasefoldInstance(), Norm2AllModes.getFCDNormalizer2(),
+            Normalizer2.getInstance(null, "nfc", Normalizer2.Mode.COMPOSE_CONTIGUOUS),
+            new FilteredNormalizer2(Normalizer2.getNFCInstance(), new UnicodeSet("[^\u00C7]")),
+        };
+        String[] names = { "NFC", "NFD", "NFKC", "NFKD", "NFKC_CF", "FCD", "FCC", "filtered NFC" };
+        Random random = new Random(20150702);
+        for (int iter = 0; iter < 1000; ++iter) {
+            StringBuilder sb = new StringBuilder("\u0301");  // outside of the checked text
+            int start = sb.length();
+            int count = random.nextInt(12);
+            for (int i = 0; i < count; ++i) {
+                sb.append(pieces[random.nextInt(pieces.length)]);
+            }
+            String text = sb.substring(start);
+            sb.append("\u0308");
+            char[] array = sb.toString().toCharArray();
+            for (int n = 0; n < norms.length; ++n) {
+                Normalizer2 norm2 = norms[n];
+                int span = norm2.spanQuickCheckYes(text);
+                boolean isNorm = norm2.isNormalized(text);
+                if (norm2.spanQuickCheckYes(array, start, text.length()) != start + span) {
+                    errln(names[n] + ".spanQuickCheckYes(char[]) of " + prettify(text) +
+                          " != " + span);
+                }
+                if (norm2.isNormalized(array, start, text.length()) != isNorm) {
+                    errln(names[n] + ".isNormalized(char[]) of " + prettify(text) + " != " + isNorm);
+                }
+                CharBuffer buffer = CharBuffer.wrap(array, start, text.length());
+                if (norm2.spanQuickCheckYes(buffer) != span ||
+                        norm2.isNormalized(buffer) != isNorm ||
+                        norm2.spanQuickCheckYes(buffer.asReadOnlyBuffer()) != span ||
+                        norm2.isNormalized(buffer.asReadOnlyBuffer()) != isNorm) {
+                    errln(names[n] + " CharBuffer quick check of " + prettify(text));
+                }
+                assertEquals("buffer position", start, buffer.position());
+            }
+        }
+        try {
+            Normalizer2.getNFCInstance().isNormalized(new char[3], 2, 2);
+            errln("isNormalized(char[]) did not check its bounds");
+        } catch (IndexOutOfBoundsException expected) {
+        }
+    }
+
+    public void TestParallelNormalize() {
+        String[] pieces = {
+            "abc ", "A", "\u0301", "\u0327", "\u00C7", "\u1E08", "\u00A0", "\u1100", "\u1161",
+            "\u11A8", "\uAC00", "\u0F73", "\u0344", "\u00DF", "\uD834\uDD5E", "\uD834\uDD65",
+            "\u30AB\u3099", "\uFB2C", "\u05B7",
+        };
+        Normalizer2[] norms = {
+            Normalizer2.getNFCInstance(), Normalizer2.getNFDInstance(),
+            Normalizer2.getNFKCCasefoldInstance(), Norm2AllModes.getFCDNormalizer2(),
+        };
+        String[] names = { "NFC", "NFD", "NFKC_CF", "FCD" };
+        Random random = new Random(20150703);
+        StringBuilder input = new StringBuilder();
+        while (input.length() < 200000) {
+            input.append(pieces[random.nextInt(pieces.length)]);
+        }
+        // A long stretch without boundaries, around where the text is split in half.
+        char[] marks = new char[4000];
+        Arrays.fill(marks, '\u0301');
+        input.insert(input.length() / 2 - 1000, marks);
+        String in = input.toString();
+        char[] array = ("xyz" + in).toCharArray();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int n = 0; n < norms.length; ++n) {
+                String expected = norms[n].normalize(in);
+                StringBuilder dest = new StringBuilder("old contents");
+                norms[n].normalize(in, dest, executor, 4);
+                assertTrue(names[n] + " parallel normalize()", expected.equals(dest.toString()));
+                norms[n].normalize(array, 3, in.length(), dest, executor, 7);
+                assertTrue(names[n] + " parallel normalize(char[])", expected.equals(dest.toString()));
+                norms[n].normalize(in, dest, null, 4);
+                assertTrue(names[n] + " normalize() without executor", expected.equals(dest.toString()));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
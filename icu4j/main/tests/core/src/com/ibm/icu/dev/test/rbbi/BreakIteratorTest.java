@@ -1,6 +1,6 @@
 /*
  *******************************************************************************
- * Copyright (C) 1996-2014, International Business Machines Corporation and    *
+ * Copyright (C) 1996-2015, International Business Machines Corporation and    *
  * others. All Rights Reserved.                                                *
  *******************************************************************************
  */
@@ -908,6 +908,66 @@ public class BreakIteratorTest extends TestFmwk
         } catch (NullPointerException e) { /* OK */ }
     }
     
+    /*
+     * Instances for several locales, as from a multi-locale indexer,
+     * are independent of each other and give the same boundaries when
+     * they are created on several threads concurrently.
+     */
+    public void TestMultiLocaleInstances() throws InterruptedException {
+        final ULocale[] locales = {
+            ULocale.ENGLISH, new ULocale("th"), ULocale.JAPANESE, ULocale.GERMAN, new ULocale("en@lb=strict")
+        };
+        final String text = "The quick (\"brown\") fox can't jump 32.3 feet, right? " +
+            "\u0e01\u0e23\u0e38\u0e07\u0e40\u0e17\u0e1e\u0e21\u0e2b\u0e32\u0e19\u0e04\u0e23 " +
+            "\u65e5\u672c\u8a9e\u306e\u30c6\u30ad\u30b9\u30c8\u3002 Stra\u00dfe-Bahn.";
+        final int[] kinds = { BreakIterator.KIND_WORD, BreakIterator.KIND_LINE, BreakIterator.KIND_SENTENCE };
+        final List<List<Integer>> expected = new ArrayList<List<Integer>>();
+        for (ULocale locale : locales) {
+            for (int kind : kinds) {
+                BreakIterator bi = BreakIterator.getBreakInstance(locale, kind);
+                BreakIterator bi2 = BreakIterator.getBreakInstance(locale, kind);
+                assertTrue("new instance per call", bi != bi2);
+                bi.setText(text);
+                assertEquals("other instance unaffected by setText()", 0, bi2.getText().getEndIndex());
+                expected.add(getBoundaries(bi));
+            }
+        }
+        final List<String> failures = new ArrayList<String>();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; ++t) {
+            final int offset = t;
+            threads[t] = new Thread() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < 50; ++i) {
+                        int index = (i + offset) % expected.size();
+                        ULocale locale = locales[index / kinds.length];
+                        BreakIterator bi = BreakIterator.getBreakInstance(locale, kinds[index % kinds.length]);
+                        bi.setText(text);
+                        if (!expected.get(index).equals(getBoundaries(bi))) {
+                            synchronized (failures) {
+                                failures.add(locale + " kind " + kinds[index % kinds.length]);
+                            }
+                        }
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals("boundaries from concurrently created instances", "[]", failures.toString());
+    }
+
+    private static List<Integer> getBoundaries(BreakIterator bi) {
+        List<Integer> boundaries = new ArrayList<Integer>();
+        for (int b = bi.first(); b != BreakIterator.DONE; b = bi.next()) {
+            boundaries.add(b);
+        }
+        return boundaries;
+    }
+
     /**
      * Test FilteredBreakIteratorBuilder newly introduced
      */
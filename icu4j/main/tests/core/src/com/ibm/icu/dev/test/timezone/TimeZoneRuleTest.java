@@ -1,6 +1,6 @@
 /*
  *******************************************************************************
- * Copyright (C) 2007-2011, International Business Machines Corporation and    *
+ * Copyright (C) 2007-2015, International Business Machines Corporation and    *
  * others. All Rights Reserved.                                                *
  *******************************************************************************
  */
@@ -13,7 +13,11 @@ import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
+import java.util.Random;
 
 import com.ibm.icu.dev.test.TestFmwk;
 import com.ibm.icu.util.AnnualTimeZoneRule;
@@ -1826,4 +1830,49 @@ public class TimeZoneRuleTest extends TestFmwk {
             errln("Fail: Exception thrown - " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    /*
+     * Checks the offsets around all historical transitions, looked up in
+     * descending, ascending and random order.
+     */
+    public void TestHistoricalOffsetLookup() {
+        String[] ids = {"America/New_York", "Europe/London", "Asia/Kolkata", "Australia/Lord_Howe"};
+        int[] offsets = new int[2];
+        for (String id : ids) {
+            BasicTimeZone tz = (BasicTimeZone)TimeZone.getTimeZone(id, TimeZone.TIMEZONE_ICU);
+            List<TimeZoneTransition> transitions = new ArrayList<TimeZoneTransition>();
+            long end = getUTCMillis(2040, Calendar.JANUARY, 1);
+            TimeZoneTransition tzt = tz.getNextTransition(Long.MIN_VALUE / 2, false);
+            while (tzt != null && tzt.getTime() < end) {
+                transitions.add(tzt);
+                tzt = tz.getNextTransition(tzt.getTime(), false);
+            }
+            if (transitions.size() < 2) {
+                errln("Too few transitions in " + id);
+                continue;
+            }
+            List<TimeZoneTransition> ordered = new ArrayList<TimeZoneTransition>(transitions);
+            Collections.reverse(ordered);
+            for (int pass = 0; pass < 3; ++pass) {
+                if (pass == 1) {
+                    Collections.reverse(ordered);
+                } else if (pass == 2) {
+                    Collections.shuffle(ordered, new Random(id.hashCode()));
+                }
+                for (TimeZoneTransition t : ordered) {
+                    long time = t.getTime();
+                    tz.getOffset(time, false, offsets);
+                    if (offsets[0] != t.getTo().getRawOffset() || offsets[1] != t.getTo().getDSTSavings()) {
+                        errln("Bad offsets at " + time + " in " + id + " pass " + pass +
+                                ": " + offsets[0] + "/" + offsets[1] + ", expected " + t.getTo());
+                    }
+                    tz.getOffset(time - 1, false, offsets);
+                    if (offsets[0] != t.getFrom().getRawOffset() || offsets[1] != t.getFrom().getDSTSavings()) {
+                        errln("Bad offsets before " + time + " in " + id + " pass " + pass +
+                                ": " + offsets[0] + "/" + offsets[1] + ", expected " + t.getFrom());
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ *******************************************************************************
+ * Copyright (C) 2015, International Business Machines Corporation and
+ * others. All Rights Reserved.
+ *******************************************************************************
+ */
+package com.ibm.icu.dev.test.util;
+
+import com.ibm.icu.dev.test.TestFmwk;
+import com.ibm.icu.impl.CacheMetrics;
+import com.ibm.icu.impl.LRUCache;
+import com.ibm.icu.impl.LRUMap;
+import com.ibm.icu.impl.SoftCache;
+
+public class CacheTest extends TestFmwk {
+    public static void main(String[] args) throws Exception {
+        new CacheTest().run(args);
+    }
+
+    private static final class CountingCache extends LRUCache<Integer, String, String> {
+        int created;
+        int evicted;
+
+        CountingCache(int maxSize) {
+            super(maxSize);
+        }
+
+        @Override
+        protected String createInstance(Integer key, String data) {
+            ++created;
+            return data == null ? null : data + key;
+        }
+
+        @Override
+        protected void onEviction(Integer key, String value) {
+            ++evicted;
+        }
+    }
+
+    public void TestLRUCacheGetInstance() {
+        CountingCache cache = new CountingCache(16);
+        assertEquals("create", "v1", cache.getInstance(1, "v"));
+        assertEquals("cached, data ignored", "v1", cache.getInstance(1, "w"));
+        assertEquals("createInstance() calls", 1, cache.created);
+        assertEquals("null instance", null, cache.getInstance(2, null));
+        assertEquals("null instance is not cached", null, cache.get(2));
+        assertEquals("size", 1, cache.size());
+        cache.clear();
+        assertEquals("size after clear()", 0, cache.size());
+        assertEquals("re-create after clear()", "w1", cache.getInstance(1, "w"));
+    }
+
+    public void TestLRUCacheEviction() {
+        CountingCache cache = new CountingCache(16);
+        for (int i = 0; i < 16; ++i) {
+            cache.getInstance(i, "v");
+        }
+        assertEquals("full", 16, cache.size());
+        assertEquals("no eviction yet", 0, cache.evicted);
+        // Touch the first half so that the second half is least recently used.
+        for (int i = 0; i < 8; ++i) {
+            cache.getInstance(i, "v");
+        }
+        cache.getInstance(100, "v");
+        if (cache.size() > cache.getMaxSize()) {
+            errln("size " + cache.size() + " exceeds the maximum " + cache.getMaxSize());
+        }
+        assertEquals("evicted + remaining", 17, cache.evicted + cache.size());
+        for (int i = 0; i < 8; ++i) {
+            if (cache.get(i) == null) {
+                errln("recently used entry " + i + " was evicted");
+            }
+        }
+        if (cache.get(100) == null) {
+            errln("newest entry was evicted");
+        }
+    }
+
+    public void TestLRUCachePut() {
+        CountingCache cache = new CountingCache(4);
+        cache.put(1, "a");
+        cache.put(1, "b");
+        assertEquals("put() replaces", "b", cache.get(1));
+        assertEquals("putIfAbsent() keeps", "b", cache.putIfAbsent(1, "c"));
+        cache.put(1, null);
+        assertEquals("put(null) removes", null, cache.get(1));
+        for (int i = 0; i < 100; ++i) {
+            cache.put(i, "x");
+        }
+        if (cache.size() > 4) {
+            errln("size " + cache.size() + " exceeds the maximum 4");
+        }
+        try {
+            new CountingCache(0);
+            errln("LRUCache(0) did not fail as expected");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    public void TestLRUMap() {
+        final int[] evicted = new int[1];
+        LRUMap<Integer, String> map = new LRUMap<Integer, String>(8) {
+            @Override
+            protected void onEviction(Integer key, String value) {
+                ++evicted[0];
+            }
+        };
+        for (int i = 0; i < 8; ++i) {
+            map.put(i, "v" + i);
+        }
+        assertEquals("full", 8, map.size());
+        assertEquals("no eviction yet", 0, evicted[0]);
+        map.get(0);
+        assertEquals("putIfAbsent() adds", "w8", map.putIfAbsent(8, "w8"));
+        if (map.size() > map.getMaxSize()) {
+            errln("size " + map.size() + " exceeds the maximum " + map.getMaxSize());
+        }
+        assertEquals("evicted + remaining", 9, evicted[0] + map.size());
+        assertEquals("recently used entry is kept", "v0", map.get(0));
+        assertEquals("least recently used entry is evicted", null, map.get(1));
+        try {
+            new LRUMap<Integer, String>(0);
+            errln("LRUMap(0) did not fail as expected");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    public void TestCacheMetrics() {
+        CacheMetrics metrics = CacheMetrics.getInstance("CacheTest.TestCacheMetrics");
+        assertTrue("registry returns the same counters",
+                metrics == CacheMetrics.getInstance("CacheTest.TestCacheMetrics"));
+        assertTrue("registered", CacheMetrics.getAll().get(metrics.getName()) == metrics);
+        metrics.reset();
+        metrics.recordHit();
+        metrics.recordHit();
+        metrics.recordMiss();
+        metrics.recordEviction();
+        metrics.recordLoad(3000);
+        metrics.recordLoad(5000);
+        assertEquals("hits", 2, metrics.getHitCount());
+        assertEquals("misses", 1, metrics.getMissCount());
+        assertEquals("evictions", 1, metrics.getEvictionCount());
+        assertEquals("loads", 2, metrics.getLoadCount());
+        assertEquals("load time", 8000, metrics.getTotalLoadNanos());
+        metrics.reset();
+        assertEquals("hits after reset()", 0, metrics.getHitCount());
+        assertEquals("load time after reset()", 0, metrics.getTotalLoadNanos());
+    }
+
+    private static final class MetricsTestCache extends SoftCache<Integer, String, String> {
+        @Override
+        protected String createInstance(Integer key, String data) {
+            return data + key;
+        }
+    }
+
+    public void TestCacheMetricsRecording() {
+        MetricsTestCache cache = new MetricsTestCache();
+        cache.getInstance(1, "v");
+        cache.getInstance(1, "v");
+        cache.getInstance(2, "v");
+        CacheMetrics metrics = CacheMetrics.getAll().get(MetricsTestCache.class.getName());
+        if (!CacheMetrics.ENABLED) {
+            assertEquals("no counters while disabled", null, metrics);
+            logln("cache metrics are disabled; run with -Dcom.ibm.icu.impl.CacheMetrics.enabled=true");
+            return;
+        }
+        assertEquals("hits", 1, metrics.getHitCount());
+        assertEquals("misses", 2, metrics.getMissCount());
+        assertEquals("loads", 2, metrics.getLoadCount());
+    }
+}
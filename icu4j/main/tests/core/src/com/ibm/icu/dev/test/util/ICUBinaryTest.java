@@ -1,14 +1,21 @@
 /*
  *******************************************************************************
- * Copyright (C) 1996-2014, International Business Machines Corporation and
+ * Copyright (C) 1996-2015, International Business Machines Corporation and
  * others. All Rights Reserved.
  *******************************************************************************
  */
 
 package com.ibm.icu.dev.test.util;
 
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.net.URL;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
 
 import com.ibm.icu.dev.test.TestFmwk;
 import com.ibm.icu.impl.ICUBinary;
@@ -112,4 +119,86 @@ public final class ICUBinaryTest extends TestFmwk
             logln("PASS: ICUBinary.readHeader with invalid version number failed as expected");
         }
     }
+
+    /**
+     * Extracts a .dat package from a jar file, and reuses the extracted file.
+     */
+    public void TestExtractDataPackage() throws IOException {
+        byte[] content = new byte[100000];
+        for (int i = 0; i < content.length; ++i) {
+            content[i] = (byte)(i * 7);
+        }
+        File dir = File.createTempFile("icu4j-extract", "");
+        dir.delete();
+        File jar = File.createTempFile("icu4j-extract", ".jar");
+        File extracted = null;
+        try {
+            JarOutputStream out = new JarOutputStream(new FileOutputStream(jar));
+            try {
+                out.putNextEntry(new JarEntry("pkg/test.dat"));
+                out.write(content);
+                out.closeEntry();
+            } finally {
+                out.close();
+            }
+            URL url = new URL("jar:" + jar.toURI().toURL() + "!/pkg/test.dat");
+            extracted = ICUBinary.extractDataPackage(url, dir);
+            assertTrue("extracted into the folder", extracted.getParentFile().equals(dir));
+            assertTrue("extracted file name", extracted.getName().startsWith("icu4j-test-"));
+            byte[] actual = new byte[(int)extracted.length()];
+            FileInputStream in = new FileInputStream(extracted);
+            try {
+                int length = 0;
+                while (length < actual.length) {
+                    length += in.read(actual, length, actual.length - length);
+                }
+            } finally {
+                in.close();
+            }
+            assertTrue("extracted contents", Arrays.equals(content, actual));
+
+            File marker = new File(extracted.getPath() + ".verified");
+            assertTrue("verified marker", marker.isFile());
+
+            // The second time, the existing file is used as is.
+            // Its modification time no longer matches the marker, so its contents
+            // are verified again.
+            long lastModified = extracted.lastModified() - 10000;
+            extracted.setLastModified(lastModified);
+            File again = ICUBinary.extractDataPackage(url, dir);
+            assertEquals("same file", extracted, again);
+            assertEquals("not rewritten", lastModified, again.lastModified());
+            assertEquals("only the file and its marker", 2, dir.list().length);
+
+            // A file with the same name and length but other contents is replaced.
+            FileOutputStream planted = new FileOutputStream(extracted);
+            try {
+                planted.write(new byte[content.length]);
+            } finally {
+                planted.close();
+            }
+            again = ICUBinary.extractDataPackage(url, dir);
+            assertEquals("same file name", extracted, again);
+            in = new FileInputStream(again);
+            try {
+                int length = 0;
+                while (length < actual.length) {
+                    length += in.read(actual, length, actual.length - length);
+                }
+            } finally {
+                in.close();
+            }
+            assertTrue("re-extracted contents", Arrays.equals(content, actual));
+            assertEquals("only the file and its marker", 2, dir.list().length);
+        } finally {
+            File[] files = dir.listFiles();
+            if (files != null) {
+                for (File f : files) {
+                    f.delete();
+                }
+            }
+            dir.delete();
+            jar.delete();
+        }
+    }
 }
@@ -12,7 +12,9 @@ import java.net.JarURLConnection;
 import java.net.URL;
 import java.net.URLConnection;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.List;
 import java.util.Locale;
 import java.util.MissingResourceException;
 import java.util.NoSuchElementException;
@@ -21,6 +23,7 @@ import java.util.TreeSet;
 import java.util.jar.JarEntry;
 
 import com.ibm.icu.dev.test.TestFmwk;
+import com.ibm.icu.impl.ICUData;
 import com.ibm.icu.impl.ICUResourceBundle;
 import com.ibm.icu.impl.Utility;
 import com.ibm.icu.text.BreakIterator;
@@ -1165,4 +1168,59 @@ public final class ICUResourceBundleTest extends TestFmwk {
         } catch (NoSuchElementException ex) {
         }
     }
+
+    /*
+     * Bundles for many locales are loaded on several threads at once,
+     * as when formatters for different locales are built at service startup.
+     * All threads get the same bundle for a locale,
+     * and each bundle has its whole fallback chain down to root.
+     */
+    @SuppressWarnings("deprecation")
+    public void TestConcurrentInstantiation() throws InterruptedException {
+        final ULocale[] locales = ULocale.getAvailableLocales();
+        final int threadCount = 4;
+        final ICUResourceBundle[][] bundles = new ICUResourceBundle[threadCount][locales.length];
+        final List<Throwable> failures = new ArrayList<Throwable>();
+        UResourceBundle.resetBundleCache();
+        Thread[] threads = new Thread[threadCount];
+        for (int t = 0; t < threadCount; ++t) {
+            final int thread = t;
+            threads[t] = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        for (int i = 0; i < locales.length; ++i) {
+                            // Different threads start with different locales.
+                            int index = (i + thread * locales.length / threadCount) % locales.length;
+                            bundles[thread][index] = (ICUResourceBundle)UResourceBundle.getBundleInstance(
+                                    ICUData.ICU_REGION_BASE_NAME, locales[index]);
+                        }
+                    } catch (Throwable e) {
+                        synchronized (failures) {
+                            failures.add(e);
+                        }
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals("exceptions from loading threads", "[]", failures.toString());
+        for (int i = 0; i < locales.length; ++i) {
+            ICUResourceBundle bundle = bundles[0][i];
+            for (int t = 1; t < threadCount; ++t) {
+                if (bundles[t][i] != bundle) {
+                    errln("different bundles for " + locales[i] + " on threads 0 and " + t);
+                }
+            }
+            while (bundle.getParent() != null) {
+                bundle = (ICUResourceBundle)bundle.getParent();
+            }
+            if (!bundle.getULocale().getName().equals("root")) {
+                errln("fallback chain for " + locales[i] + " ends at " + bundle.getULocale());
+            }
+        }
+    }
 }
@@ -0,0 +1,78 @@
+/*
+ *******************************************************************************
+ * Copyright (C) 2015, International Business Machines Corporation and
+ * others. All Rights Reserved.
+ *******************************************************************************
+ */
+package com.ibm.icu.dev.test.util;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.ibm.icu.dev.test.TestFmwk;
+import com.ibm.icu.text.TimeZoneNames;
+import com.ibm.icu.text.TimeZoneNames.NameType;
+import com.ibm.icu.util.LocaleDataPreloader;
+import com.ibm.icu.util.LocaleDataPreloader.Kind;
+import com.ibm.icu.util.LocaleDataPreloader.Result;
+import com.ibm.icu.util.ULocale;
+
+public class LocaleDataPreloaderTest extends TestFmwk {
+    public static void main(String[] args) throws Exception {
+        new LocaleDataPreloaderTest().run(args);
+    }
+
+    public void TestPreload() {
+        List<ULocale> locales = Arrays.asList(ULocale.JAPAN, new ULocale("de_CH"), new ULocale("th"));
+        EnumSet<Kind> kinds = EnumSet.allOf(Kind.class);
+        checkResults(LocaleDataPreloader.preload(locales, kinds, null), locales, kinds);
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            checkResults(LocaleDataPreloader.preload(locales, kinds, executor), locales, kinds);
+        } finally {
+            executor.shutdown();
+        }
+
+        List<Result> results = LocaleDataPreloader.preload(
+                locales, EnumSet.of(Kind.PLURAL_RULES, Kind.NUMBER), null);
+        assertEquals("one result per locale and kind", 6, results.size());
+        assertEquals("kinds in enum order", Kind.NUMBER, results.get(0).getKind());
+        assertEquals("kinds in enum order", Kind.PLURAL_RULES, results.get(1).getKind());
+    }
+
+    private void checkResults(List<Result> results, List<ULocale> locales, EnumSet<Kind> kinds) {
+        assertEquals("one result per locale and kind", locales.size() * kinds.size(), results.size());
+        int i = 0;
+        for (ULocale locale : locales) {
+            for (Kind kind : kinds) {
+                Result result = results.get(i++);
+                logln(result.toString());
+                assertEquals("locale", locale, result.getLocale());
+                assertEquals("kind", kind, result.getKind());
+                assertTrue("non-negative time", result.getNanos() >= 0);
+                assertTrue("toString() contains the kind", result.toString().contains(kind.name()));
+                if (kind == Kind.COLLATION) {
+                    // The collation classes need not be on the class path of the core tests.
+                    assertTrue("loaded or failed with a reason",
+                            result.isLoaded() != (result.getError() != null));
+                } else if (!result.isLoaded()) {
+                    errln(result.toString());
+                }
+            }
+        }
+    }
+
+    public void TestLoadAllDisplayNames() {
+        TimeZoneNames names = TimeZoneNames.getInstance(ULocale.GERMANY);
+        names.loadAllDisplayNames();
+        names.loadAllDisplayNames();  // no-op
+        assertEquals("loaded name", "Mitteleurop\u00e4ische Normalzeit",
+                names.getDisplayName("Europe/Berlin", NameType.LONG_STANDARD, 0));
+        assertFalse("find() after loadAllDisplayNames()",
+                names.find("Mitteleurop\u00e4ische Sommerzeit", 0, null).isEmpty());
+    }
+}